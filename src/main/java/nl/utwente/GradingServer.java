@@ -0,0 +1,374 @@
+package nl.utwente;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import nl.utwente.processing.build.BuildExecutor;
+import nl.utwente.processing.pmd.PMDRunnerPool;
+import nl.utwente.processing.pmd.ResultCache;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Long-running grading server on the loopback interface, so the JVM, the rule sets and the JIT-compiled rules stay
+ * warm between submissions. Endpoints:
+ * <ul>
+ *     <li>{@code POST /analyse?renderer=<type>&path=<sketch folder>} analyses a sketch folder on this machine</li>
+ *     <li>{@code POST /analyse?renderer=<type>} with a zip file as body analyses the sketch in the zip</li>
+ *     <li>{@code GET /health} returns "ok" while the server is running</li>
+ *     <li>{@code GET /stats} returns request counters and timings as JSON</li>
+ * </ul>
+ * At most one request per worker is analysed at the same time, further requests wait in a queue of limited size.
+ * Requests that don't fit in the queue are rejected with 503, so callers can retry later. Uploads are limited in
+ * size, in the number of files and in their extracted size, larger ones are rejected with 413. The cohort renderer
+ * summarises a whole batch, so it is rejected with 400, as it is with --project.
+ */
+public class GradingServer {
+
+    /** Largest zip file that can be uploaded */
+    static final long MAX_UPLOAD_BYTES = 20 * 1024 * 1024;
+    /** Largest total size of the files in an uploaded zip, so a zip bomb can't fill the disk */
+    static final long MAX_EXTRACTED_BYTES = 50 * 1024 * 1024;
+    /** Most files and folders in an uploaded zip */
+    static final int MAX_ENTRIES = 1000;
+
+    private final PMDRunnerPool pool;
+    private final ResultCache cache;
+    private final BuildExecutor builds;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final Semaphore admitted;
+    private final int queueSize;
+    private final long startTime = System.currentTimeMillis();
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalAnalysisMillis = new AtomicLong();
+
+    /**
+     * @param cache The result cache of the runners, for the statistics, or null when results are not cached
+     * @param builds The executor the runners build sketches on, for the statistics
+     */
+    public GradingServer(PMDRunnerPool pool, ResultCache cache, BuildExecutor builds, int port, int queueSize)
+            throws IOException {
+        if (queueSize < 0) {
+            throw new IllegalArgumentException("Queue size must not be negative, got " + queueSize);
+        }
+        this.pool = pool;
+        this.cache = cache;
+        this.builds = builds;
+        this.queueSize = queueSize;
+        this.admitted = new Semaphore(pool.getSize() + queueSize);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        // Request threads only wait for the workers, their number is bounded by the admission limit
+        this.requestExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(requestExecutor);
+        server.createContext("/analyse", this::handleAnalyse);
+        server.createContext("/health", this::handleHealth);
+        server.createContext("/stats", this::handleStats);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /** Stop accepting requests, give running requests a moment to finish */
+    public void stop() {
+        server.stop(5);
+        requestExecutor.shutdown();
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        send(exchange, 200, "text/plain", "ok\n");
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        long done = completed.get();
+        int inFlight = pool.getSize() + queueSize - admitted.availablePermits();
+        int analysing = running.get();
+        var buildCache = builds.getCache();
+        String json = "{\n"
+                + "  \"workers\": " + pool.getSize() + ",\n"
+                + "  \"queueSize\": " + queueSize + ",\n"
+                + "  \"running\": " + analysing + ",\n"
+                + "  \"queued\": " + Math.max(0, inFlight - analysing) + ",\n"
+                + "  \"completed\": " + done + ",\n"
+                + "  \"failed\": " + failed.get() + ",\n"
+                + "  \"rejected\": " + rejected.get() + ",\n"
+                + "  \"averageAnalysisMillis\": " + (done == 0 ? 0 : totalAnalysisMillis.get() / done) + ",\n"
+                + (cache == null ? "" : "  \"cacheHits\": " + cache.getHits() + ",\n"
+                        + "  \"cacheMisses\": " + cache.getMisses() + ",\n"
+                        + "  \"cacheEvictions\": " + cache.getEvictions() + ",\n"
+                        + "  \"cacheEntries\": " + cache.getEntryCount() + ",\n"
+                        + "  \"cacheBytes\": " + cache.getSizeBytes() + ",\n")
+                + "  \"buildWorkers\": " + builds.getSize() + ",\n"
+                + "  \"buildsRunning\": " + builds.getRunning() + ",\n"
+                + "  \"buildsQueued\": " + builds.getQueued() + ",\n"
+                + "  \"builds\": " + builds.getBuilds() + ",\n"
+                + "  \"buildTimeouts\": " + builds.getTimeouts() + ",\n"
+                + "  \"buildsAbandoned\": " + builds.getAbandoned() + ",\n"
+                + "  \"averageBuildQueueMillis\": " + average(builds.getTotalQueueMillis(), builds.getBuilds()) + ",\n"
+                + "  \"maxBuildQueueMillis\": " + builds.getMaxQueueMillis() + ",\n"
+                + "  \"averageBuildMillis\": " + average(builds.getTotalBuildMillis(), builds.getBuilds()) + ",\n"
+                + "  \"maxBuildMillis\": " + builds.getMaxBuildMillis() + ",\n"
+                + (buildCache == null ? "" : "  \"buildCacheHits\": " + buildCache.getHits() + ",\n"
+                        + "  \"buildCacheMisses\": " + buildCache.getMisses() + ",\n"
+                        + "  \"buildCacheEvictions\": " + buildCache.getEvictions() + ",\n"
+                        + "  \"buildCacheEntries\": " + buildCache.getEntryCount() + ",\n"
+                        + "  \"buildCacheBytes\": " + buildCache.getSizeBytes() + ",\n")
+                + "  \"uptimeMillis\": " + (System.currentTimeMillis() - startTime) + "\n"
+                + "}\n";
+        send(exchange, 200, "application/json", json);
+    }
+
+    private static long average(long total, long count) {
+        return count == 0 ? 0 : total / count;
+    }
+
+    private void handleAnalyse(HttpExchange exchange) throws IOException {
+        if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+            send(exchange, 405, "text/plain", "Use POST to analyse a sketch\n");
+            return;
+        }
+        if (!admitted.tryAcquire()) {
+            rejected.incrementAndGet();
+            exchange.getResponseHeaders().add("Retry-After", "1");
+            send(exchange, 503, "text/plain", "Server busy, try again later\n");
+            return;
+        }
+
+        Path extracted = null;
+        try {
+            var query = parseQuery(exchange.getRequestURI().getRawQuery());
+            var rendererType = query.getOrDefault("renderer", "zita");
+            if (Runner.isCohort(rendererType)) {
+                send(exchange, 400, "text/plain", "The cohort renderer summarises a batch, use it in batch mode\n");
+                return;
+            }
+
+            Path sketch;
+            if (query.containsKey("path")) {
+                sketch = Path.of(query.get("path"));
+                if (!Files.isDirectory(sketch)) {
+                    send(exchange, 400, "text/plain", "Not a sketch folder: " + sketch + "\n");
+                    return;
+                }
+            } else {
+                var length = exchange.getRequestHeaders().getFirst("Content-Length");
+                if (length != null && Long.parseLong(length.trim()) > MAX_UPLOAD_BYTES) {
+                    throw new UploadTooLargeException("Upload is larger than " + MAX_UPLOAD_BYTES + " bytes");
+                }
+                extracted = Files.createTempDirectory("zita-");
+                var body = new LimitedInputStream(exchange.getRequestBody(), MAX_UPLOAD_BYTES);
+                try (var zip = new ZipInputStream(body)) {
+                    unzip(zip, extracted, MAX_EXTRACTED_BYTES, MAX_ENTRIES);
+                }
+                sketch = findSketchFolder(extracted);
+                if (sketch == null) {
+                    send(exchange, 400, "text/plain", "No Processing files found in the uploaded zip\n");
+                    return;
+                }
+            }
+
+            var output = new StringWriter();
+            var extension = pool.submit(runner -> {
+                running.incrementAndGet();
+                long start = System.nanoTime();
+                try {
+                    return Runner.analyse(runner, sketch, rendererType, output).defaultFileExtension();
+                } finally {
+                    totalAnalysisMillis.addAndGet((System.nanoTime() - start) / 1_000_000);
+                    running.decrementAndGet();
+                }
+            }).get();
+
+            completed.incrementAndGet();
+            send(exchange, 200, contentType(extension), output.toString());
+        } catch (ExecutionException ex) {
+            failed.incrementAndGet();
+            send(exchange, 500, "text/plain", "Error analysing sketch: " + ex.getCause().getMessage() + "\n");
+        } catch (UploadTooLargeException ex) {
+            failed.incrementAndGet();
+            send(exchange, 413, "text/plain", ex.getMessage() + "\n");
+        } catch (IOException | NumberFormatException ex) {
+            failed.incrementAndGet();
+            send(exchange, 400, "text/plain", "Error reading sketch: " + ex.getMessage() + "\n");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            send(exchange, 503, "text/plain", "Server is shutting down\n");
+        } finally {
+            admitted.release();
+            if (extracted != null) {
+                deleteRecursively(extracted);
+            }
+        }
+    }
+
+    /**
+     * Extract the zip into the target folder, refusing entries that would end up outside of it, and zips with more
+     * entries or more extracted bytes than allowed. The sizes in the zip can't be trusted, so the bytes are counted
+     * while they are extracted.
+     */
+    static void unzip(ZipInputStream zip, Path target, long maxBytes, int maxEntries) throws IOException {
+        ZipEntry entry;
+        int entries = 0;
+        long extracted = 0;
+        byte[] buffer = new byte[8192];
+        while ((entry = zip.getNextEntry()) != null) {
+            if (++entries > maxEntries) {
+                throw new UploadTooLargeException("Zip has more than " + maxEntries + " entries");
+            }
+            Path file = target.resolve(entry.getName()).normalize();
+            if (!file.startsWith(target)) {
+                throw new IOException("Zip entry outside of the sketch folder: " + entry.getName());
+            }
+            if (entry.isDirectory()) {
+                Files.createDirectories(file);
+            } else {
+                Files.createDirectories(file.getParent());
+                try (OutputStream out = Files.newOutputStream(file)) {
+                    int read;
+                    while ((read = zip.read(buffer)) > 0) {
+                        extracted += read;
+                        if (extracted > maxBytes) {
+                            throw new UploadTooLargeException("Zip extracts to more than " + maxBytes + " bytes");
+                        }
+                        out.write(buffer, 0, read);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The folder with the main sketch. Students usually zip the sketch folder itself, so descend into the folder
+     * that contains the first Processing file. The build check needs the real sketch folder, as processing-java
+     * requires the folder name to match the main tab.
+     */
+    static Path findSketchFolder(Path root) throws IOException {
+        try (Stream<Path> files = Files.find(root, 10000,
+                (p, attr) -> attr.isRegularFile() && p.getFileName().toString().endsWith(".pde")
+                        && !p.toString().contains("__MACOSX"))) {
+            List<Path> sketches = files.map(Path::getParent).sorted(Comparator.comparingInt(Path::getNameCount))
+                    .collect(Collectors.toList());
+            return sketches.isEmpty() ? null : sketches.get(0);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        var result = new HashMap<String, String>();
+        if (query == null || query.isEmpty()) {
+            return result;
+        }
+        for (String pair : query.split("&")) {
+            int split = pair.indexOf('=');
+            if (split > 0) {
+                result.put(URLDecoder.decode(pair.substring(0, split), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(split + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+
+    private static String contentType(String extension) {
+        switch (extension == null ? "" : extension) {
+            case "json":
+                return "application/json";
+            case "html":
+                return "text/html";
+            case "csv":
+                return "text/csv";
+            default:
+                return "text/plain";
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /** An upload that is larger than allowed, answered with 413 */
+    static final class UploadTooLargeException extends IOException {
+        UploadTooLargeException(String message) {
+            super(message);
+        }
+    }
+
+    /** Fails once more than the limit is read, for request bodies that don't announce their length */
+    private static final class LimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(long read) throws UploadTooLargeException {
+            count += read;
+            if (count > limit) {
+                throw new UploadTooLargeException("Upload is larger than " + limit + " bytes");
+            }
+        }
+    }
+
+    private static void deleteRecursively(Path root) {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        } catch (IOException ex) {
+            System.err.println("Could not remove temporary folder " + root + ": " + ex.getMessage());
+        }
+    }
+}
@@ -1,23 +1,48 @@
 package nl.utwente;
 
 import net.sourceforge.pmd.renderers.*;
-import nl.utwente.processing.pmd.rules.DoesItBuildRule;
 import nl.utwente.renderers.AtelierStyleTextRenderer;
+import nl.utwente.renderers.CohortRenderer;
+import nl.utwente.renderers.CohortSummary;
+import nl.utwente.renderers.SourceMappedRenderer;
 import nl.utwente.processing.ProcessingFile;
 import nl.utwente.processing.ProcessingProject;
+import nl.utwente.processing.build.BuildBackend;
+import nl.utwente.processing.build.BuildCache;
+import nl.utwente.processing.build.BuildExecutor;
+import nl.utwente.processing.pmd.EvaluationMode;
 import nl.utwente.processing.pmd.PMDException;
 import nl.utwente.processing.pmd.PMDRunner;
+import nl.utwente.processing.pmd.PMDRunnerPool;
+import nl.utwente.processing.pmd.ResultCache;
+import nl.utwente.processing.pmd.TimingSummary;
+import nl.utwente.processing.pmd.Timings;
 import nl.utwente.renderers.StudentFeedbackRenderer;
 import nl.utwente.renderers.VivaHandoverRenderer;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class Runner {
-    
+
+    static final String USAGE = "Usage: (--project <project path> | --projects-root <submissions path> [--output-dir <output path>]"
+            + " | --serve [--port <port>] [--queue-size <count>])"
+            + " --rules <rule path> [--renderer <type>] [--threads <count>] [--per-tab]"
+            + " [--cache-dir <cache path> [--cache-size <MB>]]"
+            + " [--max-builds <count>] [--build-timeout <seconds>]"
+            + " [--build-backend <javac|processing-java|fake[:<ms>[:<exit codes>]]>] [--timings]";
+
     static String readString(Path path) {
         try {
             return Files.readString(path);
@@ -29,89 +54,365 @@ public class Runner {
         }
     }
 
-    public static void main(String[] args) throws IOException, PMDException {
+    public static void main(String[] args) throws IOException, PMDException, InterruptedException {
 
         String projectPath = null;
+        String projectsRoot = null;
+        String outputDir = null;
         String rulePath = null;
         String rendererType = "zita";
+        int threads = PMDRunnerPool.defaultSize();
+        boolean serve = false;
+        int port = 8177;
+        int queueSize = 64;
+        boolean perTab = false;
+        String cacheDir = null;
+        long cacheSizeMb = 512;
+        int maxBuilds = BuildExecutor.defaultSize();
+        long buildTimeoutSeconds = BuildExecutor.defaultTimeoutMillis() / 1000;
+        BuildBackend buildBackend = null;
+        boolean timings = false;
 
-        for (int i = 0; i < args.length; i++) {
-            switch (args[i]) {
-                case "--project":
-                    if (i + 1 < args.length)
-                        projectPath = args[++i];
-                    break;
-                case "--rules":
-                    if (i + 1 < args.length)
-                        rulePath = args[++i];
-                    break;
-                case "--renderer":
-                    if (i + 1 < args.length)
-                        rendererType = args[++i];
-                    break;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--project":
+                        if (i + 1 < args.length)
+                            projectPath = args[++i];
+                        break;
+                    case "--projects-root":
+                        if (i + 1 < args.length)
+                            projectsRoot = args[++i];
+                        break;
+                    case "--output-dir":
+                        if (i + 1 < args.length)
+                            outputDir = args[++i];
+                        break;
+                    case "--rules":
+                        if (i + 1 < args.length)
+                            rulePath = args[++i];
+                        break;
+                    case "--renderer":
+                        if (i + 1 < args.length)
+                            rendererType = args[++i];
+                        break;
+                    case "--threads":
+                        if (i + 1 < args.length)
+                            threads = (int) parseNumber("--threads", args[++i], 1, Integer.MAX_VALUE);
+                        break;
+                    case "--serve":
+                        serve = true;
+                        break;
+                    case "--port":
+                        if (i + 1 < args.length)
+                            port = (int) parseNumber("--port", args[++i], 0, 65535);
+                        break;
+                    case "--queue-size":
+                        if (i + 1 < args.length)
+                            queueSize = (int) parseNumber("--queue-size", args[++i], 0, Integer.MAX_VALUE);
+                        break;
+                    case "--per-tab":
+                        perTab = true;
+                        break;
+                    case "--cache-dir":
+                        if (i + 1 < args.length)
+                            cacheDir = args[++i];
+                        break;
+                    case "--cache-size":
+                        if (i + 1 < args.length)
+                            cacheSizeMb = parseNumber("--cache-size", args[++i], 1, 1024 * 1024);
+                        break;
+                    case "--max-builds":
+                        if (i + 1 < args.length)
+                            maxBuilds = (int) parseNumber("--max-builds", args[++i], 1, Integer.MAX_VALUE);
+                        break;
+                    case "--build-timeout":
+                        if (i + 1 < args.length)
+                            buildTimeoutSeconds = parseNumber("--build-timeout", args[++i], 1, 24 * 60 * 60);
+                        break;
+                    case "--build-backend":
+                        if (i + 1 < args.length)
+                            buildBackend = BuildBackend.forName(args[++i]);
+                        break;
+                    case "--timings":
+                        timings = true;
+                        break;
+                }
             }
+        } catch (IllegalArgumentException ex) {
+            System.out.println(ex.getMessage());
+            System.out.println(USAGE);
+            return;
         }
-        if (projectPath == null || rulePath == null) {
-            System.out.println("Usage: --project <project path> --rules <rule path> [--renderer <type>]");
+        int modes = (projectPath != null ? 1 : 0) + (projectsRoot != null ? 1 : 0) + (serve ? 1 : 0);
+        if (modes != 1 || rulePath == null) {
+            System.out.println(USAGE);
+            return;
+        }
+        if (isCohort(rendererType) && projectsRoot == null) {
+            System.out.println("The cohort renderer summarises a batch, use it with --projects-root");
             return;
         }
 
-        var path = Path.of(projectPath);
         var rulePathStr = Path.of(rulePath).toString();
+        var runner = new PMDRunner(rulePathStr);
+        runner.setPerTab(perTab);
+        ResultCache cache = null;
+        if (cacheDir != null) {
+            cache = new ResultCache(Path.of(cacheDir), cacheSizeMb * 1024 * 1024, rulePathStr);
+            runner.setResultCache(cache);
+        }
+        var builds = new BuildExecutor(maxBuilds, buildTimeoutSeconds * 1000);
+        if (cacheDir != null) {
+            builds.setCache(new BuildCache(Path.of(cacheDir, "builds"), cacheSizeMb * 1024 * 1024));
+        }
+        runner.setBuildExecutor(builds);
+        if (buildBackend != null) {
+            runner.setBuildBackend(buildBackend);
+        }
 
-        DoesItBuildRule.Companion.setSketchPath(projectPath);
+        if (serve) {
+            var pool = new PMDRunnerPool(runner, threads);
+            var server = new GradingServer(pool, cache, builds, port, queueSize);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.stop();
+                try {
+                    pool.close();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            server.start();
+            System.err.println("Zita listening on http://localhost:" + server.getPort() + " with " + pool.getSize()
+                    + " workers");
+        } else if (projectsRoot != null) {
+            builds.setListener((name, result) -> System.err.println(result.isCached()
+                    ? "Build of " + name + " served from the build cache"
+                    : "Built " + name + " in " + result.getBuildMillis() + " ms after waiting "
+                    + result.getQueueMillis() + " ms" + (result.isTimedOut() ? " (timed out)" : "")));
+            try (var pool = new PMDRunnerPool(runner, threads)) {
+                runBatch(pool, Path.of(projectsRoot), rendererType, outputDir == null ? null : Path.of(outputDir),
+                        timings);
+            }
+        } else {
+            var projectTimings = new Timings();
+            analyse(runner, Path.of(projectPath), rendererType, new PrintWriter(System.out), projectTimings);
+            if (timings) {
+                System.err.print(projectTimings.toJson());
+            }
+        }
+        if (cache != null && !serve) {
+            System.err.println(cache);
+            System.err.println(builds.getCache());
+        }
+        if (projectsRoot != null) {
+            System.err.println(builds);
+        }
+    }
 
-        var project = new ProcessingProject(
-                Files.find(path, 10000,
-                        (p, attr) -> attr.isRegularFile() && p.getFileName().toString().endsWith(".pde"))
-                        .map(p -> new ProcessingFile(p.getFileName().toString(), p.getFileName().toString(),
-                                readString(p)))
-                        .collect(Collectors.toList()));
+    /** Parse the value of a numeric option, failing with a message that names the option when it is out of range */
+    static long parseNumber(String option, String value, long min, long max) {
+        long number;
+        try {
+            number = Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(option + " must be a whole number, got " + value);
+        }
+        if (number < min) {
+            throw new IllegalArgumentException(option + " must be at least " + min + ", got " + value);
+        }
+        if (number > max) {
+            throw new IllegalArgumentException(option + " must be at most " + max + ", got " + value);
+        }
+        return number;
+    }
 
-        var runner = new PMDRunner(rulePathStr);
-        AbstractIncrementingRenderer renderer = null;
-        AbstractAccumulatingRenderer accRenderer = null;
+    /**
+     * Load all Processing files in the project folder into a project. The id of a file is its path in the project
+     * folder, so tabs with the same name in different sub-folders can be told apart.
+     */
+    static ProcessingProject loadProject(Path path) throws IOException {
+        try (Stream<Path> files = Files.find(path, 10000,
+                (p, attr) -> attr.isRegularFile() && p.getFileName().toString().endsWith(".pde"))) {
+            return new ProcessingProject(files
+                    .map(p -> new ProcessingFile(path.relativize(p).toString().replace('\\', '/'),
+                            p.getFileName().toString(), readString(p)))
+                    .collect(Collectors.toList()), path);
+        }
+    }
+
+    /** Create the renderer selected on the command line for the given project */
+    public static Renderer createRenderer(String rendererType, ProcessingProject project, PMDRunner runner) {
         switch (rendererType.toLowerCase()) {
             case "html":
-                renderer = new HTMLRenderer(); 
-                break;
+                return new SourceMappedRenderer(new HTMLRenderer(), project);
             case "json":
-                renderer = new JsonRenderer(); 
-                break;
-            
+                return new SourceMappedRenderer(new JsonRenderer(), project);
             case "csv":
-            renderer = new CSVRenderer();
-            break;
-
+                return new SourceMappedRenderer(new CSVRenderer(), project);
             case "handover":
-                accRenderer = new VivaHandoverRenderer();
-                break;
-
+                var handoverRenderer = new VivaHandoverRenderer();
+                handoverRenderer.setRuleSets(runner.getRuleSets());
+                return handoverRenderer;
             case "student":
-                accRenderer = new StudentFeedbackRenderer(project);
-                break;
+                var studentRenderer = new StudentFeedbackRenderer(project);
+                studentRenderer.setRuleSets(runner.getRuleSets());
+                return studentRenderer;
             default:
-            renderer = new AtelierStyleTextRenderer(project);
+                return new AtelierStyleTextRenderer(project);
         }
+    }
 
-        if (accRenderer instanceof StudentFeedbackRenderer) {
-            ((StudentFeedbackRenderer) accRenderer).setRuleSets(runner.getRuleSets());
+    /**
+     * How much of the results the renderer needs. The handover only shows whether each rule passed, so its rules stop
+     * after their first violation. Every other renderer shows all violations, and so does the cohort summary, which
+     * counts every message a submission got.
+     */
+    public static EvaluationMode evaluationMode(String rendererType) {
+        return rendererType.equalsIgnoreCase("handover") ? EvaluationMode.PASS_FAIL : EvaluationMode.FULL;
+    }
+
+    /** Whether the renderer summarises a whole batch, instead of rendering every submission */
+    static boolean isCohort(String rendererType) {
+        return rendererType.equalsIgnoreCase("cohort");
+    }
+
+    /** Analyse a single project and render the results to the writer. Returns the renderer that was used. */
+    static Renderer analyse(PMDRunner runner, Path projectPath, String rendererType, Writer writer)
+            throws IOException, PMDException {
+        return analyse(runner, projectPath, rendererType, writer, new Timings());
+    }
+
+    /** Analyse a single project like {@link #analyse(PMDRunner, Path, String, Writer)}, adding to the timings */
+    static Renderer analyse(PMDRunner runner, Path projectPath, String rendererType, Writer writer, Timings timings)
+            throws IOException, PMDException {
+        return analyse(runner, projectPath, project -> createRenderer(rendererType, project, runner),
+                evaluationMode(rendererType), writer, timings);
+    }
+
+    /** Analyse a single project like {@link #analyse(PMDRunner, Path, String, Writer)}, with a renderer of its own */
+    static Renderer analyse(PMDRunner runner, Path projectPath, Function<ProcessingProject, Renderer> rendererFactory,
+                            EvaluationMode mode, Writer writer, Timings timings) throws IOException, PMDException {
+        long started = System.nanoTime();
+        var project = loadProject(projectPath);
+        timings.addStage(Timings.LOAD, System.nanoTime() - started);
+        var renderer = rendererFactory.apply(project);
+        renderer.setWriter(writer);
+        runner.Run(project, renderer, mode, timings);
+        return renderer;
+    }
+
+    /** Find every submission folder directly below the root that contains Processing files */
+    static List<Path> findSubmissions(Path root) throws IOException {
+        try (Stream<Path> dirs = Files.list(root)) {
+            return dirs.filter(Files::isDirectory)
+                    .filter(Runner::containsSketch)
+                    .sorted()
+                    .collect(Collectors.toList());
         }
-        if (accRenderer instanceof VivaHandoverRenderer) {
-            ((VivaHandoverRenderer) accRenderer).setRuleSets(runner.getRuleSets());
+    }
+
+    private static boolean containsSketch(Path dir) {
+        try (Stream<Path> files = Files.find(dir, 10000,
+                (p, attr) -> attr.isRegularFile() && p.getFileName().toString().endsWith(".pde"))) {
+            return files.findAny().isPresent();
+        } catch (IOException ex) {
+            return false;
         }
-        if (accRenderer != null) {
-            accRenderer.setWriter(new PrintWriter(System.out));
-            runner.Run(project, accRenderer);
-            DoesItBuildRule.Companion.resetRunFlag();
-        } else {
+    }
 
-           renderer.setWriter(new PrintWriter(System.out));
-           runner.Run(project, renderer);
+    /**
+     * Analyse every submission below the root on the worker pool, so the JVM, the rule sets and the rule classes are
+     * only loaded once for the whole cohort. Output is written to one file per submission in the output folder, or
+     * to stdout with a header per submission when no output folder is given. Either way, results are collected in
+     * submission order, regardless of which worker finishes first. With timings, the timings of every submission are
+     * written next to its output, or to stderr when there is no output folder, followed by a summary of all of them.
+     * The cohort renderer writes nothing per submission: every submission is added to one summary, which is written to
+     * cohort.json in the output folder, or to stdout, when all submissions are done.
+     */
+    static void runBatch(PMDRunnerPool pool, Path root, String rendererType, Path outputDir, boolean timings)
+            throws IOException, InterruptedException {
+        var submissions = findSubmissions(root);
+        if (outputDir != null) {
+            Files.createDirectories(outputDir);
         }
 
+        long startTime = System.nanoTime();
+        var results = new ArrayList<Future<String>>(submissions.size());
+        var cohort = isCohort(rendererType) ? new CohortSummary() : null;
+        // Written by the workers, read after the result of the submission is taken
+        var submissionTimings = new Timings[submissions.size()];
+        for (int i = 0; i < submissions.size(); i++) {
+            var submission = submissions.get(i);
+            var submissionTiming = new Timings();
+            submissionTimings[i] = submissionTiming;
+            results.add(pool.submit(runner -> {
+                var output = new StringWriter();
+                Function<ProcessingProject, Renderer> rendererFactory = project -> {
+                    if (cohort == null) {
+                        return createRenderer(rendererType, project, runner);
+                    }
+                    var cohortRenderer = new CohortRenderer(cohort);
+                    cohortRenderer.setRuleSets(runner.getRuleSets());
+                    return cohortRenderer;
+                };
+                var renderer = analyse(runner, submission, rendererFactory, evaluationMode(rendererType), output,
+                        submissionTiming);
+                if (outputDir != null) {
+                    if (cohort == null) {
+                        var extension = renderer.defaultFileExtension();
+                        var fileName = submission.getFileName() + "."
+                                + (extension == null || extension.isEmpty() ? "txt" : extension);
+                        Files.writeString(outputDir.resolve(fileName), output.toString());
+                    }
+                    if (timings) {
+                        Files.writeString(outputDir.resolve(submission.getFileName() + ".timings.json"),
+                                submissionTiming.toJson());
+                    }
+                }
+                return output.toString();
+            }));
+        }
 
+        int failed = 0;
+        var summary = new TimingSummary();
+        for (int i = 0; i < submissions.size(); i++) {
+            var name = submissions.get(i).getFileName().toString();
+            try {
+                var output = results.get(i).get();
+                if (outputDir == null) {
+                    if (cohort == null) {
+                        System.out.println("==== " + name + " ====");
+                        System.out.print(output);
+                        System.out.flush();
+                    }
+                    if (timings) {
+                        System.err.print("Timings of " + name + ": " + submissionTimings[i].toJson());
+                    }
+                }
+                summary.add(submissionTimings[i]);
+            } catch (ExecutionException ex) {
+                failed++;
+                System.err.println("Error analysing submission " + name + ": " + ex.getCause().getMessage());
+                if (cohort != null) {
+                    cohort.addError();
+                }
+            }
         }
+        if (cohort != null) {
+            if (outputDir != null) {
+                Files.writeString(outputDir.resolve("cohort.json"), cohort.toJson());
+            } else {
+                System.out.print(cohort.toJson());
+                System.out.flush();
+            }
         }
 
-
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        System.err.println("Analysed " + submissions.size() + " submissions in " + elapsedMillis + " ms on "
+                + pool.getSize() + " workers (" + failed + " failed)");
+        if (timings && summary.getSketches() > 0) {
+            System.err.print(summary);
+        }
+    }
+}
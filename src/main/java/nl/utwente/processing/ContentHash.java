@@ -0,0 +1,125 @@
+package nl.utwente.processing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/** SHA-256 hashing of sketch contents and settings, for the keys of the on-disk caches */
+public final class ContentHash {
+    /** The classes and resources of Zita, the other files in the jar are the libraries */
+    private static final String[] ZITA_FILES = {"nl/utwente/", "processing/", "rulesets/", "rule-category-mapping"};
+
+    private static String zitaVersion;
+
+    private final MessageDigest digest;
+
+    public ContentHash() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    public ContentHash add(String value) {
+        return add(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ContentHash add(byte[] bytes) {
+        // Prefix the length, so the boundaries between values are part of the hash
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+        return this;
+    }
+
+    /**
+     * Add the content of a Processing file. Line breaks are normalised, so the same sketch saved on another platform
+     * gets the same hash.
+     */
+    public ContentHash addSource(String content) {
+        if (content.startsWith("\uFEFF")) {
+            content = content.substring(1);
+        }
+        return add(content.replace("\r\n", "\n").replace('\r', '\n'));
+    }
+
+    /** The hash as hexadecimal, the hash can't be added to afterwards */
+    public String toHex() {
+        byte[] bytes = digest.digest();
+        var result = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return result.toString();
+    }
+
+    /**
+     * The version of Zita, with a hash of its classes and resources, like the bundled rules and the Processing API,
+     * so a build with changed rules or a changed Processing API doesn't use old results. The hash is of the contents,
+     * not of the jar, so building the same code again keeps the results.
+     */
+    public static synchronized String getZitaVersion() {
+        if (zitaVersion == null) {
+            var version = ContentHash.class.getPackage().getImplementationVersion();
+            try {
+                var location = Path.of(ContentHash.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+                zitaVersion = version + "@" + hashZitaFiles(location);
+            } catch (Exception ex) {
+                zitaVersion = String.valueOf(version);
+            }
+        }
+        return zitaVersion;
+    }
+
+    /**
+     * Hash the files of Zita in the jar or class folder, by name and content. The libraries in the jar are left out,
+     * they only change with the version.
+     */
+    private static String hashZitaFiles(Path location) throws IOException {
+        var hash = new ContentHash();
+        if (Files.isDirectory(location)) {
+            try (Stream<Path> files = Files.walk(location)) {
+                for (Path file : files.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                    String name = location.relativize(file).toString().replace('\\', '/');
+                    if (isZitaFile(name)) {
+                        hash.add(name).add(Files.readAllBytes(file));
+                    }
+                }
+            }
+        } else {
+            try (var jar = new JarFile(location.toFile())) {
+                var entries = jar.stream()
+                        .filter(entry -> !entry.isDirectory() && isZitaFile(entry.getName()))
+                        .sorted(Comparator.comparing(JarEntry::getName))
+                        .collect(Collectors.toList());
+                for (JarEntry entry : entries) {
+                    try (InputStream input = jar.getInputStream(entry)) {
+                        hash.add(entry.getName()).add(input.readAllBytes());
+                    }
+                }
+            }
+        }
+        return hash.toHex();
+    }
+
+    private static boolean isZitaFile(String name) {
+        for (String prefix : ZITA_FILES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
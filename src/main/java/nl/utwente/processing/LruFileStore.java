@@ -0,0 +1,187 @@
+package nl.utwente.processing;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A directory of cache entries, one file per key, with a size limit. When the entries grow beyond the limit, the least
+ * recently used ones are removed. The use of an entry is its modification time, so the order survives a restart.
+ * Entries are written to a temporary file first and moved in place, so a reader never sees half an entry. The result
+ * and build caches store their entries in one each. The store can be used from several threads.
+ */
+public final class LruFileStore {
+
+    /** Reads the value of an entry, throws an IOException when the entry is damaged or outdated */
+    @FunctionalInterface
+    public interface Reader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private final Path directory;
+    private final long maxBytes;
+    private final String extension;
+    private final String name;
+
+    /** Entry name and size of every entry, least recently used first */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    /**
+     * Open the store in the directory, keeping the entries that are already there.
+     * @param extension The extension of the entry files, other files in the directory are left alone
+     * @param name What is stored, for error messages, like "result cache"
+     */
+    public LruFileStore(Path directory, long maxBytes, String extension, String name) throws IOException {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Cache size must be positive, got " + maxBytes);
+        }
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.extension = extension;
+        this.name = name;
+
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            var existing = files.filter(p -> p.getFileName().toString().endsWith(extension))
+                    .sorted(Comparator.comparing(LruFileStore::lastModified))
+                    .collect(Collectors.toList());
+            for (Path file : existing) {
+                long size = Files.size(file);
+                entries.put(file.getFileName().toString(), size);
+                totalBytes += size;
+            }
+        }
+        evict();
+    }
+
+    /** Read the entry of the key, or null when there is no usable entry. A damaged entry is removed. */
+    public <T> T get(String key, Reader<T> reader) {
+        var fileName = key + extension;
+        synchronized (this) {
+            if (entries.get(fileName) == null) {
+                misses++;
+                return null;
+            }
+        }
+        var file = directory.resolve(fileName);
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            T value = reader.read(in);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            synchronized (this) {
+                hits++;
+            }
+            return value;
+        } catch (IOException ex) {
+            // A damaged or outdated entry is computed again and replaced
+            remove(fileName);
+            synchronized (this) {
+                misses++;
+            }
+            return null;
+        }
+    }
+
+    /** Write the entry of the key, replacing the entry that was there */
+    public void put(String key, Writer writer) {
+        var fileName = key + extension;
+        var file = directory.resolve(fileName);
+        try {
+            var temp = Files.createTempFile(directory, key, ".tmp");
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                writer.write(out);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            long size = Files.size(file);
+            synchronized (this) {
+                Long previous = entries.put(fileName, size);
+                totalBytes += size - (previous == null ? 0 : previous);
+                evict();
+            }
+        } catch (IOException ex) {
+            // The cache is an optimisation, the value itself is still fine
+            System.err.println("Could not write " + name + " entry " + file + ": " + ex.getMessage());
+        }
+    }
+
+    private synchronized void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            var entry = iterator.next();
+            iterator.remove();
+            totalBytes -= entry.getValue();
+            evictions++;
+            deleteQuietly(directory.resolve(entry.getKey()));
+        }
+    }
+
+    private synchronized void remove(String fileName) {
+        Long size = entries.remove(fileName);
+        if (size != null) {
+            totalBytes -= size;
+        }
+        deleteQuietly(directory.resolve(fileName));
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public synchronized long getSizeBytes() {
+        return totalBytes;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return hits + " hits, " + misses + " misses, " + evictions + " evictions, " + entries.size() + " entries ("
+                + totalBytes / 1024 + " KiB)";
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException ex) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            System.err.println("Could not remove " + name + " entry " + file + ": " + ex.getMessage());
+        }
+    }
+}
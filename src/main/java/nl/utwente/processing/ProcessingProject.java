@@ -1,10 +1,9 @@
 package nl.utwente.processing;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.regex.Pattern;
-import java.util.regex.Matcher;
 
 
 // "hacks to make  processing conversion work for java parsing"
@@ -12,43 +11,38 @@ import java.util.regex.Matcher;
 
 /** Helper class to deal with Processing code in PMD */
 public class ProcessingProject {
-    private static String START_JAVA_CODE = "public class Processing {\r\n";
-    private static String END_JAVA_CODE = "\r\n}";
-
     private List<ProcessingFile> files;
+    private Path folder;
+    private String javaCode;
+    private SourceMap sourceMap;
     
     public ProcessingProject(List<ProcessingFile> files) {
-        this.files = files;
+        this(files, null);
     }
 
-    private long countChars(char ch, String str) {
-        return str.chars().filter(x -> x == ch).count();
+    public ProcessingProject(List<ProcessingFile> files, Path folder) {
+        this.files = files;
+        this.folder = folder;
     }
 
-    /** Roughly convert Processing code to Java code */
-    private String toJava(String code) {
-        // Extract all import statements
-        Pattern importPattern = Pattern.compile("import\\s+.*?;");
-        Matcher matcher = importPattern.matcher(code);
-        StringBuilder imports = new StringBuilder();
-
-        while (matcher.find()) {
-            imports.append(matcher.group()).append("\n");
+    /** Translate the project once, the Java code and source map are reused for every lookup */
+    private void translate() {
+        if (javaCode == null) {
+            var translator = new ProcessingTranslator(getProjectCode());
+            javaCode = translator.translate();
+            sourceMap = translator.createSourceMap(files);
         }
+    }
 
-        // Remove imports from original code
-        code = matcher.replaceAll("");
-
-        // Build final code with imports first
-        code = imports.toString() + START_JAVA_CODE + code + END_JAVA_CODE;
-        code = code.replaceAll("\\bint\\s*\\(", "toInt(");
-        code = code.replaceAll("\\bfloat\\s*\\(", "toFloat(");
-        code = code.replace(" = #", " = 0x");
-        code = code.replace("(#", "(0x");
-        code = code.replaceAll(":\\s*#", ": 0x");
-        return code;
+    /** The Processing files of the project, one per tab */
+    public List<ProcessingFile> getFiles() {
+        return files;
     }
 
+    /** The sketch folder the files were read from, or null when they were not read from a folder */
+    public Path getFolder() {
+        return folder;
+    }
 
     /** Combine all Processing files into a single string */
     public String getProjectCode() {
@@ -57,29 +51,36 @@ public class ProcessingProject {
 
     /** Find the file and line number from the combined project string */
     public LineInFile mapProjectLineNumber(int line) {
-        var l = line;
-        if (l == 0)
-            throw new IndexOutOfBoundsException(l);
-        for (int i = 0; i < files.size(); i++) {
-            var fileSize = countChars('\n', files.get(i).getContent()) + 1;
-            if (fileSize >= l) {
-                return new LineInFile(l, files.get(i));
-            } else {
-                l -= fileSize;
-            }
-        }
-
-        throw new IndexOutOfBoundsException(line);
+        return getSourceMap().mapProjectLine(line);
     }
 
     /** Get the full project code converted to Java */
     public String getJavaProjectCode() {
-        return toJava(getProjectCode());
+        translate();
+        return javaCode;
+    }
+
+    /**
+     * Get the full project code converted to Java that compiles against the Processing API. The lines are the same as
+     * in {@link #getJavaProjectCode()}, so the source map of the project maps its lines as well.
+     */
+    public String getCompilableJavaCode() {
+        return new ProcessingTranslator(getProjectCode(), true).translate();
+    }
+
+    /** Get the map from positions in the Java code back to the Processing files */
+    public SourceMap getSourceMap() {
+        translate();
+        return sourceMap;
     }
 
     /** Map line in Java code back to Processing file and line */
     public LineInFile mapJavaProjectLineNumber(int line) {
-        var projectLine = line - (int)countChars('\n', START_JAVA_CODE);
-        return mapProjectLineNumber(projectLine);
+        return getSourceMap().mapJavaLine(line);
+    }
+
+    /** Whether the line in Java code is part of the class wrapped around the Processing code, not of a file */
+    public boolean isWrapperLine(int line) {
+        return getSourceMap().isWrapperLine(line);
     }
 }
\ No newline at end of file
@@ -0,0 +1,325 @@
+package nl.utwente.processing;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Translates Processing code to Java code that PMD can parse, in a single pass over the code. The translator skips
+ * string literals, character literals and comments, and does the following rewrites in code:
+ * <ul>
+ *     <li>import statements are moved to the top, before the wrapper class</li>
+ *     <li>the {@code int(x)} and {@code float(x)} conversion functions become {@code toInt(x)} and {@code toFloat(x)}</li>
+ *     <li>hex colours like {@code #FF0000} become hex literals like {@code 0xFF0000}</li>
+ *     <li>everything else is wrapped in a {@code Processing} class</li>
+ * </ul>
+ * For the compiler the translator also does the rewrites of the Processing preprocessor that PMD does not need: the
+ * {@code color} type becomes {@code int}, decimal literals get an {@code f} suffix, the {@code char(x)},
+ * {@code byte(x)} and {@code boolean(x)} conversion functions become their {@code parse} functions, and the wrapper
+ * class extends {@code PApplet} with the default imports of Processing.
+ * Apart from the moved imports and the line with the class header, no line breaks are added or removed, so every
+ * line of the Processing code ends up on a fixed offset in the Java code. The rewrites within a line are recorded, so
+ * the {@link SourceMap} can map columns back as well.
+ */
+public final class ProcessingTranslator {
+
+    static final String START_JAVA_CODE = "public class Processing {\r\n";
+    static final String END_JAVA_CODE = "\r\n}";
+    /** Header for the compiler, on a single line like the normal header so the Java lines stay the same */
+    static final String COMPILER_START_JAVA_CODE = "import processing.core.*; import processing.data.*; "
+            + "import processing.event.*; import processing.opengl.*; import java.util.HashMap; import java.util.ArrayList; import java.io.File; "
+            + "import java.io.BufferedReader; import java.io.PrintWriter; import java.io.InputStream; "
+            + "import java.io.OutputStream; import java.io.IOException; "
+            + "public class Processing extends PApplet {\r\n";
+
+    private final String code;
+    private final int length;
+    private final boolean forCompiler;
+    private final String start;
+    private final StringBuilder imports = new StringBuilder();
+    private final StringBuilder body;
+    private int pos = 0;
+
+    /** Offset in the body directly after every rewrite, and the change in length it made */
+    private int[] rewriteOffsets = new int[16];
+    private int[] rewriteShifts = new int[16];
+    private int rewriteCount = 0;
+
+    ProcessingTranslator(String code) {
+        this(code, false);
+    }
+
+    ProcessingTranslator(String code, boolean forCompiler) {
+        this.code = code;
+        this.length = code.length();
+        this.forCompiler = forCompiler;
+        this.start = forCompiler ? COMPILER_START_JAVA_CODE : START_JAVA_CODE;
+        // Rewrites add at most a few characters each, so this is usually the final size
+        this.body = new StringBuilder(length + length / 32 + 16);
+    }
+
+    /** Convert Processing code to Java code */
+    public static String toJava(String code) {
+        return new ProcessingTranslator(code).translate();
+    }
+
+    String translate() {
+        while (pos < length) {
+            char ch = code.charAt(pos);
+            if (ch == '"' || ch == '\'') {
+                copyLiteral(ch);
+            } else if (ch == '/' && pos + 1 < length && code.charAt(pos + 1) == '/') {
+                copyLineComment();
+            } else if (ch == '/' && pos + 1 < length && code.charAt(pos + 1) == '*') {
+                copyBlockComment();
+            } else if (ch == '#' && pos + 1 < length && isHexDigit(code.charAt(pos + 1))) {
+                body.append("0x");
+                pos++;
+                addRewrite(1);
+                copyHexDigits();
+            } else if (forCompiler && isNumberStart(ch)) {
+                translateNumber();
+            } else if (Character.isJavaIdentifierStart(ch)) {
+                translateIdentifier();
+            } else {
+                body.append(ch);
+                pos++;
+            }
+        }
+
+        var result = new StringBuilder(imports.length() + start.length() + body.length() + END_JAVA_CODE.length());
+        return result.append(imports).append(start).append(body).append(END_JAVA_CODE).toString();
+    }
+
+    private void translateIdentifier() {
+        int start = pos;
+        while (pos < length && Character.isJavaIdentifierPart(code.charAt(pos))) {
+            pos++;
+        }
+        int end = pos;
+        int afterSpace = skipWhitespace(end);
+
+        if (isWord(start, end, "import") && afterSpace > end) {
+            hoistImport(start);
+        } else if (afterSpace < length && code.charAt(afterSpace) == '(' && isWord(start, end, "int")) {
+            body.append("toInt");
+            addRewrite(2);
+        } else if (afterSpace < length && code.charAt(afterSpace) == '(' && isWord(start, end, "float")) {
+            body.append("toFloat");
+            addRewrite(2);
+        } else if (forCompiler && afterSpace < length) {
+            translateCompilerIdentifier(start, end, code.charAt(afterSpace));
+        } else {
+            body.append(code, start, end);
+        }
+    }
+
+    private void translateCompilerIdentifier(int start, int end, char next) {
+        if (next == '(' && (isWord(start, end, "char") || isWord(start, end, "byte")
+                || isWord(start, end, "boolean"))) {
+            body.append("parse").append(Character.toUpperCase(code.charAt(start))).append(code, start + 1, end);
+            addRewrite(5);
+        } else if ((next == '[' || Character.isJavaIdentifierStart(next)) && isWord(start, end, "color")) {
+            body.append("int");
+            addRewrite(-2);
+        } else {
+            body.append(code, start, end);
+        }
+    }
+
+    /** Copy a number literal, adding the float suffix to decimal literals like Processing does */
+    private void translateNumber() {
+        if (code.startsWith("0x", pos) || code.startsWith("0X", pos)) {
+            body.append(code, pos, pos + 2);
+            pos += 2;
+            copyHexDigits();
+            return;
+        }
+        int start = pos;
+        boolean decimal = false;
+        pos = skipDigits(pos);
+        if (pos < length && code.charAt(pos) == '.') {
+            decimal = true;
+            pos = skipDigits(pos + 1);
+        }
+        if (pos < length && (code.charAt(pos) == 'e' || code.charAt(pos) == 'E')) {
+            int exponent = pos + 1;
+            if (exponent < length && (code.charAt(exponent) == '+' || code.charAt(exponent) == '-')) {
+                exponent++;
+            }
+            if (exponent < length && Character.isDigit(code.charAt(exponent))) {
+                decimal = true;
+                pos = skipDigits(exponent);
+            }
+        }
+        body.append(code, start, pos);
+        if (decimal && (pos >= length || "fFdD".indexOf(code.charAt(pos)) < 0)) {
+            body.append('f');
+            addRewrite(1);
+        }
+    }
+
+    private void copyHexDigits() {
+        int start = pos;
+        while (pos < length && (isHexDigit(code.charAt(pos)) || code.charAt(pos) == '_')) {
+            pos++;
+        }
+        body.append(code, start, pos);
+    }
+
+    private int skipDigits(int from) {
+        while (from < length && (Character.isDigit(code.charAt(from)) || code.charAt(from) == '_')) {
+            from++;
+        }
+        return from;
+    }
+
+    private boolean isNumberStart(char ch) {
+        return Character.isDigit(ch) || (ch == '.' && pos + 1 < length && Character.isDigit(code.charAt(pos + 1)));
+    }
+
+    /**
+     * Move the import statement starting at the given position to the imports, keeping its line breaks in place. The
+     * statement ends at the first semicolon outside comments, the comments in it are left out. When anything but
+     * names, dots, stars, white space and comments comes before the semicolon, it is not an import statement and is
+     * left in place for the parser to complain about.
+     */
+    private void hoistImport(int start) {
+        var statement = new StringBuilder();
+        int lineBreaks = 0;
+        int lineStart = start;
+        int i = start;
+        while (i < length && code.charAt(i) != ';') {
+            char ch = code.charAt(i);
+            if (ch == '/' && i + 1 < length && code.charAt(i + 1) == '/') {
+                int lineEnd = code.indexOf('\n', i);
+                i = lineEnd < 0 ? length : lineEnd;
+                statement.append(' ');
+                continue;
+            } else if (ch == '/' && i + 1 < length && code.charAt(i + 1) == '*') {
+                int commentEnd = code.indexOf("*/", i + 2);
+                if (commentEnd < 0) {
+                    break;
+                }
+                for (; i < commentEnd + 2; i++) {
+                    if (code.charAt(i) == '\n') {
+                        lineBreaks++;
+                        lineStart = i + 1;
+                    }
+                }
+                statement.append(' ');
+                continue;
+            } else if (ch == '\n') {
+                lineBreaks++;
+                lineStart = i + 1;
+                statement.append(' ');
+            } else if (Character.isJavaIdentifierPart(ch) || ch == '.' || ch == '*' || Character.isWhitespace(ch)) {
+                if (ch != '\r') {
+                    statement.append(ch);
+                }
+            } else {
+                break;
+            }
+            i++;
+        }
+        if (i >= length || code.charAt(i) != ';') {
+            // Not a complete statement, leave it to the parser to complain
+            body.append(code, start, pos);
+            return;
+        }
+        pos = i + 1;
+        for (int line = 0; line < lineBreaks; line++) {
+            body.append('\n');
+        }
+        imports.append(statement).append(";\n");
+        // The rest of the line moves left by the part of the import that was on it
+        addRewrite(lineStart - pos);
+    }
+
+    /**
+     * Create the source map of the translated code, with the files that were joined into the translated code. Must
+     * be called after {@link #translate()}.
+     */
+    SourceMap createSourceMap(List<ProcessingFile> files) {
+        int headerLines = countLineBreaks(imports) + countLineBreaks(start);
+
+        // Convert the body offsets to Java lines and columns, in a single pass as the offsets are ascending
+        int[] lines = new int[rewriteCount];
+        int[] columns = new int[rewriteCount];
+        int line = headerLines + 1;
+        int lineStart = 0;
+        int offset = 0;
+        for (int i = 0; i < rewriteCount; i++) {
+            for (; offset < rewriteOffsets[i]; offset++) {
+                if (body.charAt(offset) == '\n') {
+                    line++;
+                    lineStart = offset + 1;
+                }
+            }
+            lines[i] = line;
+            columns[i] = rewriteOffsets[i] - lineStart + 1;
+        }
+        return new SourceMap(files, headerLines, lines, columns, Arrays.copyOf(rewriteShifts, rewriteCount));
+    }
+
+    private void addRewrite(int shift) {
+        if (rewriteCount == rewriteOffsets.length) {
+            rewriteOffsets = Arrays.copyOf(rewriteOffsets, rewriteCount * 2);
+            rewriteShifts = Arrays.copyOf(rewriteShifts, rewriteCount * 2);
+        }
+        rewriteOffsets[rewriteCount] = body.length();
+        rewriteShifts[rewriteCount] = shift;
+        rewriteCount++;
+    }
+
+    private static int countLineBreaks(CharSequence text) {
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void copyLiteral(char quote) {
+        int start = pos++;
+        while (pos < length) {
+            char ch = code.charAt(pos++);
+            if (ch == '\\' && pos < length) {
+                pos++;
+            } else if (ch == quote || ch == '\n') {
+                break;
+            }
+        }
+        body.append(code, start, pos);
+    }
+
+    private void copyLineComment() {
+        int end = code.indexOf('\n', pos);
+        end = end < 0 ? length : end;
+        body.append(code, pos, end);
+        pos = end;
+    }
+
+    private void copyBlockComment() {
+        int end = code.indexOf("*/", pos + 2);
+        end = end < 0 ? length : end + 2;
+        body.append(code, pos, end);
+        pos = end;
+    }
+
+    private int skipWhitespace(int from) {
+        while (from < length && Character.isWhitespace(code.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    private boolean isWord(int start, int end, String word) {
+        return end - start == word.length() && code.startsWith(word, start);
+    }
+
+    private static boolean isHexDigit(char ch) {
+        return (ch >= '0' && ch <= '9') || (ch >= 'a' && ch <= 'f') || (ch >= 'A' && ch <= 'F');
+    }
+}
@@ -0,0 +1,123 @@
+package nl.utwente.processing;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maps positions in the Java code produced by {@link ProcessingTranslator} back to the Processing files. Built once per
+ * translation, after which every lookup is a binary search instead of a scan over the files.
+ */
+public final class SourceMap {
+
+    private final List<ProcessingFile> files;
+    /** The project line on which each file starts, ascending */
+    private final int[] fileStartLines;
+    private final int projectLines;
+    /** The number of Java lines before the first Processing line: the moved imports and the class header */
+    private final int headerLines;
+
+    /** Java line, column directly after, and change in length of every rewrite, in order of appearance */
+    private final int[] rewriteLines;
+    private final int[] rewriteColumns;
+    private final int[] rewriteShifts;
+
+    SourceMap(List<ProcessingFile> files, int headerLines, int[] rewriteLines, int[] rewriteColumns,
+              int[] rewriteShifts) {
+        this.files = files;
+        this.headerLines = headerLines;
+        this.rewriteLines = rewriteLines;
+        this.rewriteColumns = rewriteColumns;
+        this.rewriteShifts = rewriteShifts;
+
+        // Files are joined with a line break, so every file starts on the line after the last line of the previous one
+        this.fileStartLines = new int[files.size()];
+        int line = 1;
+        for (int i = 0; i < files.size(); i++) {
+            fileStartLines[i] = line;
+            line += countLines(files.get(i).getContent());
+        }
+        this.projectLines = line - 1;
+    }
+
+    /** Whether the Java line is part of the generated wrapper code: the imports, the class header and closing brace */
+    public boolean isWrapperLine(int javaLine) {
+        return (javaLine >= 1 && javaLine <= headerLines) || javaLine == headerLines + projectLines + 1;
+    }
+
+    /**
+     * Find the file and line of a line in the Java code. Line 0, which rules use for violations without a position,
+     * maps to line -1 of the first file.
+     */
+    public LineInFile mapJavaLine(int javaLine) {
+        if (javaLine < 1) {
+            return mapProjectLine(-1);
+        }
+        if (javaLine <= headerLines) {
+            throw new IndexOutOfBoundsException(javaLine);
+        }
+        return mapProjectLine(javaLine - headerLines);
+    }
+
+    /** Find the file and line of a line in the combined Processing code of all files */
+    public LineInFile mapProjectLine(int line) {
+        if (line == 0 || line > projectLines || files.isEmpty())
+            throw new IndexOutOfBoundsException(line);
+        if (line < 0)
+            return new LineInFile(line, files.get(0));
+
+        int index = Arrays.binarySearch(fileStartLines, line);
+        // Not a start line itself, so take the file that starts before it
+        if (index < 0) {
+            index = -index - 2;
+        }
+        return new LineInFile(line - fileStartLines[index] + 1, files.get(index));
+    }
+
+    /** Find the line in the Java code of a line in one of the files, the reverse of {@link #mapJavaLine(int)} */
+    public int mapFileLine(ProcessingFile file, int line) {
+        int index = files.indexOf(file);
+        if (index < 0) {
+            throw new IllegalArgumentException("File is not part of the project: " + file.getName());
+        }
+        return headerLines + fileStartLines[index] + line - 1;
+    }
+
+    /** The Java line of the class header, the first line of the wrapper class */
+    public int getClassHeaderLine() {
+        return headerLines;
+    }
+
+    /** The Java line of the closing brace of the wrapper class */
+    public int getClassEndLine() {
+        return headerLines + projectLines + 1;
+    }
+
+    /** Find the column in the Processing file of a column in the Java code, undoing the rewrites on that line */
+    public int mapJavaColumn(int javaLine, int javaColumn) {
+        int index = Arrays.binarySearch(rewriteLines, javaLine);
+        if (index < 0) {
+            return javaColumn;
+        }
+        // Binary search finds any of the rewrites on the line, go back to the first one
+        while (index > 0 && rewriteLines[index - 1] == javaLine) {
+            index--;
+        }
+        int column = javaColumn;
+        for (; index < rewriteLines.length && rewriteLines[index] == javaLine; index++) {
+            if (rewriteColumns[index] <= javaColumn) {
+                column -= rewriteShifts[index];
+            }
+        }
+        return column;
+    }
+
+    private static int countLines(String content) {
+        int lines = 1;
+        for (int i = 0; i < content.length(); i++) {
+            if (content.charAt(i) == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,53 @@
+package nl.utwente.processing.build;
+
+import nl.utwente.processing.ProcessingProject;
+
+import java.nio.file.Path;
+
+/**
+ * A way to build a sketch. The backend is chosen per runner, so the build can be swapped for a fake one to load-test
+ * the pipeline or measure the analysis on its own, on machines without Processing. The {@code toString()} of a backend
+ * names it with its settings, results of different backends are cached separately.
+ */
+public interface BuildBackend {
+
+    /**
+     * Build the sketch, giving up after the timeout. The folder is the sketch folder the project was read from, or
+     * null when it was not read from a folder.
+     */
+    BuildResult build(ProcessingProject project, Path folder, long timeoutMillis) throws Exception;
+
+    /**
+     * The version of what builds the sketches, like the Processing API they are compiled against or the installed
+     * Processing. It is part of the keys of the caches, so verdicts of another version are not used.
+     */
+    default String getVersion() {
+        return "";
+    }
+
+    /**
+     * What the verdict for the project depends on besides its files and the version, like the name of the sketch
+     * folder, which processing-java checks against the main tab. It is part of the keys of the caches.
+     */
+    default String getInputKey(ProcessingProject project) {
+        return "";
+    }
+
+    /** Whether the verdicts may be cached, false for a backend whose verdicts don't follow from the sketch */
+    default boolean isCacheable() {
+        return true;
+    }
+
+    /** The backend with the name: {@code javac}, {@code processing-java} or {@code fake[:<ms>[:<exit codes>]]} */
+    static BuildBackend forName(String name) {
+        if (name.equals("javac")) {
+            return new SketchCompiler();
+        } else if (name.equals("processing-java")) {
+            return new ProcessingJavaBuilder();
+        } else if (name.equals("fake") || name.startsWith("fake:")) {
+            return FakeBuildBackend.parse(name);
+        }
+        throw new IllegalArgumentException("Unknown build backend " + name
+                + ", use javac, processing-java or fake[:<ms>[:<exit codes>]]");
+    }
+}
@@ -0,0 +1,102 @@
+package nl.utwente.processing.build;
+
+import nl.utwente.processing.ContentHash;
+import nl.utwente.processing.LruFileStore;
+import nl.utwente.processing.ProcessingFile;
+import nl.utwente.processing.ProcessingProject;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+/**
+ * On-disk cache of build verdicts. Whether a sketch builds only depends on its Processing files and the backend that
+ * builds it, so unlike the analysis results, the verdicts stay valid when the rules or the rest of Zita change, and a
+ * cohort analysed again after a change to the rules is not built again. Entries are keyed by a hash of the files,
+ * sorted by name, and the backend with its version, like the Processing API sketches are compiled against or the
+ * installed Processing, and what else the backend reads, like the name of the sketch folder for processing-java.
+ * Backends that aren't {@link BuildBackend#isCacheable() cacheable} are never looked up. They hold whether the build succeeded, the error message and how long the build took.
+ * Timeouts are not cached, as they depend on the load of the machine. When the cache grows beyond its size limit, the
+ * least recently used entries are removed.
+ */
+public class BuildCache {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String EXTENSION = ".build";
+
+    private final LruFileStore store;
+
+    /** Open the cache in the directory, keeping the entries that are already there */
+    public BuildCache(Path directory, long maxBytes) throws IOException {
+        this.store = new LruFileStore(directory, maxBytes, EXTENSION, "build cache");
+    }
+
+    /**
+     * The key of the build of a project with the backend. The files are sorted by name, as the order they were read
+     * in doesn't change whether the sketch builds.
+     */
+    public String key(ProcessingProject project, BuildBackend backend) {
+        var hash = new ContentHash()
+                .add("format " + FORMAT_VERSION)
+                .add(backend.toString())
+                .add(backend.getVersion())
+                .add(backend.getInputKey(project));
+        project.getFiles().stream()
+                .sorted(Comparator.comparing(ProcessingFile::getName))
+                .forEach(file -> hash.add(file.getName()).addSource(file.getContent()));
+        return hash.toHex();
+    }
+
+    /** Find the verdict for the key, or null when there is no usable entry */
+    public BuildResult get(String key) {
+        return store.get(key, in -> {
+            if (in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unknown cache format");
+            }
+            return BuildResult.cached(in.readBoolean(), in.readUTF(), in.readLong());
+        });
+    }
+
+    /** Store the verdict of a build, unless it timed out */
+    public void put(String key, BuildResult result) {
+        if (result.isTimedOut()) {
+            return;
+        }
+        store.put(key, out -> {
+            out.writeInt(FORMAT_VERSION);
+            out.writeBoolean(result.isSuccess());
+            out.writeUTF(truncate(result.getErrorMessage()));
+            out.writeLong(result.getBuildMillis());
+        });
+    }
+
+    /** Error messages are a few lines, cut off the rare one that doesn't fit writeUTF */
+    private static String truncate(String message) {
+        return message.length() > 16_000 ? message.substring(0, 16_000) : message;
+    }
+
+    public long getHits() {
+        return store.getHits();
+    }
+
+    public long getMisses() {
+        return store.getMisses();
+    }
+
+    public long getEvictions() {
+        return store.getEvictions();
+    }
+
+    public int getEntryCount() {
+        return store.getEntryCount();
+    }
+
+    public long getSizeBytes() {
+        return store.getSizeBytes();
+    }
+
+    @Override
+    public String toString() {
+        return "Build cache: " + store;
+    }
+}
@@ -0,0 +1,316 @@
+package nl.utwente.processing.build;
+
+import nl.utwente.processing.ProcessingProject;
+import nl.utwente.processing.events.BuildEvent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs sketch builds on a fixed number of build workers, shared by all analysis workers. Builds can take much more
+ * memory and time than analysing a sketch, so the number of builds at the same time is capped separately, and further
+ * builds wait in a queue. Every build has a deadline that counts from when it starts: at the deadline its result is a
+ * timeout, also when the build itself does not stop. Only processing-java builds are stopped at the deadline, their
+ * processes are killed; an in-process build that goes on keeps its build worker busy. Such abandoned builds don't
+ * count against the cap, another build worker is started for each, up to the number of build workers, so hanging
+ * builds can't stall the queue for good. With a {@link BuildCache}, sketches that were built before are not built
+ * again.
+ */
+public final class BuildExecutor implements AutoCloseable {
+
+    /** A build that runs on a build worker, it should give up by itself after the timeout */
+    @FunctionalInterface
+    public interface Task {
+        BuildResult run(long timeoutMillis) throws Exception;
+    }
+
+    private static BuildExecutor defaultExecutor;
+
+    private final int size;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor workers;
+    /** Completes builds at their deadline, the deadline of a build is cancelled when the build finishes */
+    private final ScheduledThreadPoolExecutor deadlines;
+    /** Builds that went on after their deadline, guarded by this */
+    private int abandoned;
+    private volatile BiConsumer<String, BuildResult> listener;
+    private volatile BuildCache cache;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicLong builds = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong totalQueueMillis = new AtomicLong();
+    private final AtomicLong maxQueueMillis = new AtomicLong();
+    private final AtomicLong totalBuildMillis = new AtomicLong();
+    private final AtomicLong maxBuildMillis = new AtomicLong();
+
+    public BuildExecutor(int size, long timeoutMillis) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Number of build workers must be at least 1, got " + size);
+        }
+        if (timeoutMillis < 1) {
+            throw new IllegalArgumentException("Build timeout must be positive, got " + timeoutMillis + " ms");
+        }
+        this.size = size;
+        this.timeoutMillis = timeoutMillis;
+        var counter = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    var thread = new Thread(runnable, "zita-build-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.deadlines = new ScheduledThreadPoolExecutor(1, runnable -> {
+            var thread = new Thread(runnable, "zita-build-deadlines");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Most builds finish before their deadline, don't keep the cancelled deadlines until they pass
+        this.deadlines.setRemoveOnCancelPolicy(true);
+    }
+
+    /** The executor for runners that were not given one, with the default size and timeout */
+    public static synchronized BuildExecutor getDefault() {
+        if (defaultExecutor == null) {
+            defaultExecutor = new BuildExecutor(defaultSize(), defaultTimeoutMillis());
+        }
+        return defaultExecutor;
+    }
+
+    /** Half the cores, a build keeps a core busy and the analysis workers need the others */
+    public static int defaultSize() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    public static long defaultTimeoutMillis() {
+        return 30_000;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Called with the name and result of every finished build, on the thread that finished it, and of every build
+     * served from the cache
+     */
+    public void setListener(BiConsumer<String, BuildResult> listener) {
+        this.listener = listener;
+    }
+
+    /** Cache the verdicts of the builds of projects, null to build every time */
+    public void setCache(BuildCache cache) {
+        this.cache = cache;
+    }
+
+    public BuildCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Build the project with the backend, in the folder of the project. Without a build cache, with a backend that
+     * can't be cached, or when the cache has no verdict for the project, the build is queued; otherwise the cached
+     * verdict is returned right away.
+     */
+    public CompletableFuture<BuildResult> submit(String name, ProcessingProject project, BuildBackend backend) {
+        var cache = this.cache;
+        if (cache == null || !backend.isCacheable()) {
+            return submit(name, backend.toString(),
+                    timeoutMillis -> backend.build(project, project.getFolder(), timeoutMillis));
+        }
+        var key = cache.key(project, backend);
+        var cached = cache.get(key);
+        if (cached != null) {
+            var event = new BuildEvent();
+            if (event.shouldCommit()) {
+                event.submission = name;
+                event.backend = backend.toString();
+                event.success = cached.isSuccess();
+                event.timedOut = cached.isTimedOut();
+                event.cached = true;
+                event.commit();
+            }
+            notifyListener(name, cached);
+            return CompletableFuture.completedFuture(cached);
+        }
+        return submit(name, backend.toString(), timeoutMillis -> {
+            long started = System.nanoTime();
+            var result = backend.build(project, project.getFolder(), timeoutMillis);
+            // Builds that throw are not cached, the exception may not happen again
+            cache.put(key, result.withTimes(0, System.nanoTime() - started));
+            return result;
+        });
+    }
+
+    /** Queue a build, it runs on the first build worker that is free */
+    public CompletableFuture<BuildResult> submit(String name, Task task) {
+        return submit(name, null, task);
+    }
+
+    private CompletableFuture<BuildResult> submit(String name, String backend, Task task) {
+        long submitted = System.nanoTime();
+        var result = new CompletableFuture<BuildResult>();
+        queued.incrementAndGet();
+        workers.execute(() -> {
+            queued.decrementAndGet();
+            running.incrementAndGet();
+            var event = new BuildEvent();
+            event.begin();
+            long started = System.nanoTime();
+            ScheduledFuture<?> deadline = deadlines.schedule(() -> {
+                if (finish(name, result, BuildResult.timeout(timeoutMillis, ""), submitted, started)) {
+                    abandon();
+                }
+            }, timeoutMillis, TimeUnit.MILLISECONDS);
+            BuildResult outcome;
+            try {
+                outcome = task.run(timeoutMillis);
+            } catch (Exception e) {
+                outcome = BuildResult.failure("Exception during build: " + e.getMessage(), "");
+            } finally {
+                deadline.cancel(false);
+                running.decrementAndGet();
+            }
+            if (!finish(name, result, outcome, submitted, started)) {
+                // The deadline passed, the worker that was started in its place is no longer needed
+                release();
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                // The result may be the timeout, when the build went on after its deadline
+                var timed = result.join();
+                event.submission = name;
+                event.backend = backend;
+                event.success = timed.isSuccess();
+                event.timedOut = timed.isTimedOut();
+                event.queueMillis = timed.getQueueMillis();
+                event.commit();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Complete the build with the outcome, unless it already timed out or finished. Returns whether this completed
+     * the build.
+     */
+    private boolean finish(String name, CompletableFuture<BuildResult> result, BuildResult outcome, long submitted,
+                           long started) {
+        long now = System.nanoTime();
+        var timed = outcome.withTimes(started - submitted, now - started);
+        if (!result.complete(timed)) {
+            return false;
+        }
+        builds.incrementAndGet();
+        if (timed.isTimedOut()) {
+            timeouts.incrementAndGet();
+        }
+        totalQueueMillis.addAndGet(timed.getQueueMillis());
+        maxQueueMillis.accumulateAndGet(timed.getQueueMillis(), Math::max);
+        totalBuildMillis.addAndGet(timed.getBuildMillis());
+        maxBuildMillis.accumulateAndGet(timed.getBuildMillis(), Math::max);
+        notifyListener(name, timed);
+        return true;
+    }
+
+    /** A build went on after its deadline, start another build worker in its place */
+    private synchronized void abandon() {
+        abandoned++;
+        resizeWorkers();
+    }
+
+    /** An abandoned build finally returned, so its worker takes builds again */
+    private synchronized void release() {
+        abandoned--;
+        resizeWorkers();
+    }
+
+    /** One more worker for every abandoned build, at most twice the number of build workers in all */
+    private void resizeWorkers() {
+        int workerCount = size + Math.max(0, Math.min(abandoned, size));
+        if (workerCount > workers.getMaximumPoolSize()) {
+            workers.setMaximumPoolSize(workerCount);
+            workers.setCorePoolSize(workerCount);
+        } else {
+            workers.setCorePoolSize(workerCount);
+            workers.setMaximumPoolSize(workerCount);
+        }
+    }
+
+    private void notifyListener(String name, BuildResult result) {
+        var listener = this.listener;
+        if (listener != null) {
+            listener.accept(name, result);
+        }
+    }
+
+    /** Builds waiting for a build worker */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /** Builds running now, including the abandoned ones */
+    public int getRunning() {
+        return running.get();
+    }
+
+    /**
+     * Builds that timed out but are still running. Each has a build worker started in its place, up to the number of
+     * build workers.
+     */
+    public synchronized int getAbandoned() {
+        return Math.max(0, abandoned);
+    }
+
+    /** Finished builds, including the ones that timed out, but not the ones served from the cache */
+    public long getBuilds() {
+        return builds.get();
+    }
+
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    public long getTotalQueueMillis() {
+        return totalQueueMillis.get();
+    }
+
+    public long getMaxQueueMillis() {
+        return maxQueueMillis.get();
+    }
+
+    public long getTotalBuildMillis() {
+        return totalBuildMillis.get();
+    }
+
+    public long getMaxBuildMillis() {
+        return maxBuildMillis.get();
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+        deadlines.shutdownNow();
+    }
+
+    @Override
+    public String toString() {
+        long count = Math.max(1, getBuilds());
+        return "Builds: " + getBuilds() + " on " + size + " build workers (" + getTimeouts() + " timed out, "
+                + getAbandoned() + " still running), queue wait "
+                + getTotalQueueMillis() / count + " ms average, " + getMaxQueueMillis() + " ms max, build time "
+                + getTotalBuildMillis() / count + " ms average, " + getMaxBuildMillis() + " ms max";
+    }
+}
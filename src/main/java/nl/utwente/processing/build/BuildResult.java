@@ -0,0 +1,89 @@
+package nl.utwente.processing.build;
+
+import java.util.concurrent.TimeUnit;
+
+/** The outcome of building a sketch, with how long the build waited for a worker and how long it took */
+public final class BuildResult {
+    private final boolean success;
+    private final boolean timedOut;
+    private final String errorMessage;
+    private final String output;
+    private final long queueNanos;
+    private final long buildNanos;
+    private final boolean cached;
+
+    private BuildResult(boolean success, boolean timedOut, String errorMessage, String output, long queueNanos,
+                        long buildNanos, boolean cached) {
+        this.success = success;
+        this.timedOut = timedOut;
+        this.errorMessage = errorMessage;
+        this.output = output;
+        this.queueNanos = queueNanos;
+        this.buildNanos = buildNanos;
+        this.cached = cached;
+    }
+
+    public static BuildResult success(String output) {
+        return new BuildResult(true, false, "", output, 0, 0, false);
+    }
+
+    public static BuildResult failure(String errorMessage, String output) {
+        return new BuildResult(false, false, errorMessage, output, 0, 0, false);
+    }
+
+    public static BuildResult timeout(long timeoutMillis, String output) {
+        return new BuildResult(false, true, "Build timeout after " + timeoutMillis / 1000 + " seconds", output, 0, 0,
+                false);
+    }
+
+    /** The same result with the times measured by the {@link BuildExecutor}, in {@link System#nanoTime()} units */
+    BuildResult withTimes(long queueNanos, long buildNanos) {
+        return new BuildResult(success, timedOut, errorMessage, output, queueNanos, buildNanos, false);
+    }
+
+    /** A result read back from the {@link BuildCache}, with the time the original build took */
+    static BuildResult cached(boolean success, String errorMessage, long buildMillis) {
+        return new BuildResult(success, false, errorMessage, "", 0, TimeUnit.MILLISECONDS.toNanos(buildMillis), true);
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /** Why the build failed, empty when it succeeded */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /** Everything the build printed, empty for builds that don't print */
+    public String getOutput() {
+        return output;
+    }
+
+    /** How long the build waited for a free build worker */
+    public long getQueueMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(queueNanos);
+    }
+
+    public long getQueueNanos() {
+        return queueNanos;
+    }
+
+    /** How long the build ran, at most the timeout of the executor */
+    public long getBuildMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(buildNanos);
+    }
+
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+
+    /** Whether the result came from the build cache instead of a build, cached results have no output */
+    public boolean isCached() {
+        return cached;
+    }
+}
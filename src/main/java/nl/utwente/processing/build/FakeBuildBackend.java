@@ -0,0 +1,72 @@
+package nl.utwente.processing.build;
+
+import nl.utwente.processing.ProcessingProject;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Pretends to build sketches, without a compiler or Processing. Every build takes the configured time and ends with
+ * the next exit code of the script, starting over after the last one: 0 is a successful build, anything else a failed
+ * one. A build that would take longer than the timeout times out, like a real one. The verdicts are not cached.
+ */
+public final class FakeBuildBackend implements BuildBackend {
+
+    private final long latencyMillis;
+    private final int[] exitCodes;
+    private final AtomicLong builds = new AtomicLong();
+
+    public FakeBuildBackend(long latencyMillis, int... exitCodes) {
+        if (latencyMillis < 0) {
+            throw new IllegalArgumentException("Build latency must not be negative, got " + latencyMillis + " ms");
+        }
+        if (exitCodes.length == 0) {
+            throw new IllegalArgumentException("At least one exit code is needed");
+        }
+        this.latencyMillis = latencyMillis;
+        this.exitCodes = exitCodes.clone();
+    }
+
+    /** Parse {@code fake[:<ms>[:<exit codes>]]}, e.g. {@code fake:250:0,0,1} */
+    static FakeBuildBackend parse(String name) {
+        String[] parts = name.split(":");
+        try {
+            long latency = parts.length > 1 ? Long.parseLong(parts[1]) : 0;
+            int[] codes = parts.length > 2
+                    ? Arrays.stream(parts[2].split(",")).mapToInt(code -> Integer.parseInt(code.trim())).toArray()
+                    : new int[] {0};
+            return new FakeBuildBackend(latency, codes);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid fake build backend " + name
+                    + ", use fake[:<ms>[:<exit codes>]]", ex);
+        }
+    }
+
+    @Override
+    public BuildResult build(ProcessingProject project, Path folder, long timeoutMillis) throws InterruptedException {
+        int exitCode = exitCodes[(int) (builds.getAndIncrement() % exitCodes.length)];
+        if (latencyMillis > timeoutMillis) {
+            Thread.sleep(timeoutMillis);
+            return BuildResult.timeout(timeoutMillis, "");
+        }
+        Thread.sleep(latencyMillis);
+        if (exitCode == 0) {
+            return BuildResult.success("Finished.");
+        }
+        return BuildResult.failure("Build exited with code " + exitCode, "");
+    }
+
+    /** The verdict is the next exit code of the script, a cached verdict would skip it */
+    @Override
+    public boolean isCacheable() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "fake:" + latencyMillis + ":"
+                + Arrays.stream(exitCodes).mapToObj(String::valueOf).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,142 @@
+package nl.utwente.processing.build;
+
+import nl.utwente.processing.ProcessingProject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Builds a sketch folder with {@code processing-java --build}. The output goes to a temporary file instead of a pipe,
+ * so the build never blocks on a full pipe and the deadline is kept even when the build keeps printing. When the
+ * deadline passes, the build and every process it started are killed.
+ */
+public final class ProcessingJavaBuilder implements BuildBackend {
+
+    /** Output after this many bytes is not read, a build that keeps printing fills the file until the deadline */
+    private static final int MAX_OUTPUT_BYTES = 1024 * 1024;
+    /** The version in the help of processing-java, like "Command line edition for Processing 3.5.4 (Java Mode)" */
+    private static final Pattern VERSION = Pattern.compile("Processing (\\S+)");
+    private static final long VERSION_TIMEOUT_MILLIS = 30_000;
+
+    /** The installed version of Processing, asked once */
+    private static String version;
+
+    private static final String INVALID_SKETCH_FOLDER_MESSAGE = String.join("\n",
+            "Your submission did NOT run successfully.",
+            "   - Please ensure your program runs on your machine and is free of errors. ",
+            "   - Please ensure you only upload a single zip file.",
+            "   - The zip file should contain a single folder.",
+            "   - The single folder should contain all your Processing files for your project.",
+            "   - The name of the folder should match the name of your main Processing file/tab that contains your draw and setup functions.",
+            "   - The simplest way to achieve this is to right-click on your project folder that contains your Processing files and zip/compress that folder.",
+            "   - Please reupload your submission and check if we can build it.");
+
+    @Override
+    public BuildResult build(ProcessingProject project, Path folder, long timeoutMillis)
+            throws IOException, InterruptedException {
+        if (folder == null) {
+            throw new IllegalStateException("Sketch path is null");
+        }
+        Path log = Files.createTempFile("zita-build-", ".log");
+        try {
+            // Use --build to just compile, not run
+            var process = new ProcessBuilder("processing-java", "--sketch=" + folder, "--build")
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile())
+                    .start();
+            if (!process.waitFor(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                killTree(process.toHandle());
+                return BuildResult.timeout(timeoutMillis, readOutput(log));
+            }
+
+            String output = readOutput(log);
+            if (output.contains("Finished") || process.exitValue() == 0) {
+                return BuildResult.success(output);
+            } else if (output.contains("Not a valid sketch folder")) {
+                return BuildResult.failure(INVALID_SKETCH_FOLDER_MESSAGE, output);
+            }
+            return BuildResult.failure(extractErrorMessages(output), output);
+        } finally {
+            Files.deleteIfExists(log);
+        }
+    }
+
+    /** The installed version of Processing, or "unknown" when processing-java doesn't say */
+    @Override
+    public String getVersion() {
+        return getProcessingVersion();
+    }
+
+    private static synchronized String getProcessingVersion() {
+        if (version != null) {
+            return version;
+        }
+        try {
+            Path log = Files.createTempFile("zita-version-", ".log");
+            try {
+                var process = new ProcessBuilder("processing-java", "--help")
+                        .redirectErrorStream(true)
+                        .redirectOutput(log.toFile())
+                        .start();
+                if (!process.waitFor(VERSION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    killTree(process.toHandle());
+                }
+                var matcher = VERSION.matcher(readOutput(log));
+                version = matcher.find() ? matcher.group(1) : "unknown";
+            } finally {
+                Files.deleteIfExists(log);
+            }
+        } catch (IOException e) {
+            // Not installed, the builds fail by throwing and are not cached
+            version = "unknown";
+        } catch (InterruptedException e) {
+            // Asked again next time
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+        return version;
+    }
+
+    /** The name of the sketch folder, a folder that doesn't match the main tab fails the build */
+    @Override
+    public String getInputKey(ProcessingProject project) {
+        var folder = project.getFolder();
+        return folder == null || folder.getFileName() == null ? "" : "folder " + folder.getFileName();
+    }
+
+    @Override
+    public String toString() {
+        return "processing-java";
+    }
+
+    /** Kill the process and everything it started, the children first so they are not left behind */
+    private static void killTree(ProcessHandle process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    private static String readOutput(Path log) throws IOException {
+        try (InputStream input = Files.newInputStream(log)) {
+            return new String(input.readNBytes(MAX_OUTPUT_BYTES), StandardCharsets.UTF_8);
+        }
+    }
+
+    /** Extract just the error lines for cleaner output */
+    private static String extractErrorMessages(String output) {
+        var errors = new StringBuilder();
+        for (String line : output.split("\n")) {
+            String lower = line.toLowerCase(Locale.ROOT);
+            if (lower.contains("error") || lower.contains("exception") || lower.contains("cannot find symbol")
+                    || lower.contains("expected")) {
+                errors.append(line).append('\n');
+            }
+        }
+        return errors.length() > 0 ? errors.toString() : output;
+    }
+}
@@ -0,0 +1,396 @@
+package nl.utwente.processing.build;
+
+import com.sun.source.util.JavacTask;
+import nl.utwente.processing.ContentHash;
+import nl.utwente.processing.ProcessingProject;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles Processing sketches with the Java compiler of the running JDK, without starting processing-java. The
+ * sketch is compiled against a stub of the Processing API that is bundled as source and compiled in memory once.
+ * The stub only declares the API, so a sketch that compiles against it builds with Processing. Libraries are not part
+ * of the stub, sketches that use one can't be checked and pass. The sketches in src/test/resources/builds must build
+ * against the stub. The compiler only analyses the sketch, no class files are written. This is the default build
+ * backend.
+ */
+public final class SketchCompiler implements BuildBackend {
+
+    /** The Processing API stub, in the resources under {@link #STUB_ROOT} */
+    private static final String[] STUB_SOURCES = {
+            "processing/core/PConstants.java",
+            "processing/core/PImage.java",
+            "processing/core/PGraphics.java",
+            "processing/core/PApplet.java",
+            "processing/core/PFont.java",
+            "processing/core/PMatrix.java",
+            "processing/core/PMatrix2D.java",
+            "processing/core/PMatrix3D.java",
+            "processing/core/PShape.java",
+            "processing/core/PSurface.java",
+            "processing/core/PVector.java",
+            "processing/data/FloatDict.java",
+            "processing/data/FloatList.java",
+            "processing/data/IntDict.java",
+            "processing/data/IntList.java",
+            "processing/data/JSONArray.java",
+            "processing/data/JSONObject.java",
+            "processing/data/StringDict.java",
+            "processing/data/StringList.java",
+            "processing/data/Table.java",
+            "processing/data/TableRow.java",
+            "processing/data/XML.java",
+            "processing/event/Event.java",
+            "processing/event/KeyEvent.java",
+            "processing/event/MouseEvent.java",
+            "processing/opengl/PGraphicsOpenGL.java",
+            "processing/opengl/PGraphics2D.java",
+            "processing/opengl/PGraphics3D.java",
+            "processing/opengl/PShader.java",
+    };
+    private static final String STUB_ROOT = "/processing/stubs/";
+    private static final Set<String> STUB_PACKAGES = stubPackages();
+    /** Change when the translation of sketches for the compiler, or the handling of its errors, changes */
+    private static final int TRANSLATION_VERSION = 2;
+    private static final List<String> OPTIONS = List.of("-proc:none", "-Xlint:none", "-nowarn", "--release", "11");
+    /** Errors after this many are only counted, the first errors are usually the ones to fix */
+    private static final int MAX_ERRORS = 10;
+    private static final String MISSING_PACKAGE_CODE = "compiler.err.doesnt.exist";
+    private static final Pattern MISSING_PACKAGE = Pattern.compile("package (\\S+) does not exist");
+    private static final String WEAKER_ACCESS_CODE = "compiler.err.override.weaker.access";
+    private static final Pattern ACCESS_MODIFIER = Pattern.compile("\\b(public|protected|private)\\b");
+    private static final JavaCompiler COMPILER = ToolProvider.getSystemJavaCompiler();
+
+    /** The compiled stub, shared by all compilers as compiling it takes a moment */
+    private static Map<String, ClassFile> stubClasses;
+    private static String version;
+
+    /** File managers cache the platform classes, but are not thread safe, so every thread gets its own */
+    private final ThreadLocal<StubFileManager> fileManagers =
+            ThreadLocal.withInitial(() -> new StubFileManager(standardFileManager(), getStubClasses()));
+
+    @Override
+    public BuildResult build(ProcessingProject project, Path folder, long timeoutMillis) {
+        return compile(project);
+    }
+
+    /**
+     * Compile the project. A failed result has the errors with the file and line in the sketch they are in. Sketches
+     * that use a package the stub and the JDK don't have, like a library, can't be checked and pass, with the
+     * packages in the output.
+     */
+    public BuildResult compile(ProcessingProject project) {
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        var source = new SourceFile("Processing.java", project.getCompilableJavaCode());
+        var task = (JavacTask) getCompiler().getTask(null, fileManagers.get(), diagnostics, OPTIONS, null,
+                List.of(source));
+        try {
+            task.analyze();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        var libraries = new TreeSet<String>();
+        var errors = new ArrayList<String>();
+        int errorCount = 0;
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() != Diagnostic.Kind.ERROR || isPublicOverride(diagnostic)) {
+                continue;
+            }
+            String library = getMissingLibrary(diagnostic);
+            if (library != null) {
+                libraries.add(library);
+            } else if (++errorCount <= MAX_ERRORS) {
+                errors.add(describe(project, diagnostic));
+            }
+        }
+        if (!libraries.isEmpty()) {
+            // The other errors may well be caused by the missing library
+            return BuildResult.success("Not checked, the sketch uses " + String.join(", ", libraries)
+                    + ", which can only be checked with processing-java");
+        }
+        if (errorCount > MAX_ERRORS) {
+            errors.add("and " + (errorCount - MAX_ERRORS) + " more errors");
+        }
+        return errors.isEmpty() ? BuildResult.success("") : BuildResult.failure(String.join("\n", errors), "");
+    }
+
+    /**
+     * The package of a "package does not exist" error when it is not part of the JDK or of the stub, i.e. when it
+     * is a Processing library or another library the student installed, null for other errors.
+     */
+    private static String getMissingLibrary(Diagnostic<? extends JavaFileObject> diagnostic) {
+        if (!MISSING_PACKAGE_CODE.equals(diagnostic.getCode())) {
+            return null;
+        }
+        var matcher = MISSING_PACKAGE.matcher(diagnostic.getMessage(Locale.ROOT));
+        if (!matcher.find()) {
+            return null;
+        }
+        String packageName = matcher.group(1);
+        if (packageName.startsWith("java.") || packageName.startsWith("javax.")) {
+            return null;
+        }
+        for (String stubPackage : STUB_PACKAGES) {
+            if (packageName.equals(stubPackage) || packageName.startsWith(stubPackage + ".")) {
+                return null;
+            }
+        }
+        return packageName;
+    }
+
+    /**
+     * Whether the error is a method of the sketch without an access modifier that overrides a public method of
+     * PApplet, like {@code void exit()}. Processing makes such methods public, so they build.
+     */
+    private static boolean isPublicOverride(Diagnostic<? extends JavaFileObject> diagnostic) {
+        if (!WEAKER_ACCESS_CODE.equals(diagnostic.getCode())
+                || !diagnostic.getMessage(Locale.ROOT).contains(" in Processing cannot override ")) {
+            return false;
+        }
+        String code;
+        try {
+            code = diagnostic.getSource().getCharContent(true).toString();
+        } catch (IOException e) {
+            return false;
+        }
+        // The modifiers are between the end of the previous member and the name of the method
+        int end = (int) diagnostic.getPosition();
+        int start = end;
+        while (start > 0 && ";{}".indexOf(code.charAt(start - 1)) < 0) {
+            start--;
+        }
+        return !ACCESS_MODIFIER.matcher(code.substring(start, end)).find();
+    }
+
+    /** The translation, the stub and the Java compiler, which can word its errors differently in another release */
+    @Override
+    public String getVersion() {
+        return getCompilerVersion();
+    }
+
+    private static synchronized String getCompilerVersion() {
+        if (version == null) {
+            var hash = new ContentHash().add("translation " + TRANSLATION_VERSION).add(Runtime.version().toString());
+            for (String path : STUB_SOURCES) {
+                hash.add(path).add(readStub(path));
+            }
+            version = hash.toHex();
+        }
+        return version;
+    }
+
+    /** The message of the error, with the position in the sketch when it is in the code of a tab */
+    private static String describe(ProcessingProject project, Diagnostic<? extends JavaFileObject> diagnostic) {
+        // Messages like "cannot find symbol" name the symbol on the next lines
+        String message = diagnostic.getMessage(Locale.ROOT).trim().replaceAll("\\s*\\R\\s*", ", ")
+                .replaceAll(" {2,}", " ");
+        int line = (int) diagnostic.getLineNumber();
+        if (line < 1 || project.isWrapperLine(line)) {
+            return message;
+        }
+        try {
+            var location = project.mapJavaProjectLineNumber(line);
+            return location.getFile().getName() + " line " + location.getLine() + ": " + message;
+        } catch (IndexOutOfBoundsException ex) {
+            return message;
+        }
+    }
+
+    /** The compiler of the JDK, fails when the Java runtime has no compiler */
+    private static JavaCompiler getCompiler() {
+        if (COMPILER == null) {
+            throw new IllegalStateException("Building sketches in-process needs a JDK, this Java runtime has no "
+                    + "compiler");
+        }
+        return COMPILER;
+    }
+
+    private static StandardJavaFileManager standardFileManager() {
+        var fileManager = getCompiler().getStandardFileManager(null, Locale.ROOT, StandardCharsets.UTF_8);
+        try {
+            // Only the stub is on the class path, not the libraries of Zita itself
+            fileManager.setLocation(StandardLocation.CLASS_PATH, Collections.emptyList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return fileManager;
+    }
+
+    private static synchronized Map<String, ClassFile> getStubClasses() {
+        if (stubClasses == null) {
+            stubClasses = compileStubs();
+        }
+        return stubClasses;
+    }
+
+    /** The packages of the stub, like processing.core */
+    private static Set<String> stubPackages() {
+        var packages = new HashSet<String>();
+        for (String path : STUB_SOURCES) {
+            packages.add(path.substring(0, path.lastIndexOf('/')).replace('/', '.'));
+        }
+        return Collections.unmodifiableSet(packages);
+    }
+
+    private static Map<String, ClassFile> compileStubs() {
+        var sources = new ArrayList<JavaFileObject>();
+        for (String path : STUB_SOURCES) {
+            sources.add(new SourceFile(path, readStub(path)));
+        }
+
+        var classes = new HashMap<String, ClassFile>();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (var fileManager = new StubFileManager(standardFileManager(), classes)) {
+            if (!getCompiler().getTask(null, fileManager, diagnostics, OPTIONS, null, sources).call()) {
+                throw new IllegalStateException("Processing API stub does not compile: "
+                        + diagnostics.getDiagnostics());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Collections.unmodifiableMap(classes);
+    }
+
+    private static String readStub(String path) {
+        try (InputStream input = SketchCompiler.class.getResourceAsStream(STUB_ROOT + path)) {
+            if (input == null) {
+                throw new IllegalStateException("Processing API stub " + path + " is missing");
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "javac";
+    }
+
+    /** File manager that puts the compiled stub classes on the class path, and compiles the stub to memory */
+    private static final class StubFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+        private final Map<String, ClassFile> classes;
+
+        StubFileManager(StandardJavaFileManager fileManager, Map<String, ClassFile> classes) {
+            super(fileManager);
+            this.classes = classes;
+        }
+
+        @Override
+        public Iterable<JavaFileObject> list(Location location, String packageName, Set<JavaFileObject.Kind> kinds,
+                                             boolean recurse) throws IOException {
+            Iterable<JavaFileObject> listed = super.list(location, packageName, kinds, recurse);
+            if (location != StandardLocation.CLASS_PATH || !kinds.contains(JavaFileObject.Kind.CLASS)) {
+                return listed;
+            }
+            var result = new ArrayList<JavaFileObject>();
+            for (ClassFile file : classes.values()) {
+                if (file.isIn(packageName, recurse)) {
+                    result.add(file);
+                }
+            }
+            if (result.isEmpty()) {
+                return listed;
+            }
+            listed.forEach(result::add);
+            return result;
+        }
+
+        @Override
+        public String inferBinaryName(Location location, JavaFileObject file) {
+            if (file instanceof ClassFile) {
+                return ((ClassFile) file).binaryName;
+            }
+            return super.inferBinaryName(location, file);
+        }
+
+        @Override
+        public boolean hasLocation(Location location) {
+            return location == StandardLocation.CLASS_PATH || super.hasLocation(location);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+                                                   FileObject sibling) {
+            var file = new ClassFile(className);
+            classes.put(className, file);
+            return file;
+        }
+    }
+
+    /** Source code in memory */
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String code;
+
+        SourceFile(String path, String code) {
+            super(URI.create("string:///" + path), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+
+    /** A compiled class in memory */
+    private static final class ClassFile extends SimpleJavaFileObject {
+        private final String binaryName;
+        private byte[] bytes = new byte[0];
+
+        ClassFile(String binaryName) {
+            super(URI.create("memory:///" + binaryName.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+            this.binaryName = binaryName;
+        }
+
+        boolean isIn(String packageName, boolean recurse) {
+            int end = binaryName.lastIndexOf('.');
+            String classPackage = end < 0 ? "" : binaryName.substring(0, end);
+            return classPackage.equals(packageName) || (recurse && classPackage.startsWith(packageName + "."));
+        }
+
+        @Override
+        public InputStream openInputStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return new ByteArrayOutputStream() {
+                @Override
+                public void close() {
+                    bytes = toByteArray();
+                }
+            };
+        }
+    }
+}
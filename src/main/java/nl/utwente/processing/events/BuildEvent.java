@@ -0,0 +1,40 @@
+package nl.utwente.processing.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A build of a sketch on a build worker. Builds that are served from the build cache are recorded as well, without
+ * a duration.
+ */
+@Name("nl.utwente.zita.Build")
+@Label("Sketch Build")
+@Category("Zita")
+@Description("A build of a sketch on a build worker, or a verdict served from the build cache")
+@StackTrace(false)
+public final class BuildEvent extends jdk.jfr.Event {
+
+    @Label("Submission")
+    public String submission;
+
+    @Label("Backend")
+    public String backend;
+
+    @Label("Success")
+    public boolean success;
+
+    @Label("Timed Out")
+    public boolean timedOut;
+
+    @Label("Cached")
+    public boolean cached;
+
+    @Label("Queue Time")
+    @Description("How long the build waited for a free build worker")
+    @Timespan(Timespan.MILLISECONDS)
+    public long queueMillis;
+}
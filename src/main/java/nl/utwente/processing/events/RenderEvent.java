@@ -0,0 +1,23 @@
+package nl.utwente.processing.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Rendering the results of a submission */
+@Name("nl.utwente.zita.Render")
+@Label("Render")
+@Category("Zita")
+@StackTrace(false)
+public final class RenderEvent extends jdk.jfr.Event {
+
+    @Label("Renderer")
+    public String renderer;
+
+    @Label("Submission")
+    public String submission;
+
+    @Label("Violations")
+    public int violations;
+}
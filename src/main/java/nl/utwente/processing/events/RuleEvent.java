@@ -0,0 +1,40 @@
+package nl.utwente.processing.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A rule applied to one compilation unit of a submission, or ending after the last one. Rules that report on the whole
+ * sketch do so when they end, like the build rule waiting for the build.
+ */
+@Name("nl.utwente.zita.Rule")
+@Label("Rule Execution")
+@Category("Zita")
+@Description("A rule applied to a compilation unit of a sketch, or ending after the last one")
+@StackTrace(false)
+public final class RuleEvent extends jdk.jfr.Event {
+
+    public static final String APPLY = "apply";
+    public static final String END = "end";
+
+    @Label("Rule")
+    public String rule;
+
+    @Label("Phase")
+    @Description("apply, once for every compilation unit, or end, once for the sketch")
+    public String phase;
+
+    @Label("File")
+    @Description("The file of the compilation unit, or of the sketch when the rule ends")
+    public String file;
+
+    @Label("Submission")
+    public String submission;
+
+    @Label("Violations")
+    @Description("The violations the rule reported in this phase, before suppression of the wrapper lines")
+    public int violations;
+}
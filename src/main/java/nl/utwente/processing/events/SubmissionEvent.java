@@ -0,0 +1,38 @@
+package nl.utwente.processing.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** The analysis of one submission by a runner, from translating it to rendering the results */
+@Name("nl.utwente.zita.Submission")
+@Label("Submission Analysis")
+@Category("Zita")
+@Description("Analysis of one sketch, from translating it to rendering the results")
+@StackTrace(false)
+public final class SubmissionEvent extends jdk.jfr.Event {
+
+    @Label("Submission")
+    @Description("The sketch folder, or null when the sketch wasn't read from a folder")
+    public String submission;
+
+    @Label("Files")
+    public int files;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+
+    @Label("Violations")
+    public int violations;
+
+    @Label("Cached")
+    @Description("Whether the results were served from the result cache")
+    public boolean cached;
+
+    @Label("Evaluation Mode")
+    public String mode;
+}
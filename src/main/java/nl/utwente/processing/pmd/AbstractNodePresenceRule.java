@@ -0,0 +1,72 @@
+package nl.utwente.processing.pmd;
+
+import net.sourceforge.pmd.lang.ast.Node;
+import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit;
+import nl.utwente.processing.pmd.utils.NodeTypeIndex;
+
+import java.util.List;
+
+/**
+ * Base class of rules that check whether a sketch uses a kind of node, like a loop or a ternary operator. The rule
+ * declares the node types it requires, and instead of visiting the tree it looks them up in the {@link NodeTypeIndex}
+ * of every tab, which is built once for all rules. Subclasses narrow down which nodes count with
+ * {@link #matches(Node)}, and report in {@code end} based on the first matching node and the tabs that were visited.
+ */
+public abstract class AbstractNodePresenceRule extends AbstractProcessingRule {
+
+	private final List<Class<? extends Node>> nodeTypes;
+	private Node firstMatch;
+	private ASTCompilationUnit firstUnit;
+	private ASTCompilationUnit lastUnit;
+
+	@SafeVarargs
+	protected AbstractNodePresenceRule(Class<? extends Node>... nodeTypes) {
+		this.nodeTypes = List.of(nodeTypes);
+		addRuleChainVisit(ASTCompilationUnit.class);
+	}
+
+	/** Whether the node of one of the required types counts, all of them do unless overridden */
+	protected boolean matches(Node node) {
+		return true;
+	}
+
+	@Override
+	protected void reset() {
+		firstMatch = null;
+		firstUnit = null;
+		lastUnit = null;
+	}
+
+	@Override
+	public Object visit(ASTCompilationUnit node, Object data) {
+		if (firstUnit == null) {
+			firstUnit = node;
+		}
+		lastUnit = node;
+		// Only the first match is kept, the index of later tabs isn't needed once one is found
+		if (firstMatch == null) {
+			firstMatch = getFacts(data, node).getNodeTypes().first(nodeTypes, this::matches);
+		}
+		return data;
+	}
+
+	/** Whether any tab of the sketch has a matching node */
+	protected boolean isPresent() {
+		return firstMatch != null;
+	}
+
+	/** The first matching node, in the first tab that has one, or null if there is none */
+	protected Node getFirstMatch() {
+		return firstMatch;
+	}
+
+	/** The compilation unit of the first tab that was visited */
+	protected ASTCompilationUnit getFirstUnit() {
+		return firstUnit;
+	}
+
+	/** The compilation unit of the last tab that was visited */
+	protected ASTCompilationUnit getLastUnit() {
+		return lastUnit;
+	}
+}
@@ -3,12 +3,125 @@ package nl.utwente.processing.pmd;
 import net.sourceforge.pmd.RuleContext;
 import net.sourceforge.pmd.lang.ast.Node;
 import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule;
+import nl.utwente.processing.pmd.utils.SketchFacts;
 
-public class AbstractProcessingRule extends AbstractJavaRule {
+import java.io.File;
+
+/**
+ * Base class of the Processing rules. Rule instances are reused for every sketch a PMDRunner analyses, so any state a
+ * rule collects while visiting a sketch must be cleared in {@link #reset()}.
+ * <p>
+ * When the tabs of a sketch are analysed separately, a rule visits every tab in turn and ends once for the whole
+ * sketch. Facts about the whole sketch are available from {@link #getProjectSymbols(Object)}, and violations are
+ * reported in the tab of their node, also when reported after visiting that tab.
+ * <p>
+ * Rules register the node types they visit with {@link #addRuleChainVisit(Class)}, so PMD walks a tab once for all
+ * rules and hands every rule only the nodes it asked for. The rule chain visits all nodes of one type, in the order
+ * they appear, before the nodes of the next registered type, and a visit must return instead of calling
+ * {@code super.visit}, which would visit the children a second time. A rule that needs the order of a full traversal,
+ * like keeping track of the class or method it is in, doesn't register any types and descends itself.
+ */
+public abstract class AbstractProcessingRule extends AbstractJavaRule {
+
+	private boolean decided;
+
+	/** Clear all state collected while visiting the previous sketch. Called before every sketch is visited. */
+	protected abstract void reset();
+
+	@Override
+	public void start(RuleContext ctx) {
+		super.start(ctx);
+		decided = false;
+		reset();
+	}
+
+	/**
+	 * Whether the outcome of the rule for the sketch is known, so it can stop visiting. In
+	 * {@link EvaluationMode#PASS_FAIL} mode this is the case after the first violation, any later violation isn't
+	 * reported. In full mode a rule is never decided.
+	 */
+	protected boolean isDecided() {
+		return decided;
+	}
+
+	/** The classes, fields and methods declared in all tabs of the sketch that is being analysed */
+	protected ProjectSymbols getProjectSymbols(Object data) {
+		return ProjectSymbols.from((RuleContext) data);
+	}
+
+	/** Facts about the compilation unit of the node that several rules need, shared by all rules */
+	protected SketchFacts getFacts(Object data, Node node) {
+		return getProjectSymbols(data).getFacts(node);
+	}
+
+	@Override
+	public void addViolation(Object data, Node node) {
+		report(data, node, () -> super.addViolation(data, node));
+	}
+
+	@Override
+	public void addViolation(Object data, Node node, String arg) {
+		report(data, node, () -> super.addViolation(data, node, arg));
+	}
+
+	@Override
+	public void addViolation(Object data, Node node, Object[] args) {
+		report(data, node, () -> super.addViolation(data, node, args));
+	}
+
+	@Override
+	public void addViolationWithMessage(Object data, Node node, String message) {
+		report(data, node, () -> super.addViolationWithMessage(data, node, message));
+	}
+
+	@Override
+	public void addViolationWithMessage(Object data, Node node, String message, int beginLine, int endLine) {
+		report(data, node, () -> super.addViolationWithMessage(data, node, message, beginLine, endLine));
+	}
+
+	@Override
+	public void addViolationWithMessage(Object data, Node node, String message, Object[] args) {
+		report(data, node, () -> super.addViolationWithMessage(data, node, message, args));
+	}
 
 	public void addViolationWithMessage(Object data, Node node, String msg, int beginLine, int endLine, Object[] args) {
-		RuleContext ruleContext = (RuleContext) data;
-		ruleContext.getLanguageVersion().getLanguageVersionHandler().getRuleViolationFactory().addViolation(ruleContext, this,
-				node, msg, beginLine, endLine, args);
+		report(data, node, () -> {
+			RuleContext ruleContext = (RuleContext) data;
+			ruleContext.getLanguageVersion().getLanguageVersionHandler().getRuleViolationFactory().addViolation(ruleContext, this,
+					node, msg, beginLine, endLine, args);
+		});
+	}
+
+	/** Report a violation, unless the outcome of the rule is already decided */
+	private void report(Object data, Node node, Runnable report) {
+		if (decided) {
+			return;
+		}
+		RuleContext ctx = (RuleContext) data;
+		if (EvaluationMode.from(ctx) == EvaluationMode.PASS_FAIL) {
+			// Suppressed violations are not added to the report, they don't decide the outcome
+			int before = ctx.getReport().size();
+			reportInFileOf(ctx, node, report);
+			decided = ctx.getReport().size() > before;
+			return;
+		}
+		reportInFileOf(ctx, node, report);
+	}
+
+	/** Report a violation in the file the node was parsed from, instead of the file that is being visited */
+	private void reportInFileOf(RuleContext ctx, Node node, Runnable report) {
+		ProjectSymbols symbols = ProjectSymbols.from(ctx);
+		String fileName = symbols == null || node == null ? null : symbols.getFileName(node);
+		File current = ctx.getSourceCodeFile();
+		if (fileName == null || (current != null && fileName.equals(current.getPath()))) {
+			report.run();
+			return;
+		}
+		ctx.setSourceCodeFile(new File(fileName));
+		try {
+			report.run();
+		} finally {
+			ctx.setSourceCodeFile(current);
+		}
 	}
 }
@@ -0,0 +1,23 @@
+package nl.utwente.processing.pmd;
+
+import nl.utwente.processing.ProcessingProject;
+import nl.utwente.processing.build.BuildBackend;
+import nl.utwente.processing.build.BuildExecutor;
+import nl.utwente.processing.build.BuildResult;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A rule with a slow check of the whole sketch that does not need the syntax tree, like building the sketch. The
+ * runner starts the check before the sketch is parsed, so it runs next to parsing and the other rules, and the rule
+ * waits for the result when it ends. Rules must still work when the check is not started, e.g. when PMD runs them.
+ */
+public interface AsyncSketchCheck {
+
+    /**
+     * Start the check of the project on the executor, its result belongs to the next sketch the rule visits. The
+     * executor caps how many of these checks run at the same time, the backend is the one the runner builds with.
+     * Returns the build of the check, so the runner can report how long it took.
+     */
+    CompletableFuture<BuildResult> startCheck(ProcessingProject project, BuildExecutor executor, BuildBackend backend);
+}
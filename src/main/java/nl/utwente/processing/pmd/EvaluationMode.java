@@ -0,0 +1,22 @@
+package nl.utwente.processing.pmd;
+
+import net.sourceforge.pmd.RuleContext;
+
+/** How much of the results of the rules a renderer needs, so the rules don't collect more than that */
+public enum EvaluationMode {
+    /** Every violation of every rule, with its message */
+    FULL,
+    /**
+     * Only whether each rule has a violation, like for marking. A rule stops visiting the sketch after its first
+     * violation, and its later violations are not reported.
+     */
+    PASS_FAIL;
+
+    static final String ATTRIBUTE = EvaluationMode.class.getName();
+
+    /** The mode of the analysis the rule context is used for */
+    public static EvaluationMode from(RuleContext ctx) {
+        Object mode = ctx.getAttribute(ATTRIBUTE);
+        return mode instanceof EvaluationMode ? (EvaluationMode) mode : FULL;
+    }
+}
@@ -0,0 +1,107 @@
+package nl.utwente.processing.pmd;
+
+import net.sourceforge.pmd.Rule;
+import net.sourceforge.pmd.RuleViolation;
+
+/**
+ * A violation with its file and position replaced, e.g. by the position in a Processing file. The other values are
+ * copied, so it is also used for the violations read back from the result cache.
+ */
+public class MappedRuleViolation implements RuleViolation {
+    private final Rule rule;
+    private final String description;
+    private final boolean suppressed;
+    private final String filename;
+    private final int beginLine;
+    private final int beginColumn;
+    private final int endLine;
+    private final int endColumn;
+    private final String packageName;
+    private final String className;
+    private final String methodName;
+    private final String variableName;
+
+    public MappedRuleViolation(RuleViolation violation, String filename, int beginLine, int beginColumn, int endLine,
+                               int endColumn) {
+        this(violation.getRule(), violation.getDescription(), violation.isSuppressed(), filename, beginLine,
+                beginColumn, endLine, endColumn, violation.getPackageName(), violation.getClassName(),
+                violation.getMethodName(), violation.getVariableName());
+    }
+
+    public MappedRuleViolation(Rule rule, String description, boolean suppressed, String filename, int beginLine,
+                               int beginColumn, int endLine, int endColumn, String packageName, String className,
+                               String methodName, String variableName) {
+        this.rule = rule;
+        this.description = description;
+        this.suppressed = suppressed;
+        this.filename = filename;
+        this.beginLine = beginLine;
+        this.beginColumn = beginColumn;
+        this.endLine = endLine;
+        this.endColumn = endColumn;
+        this.packageName = packageName;
+        this.className = className;
+        this.methodName = methodName;
+        this.variableName = variableName;
+    }
+
+    @Override
+    public Rule getRule() {
+        return rule;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public boolean isSuppressed() {
+        return suppressed;
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public int getBeginLine() {
+        return beginLine;
+    }
+
+    @Override
+    public int getBeginColumn() {
+        return beginColumn;
+    }
+
+    @Override
+    public int getEndLine() {
+        return endLine;
+    }
+
+    @Override
+    public int getEndColumn() {
+        return endColumn;
+    }
+
+    @Override
+    public String getPackageName() {
+        return packageName;
+    }
+
+    @Override
+    public String getClassName() {
+        return className;
+    }
+
+    @Override
+    public String getMethodName() {
+        return methodName;
+    }
+
+    @Override
+    public String getVariableName() {
+        return variableName;
+    }
+}
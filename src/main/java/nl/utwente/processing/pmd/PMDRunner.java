@@ -1,15 +1,35 @@
 package nl.utwente.processing.pmd;
 
 import net.sourceforge.pmd.*;
+import net.sourceforge.pmd.lang.Language;
+import net.sourceforge.pmd.lang.LanguageVersion;
+import net.sourceforge.pmd.lang.LanguageVersionHandler;
+import net.sourceforge.pmd.lang.Parser;
+import net.sourceforge.pmd.lang.ast.Node;
+import net.sourceforge.pmd.lang.xpath.Initializer;
 import net.sourceforge.pmd.renderers.Renderer;
-import net.sourceforge.pmd.util.ClasspathClassLoader;
 import net.sourceforge.pmd.util.datasource.DataSource;
 import net.sourceforge.pmd.util.datasource.ReaderDataSource;
+import nl.utwente.processing.ProcessingFile;
 import nl.utwente.processing.ProcessingProject;
+import nl.utwente.processing.SourceMap;
+import nl.utwente.processing.build.BuildBackend;
+import nl.utwente.processing.build.BuildExecutor;
+import nl.utwente.processing.build.BuildResult;
+import nl.utwente.processing.build.SketchCompiler;
+import nl.utwente.processing.events.RenderEvent;
+import nl.utwente.processing.events.SubmissionEvent;
+import java.io.File;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 /** Wrapper around PMD that allows for easy processing of projects */
@@ -17,11 +37,21 @@ public class PMDRunner {
 
     // PMD Docs: https://pmd.github.io/pmd-6.27.0/pmd_userdocs_tools_java_api.html
 
+    /** The name of the file the Java code of a sketch is analysed as */
+    private static final String FILE_NAME = "Processing.pde";
+
     private PMDConfiguration config;
     private RuleSetFactory ruleSetFactory;
 
     private RuleSets ruleSets;
-    private ArrayList<DataSource> datasources = new ArrayList<DataSource>();
+    private Set<Rule> brokenRules = new HashSet<>();
+    private boolean perTab = false;
+    private ResultCache resultCache;
+    private BuildExecutor buildExecutor;
+    private BuildBackend buildBackend = new SketchCompiler();
+    private Map<String, Rule> rulesByName;
+    private List<AsyncSketchCheck> asyncChecks;
+    private TimedRuleSets timedRuleSets;
 
 
     public PMDRunner() {
@@ -45,6 +75,19 @@ public class PMDRunner {
 
             throw new RuntimeException("Ruleset not found: " + e.getMessage());
         }
+        this.ruleSets.removeDysfunctionalRules(brokenRules);
+    }
+
+    /** Create a runner with its own deep copy of the rules of another runner, e.g. for use on another thread */
+    public PMDRunner(PMDRunner other) {
+        this.config = other.config;
+        this.ruleSetFactory = other.ruleSetFactory;
+        this.ruleSets = new RuleSets(other.ruleSets);
+        this.brokenRules = other.brokenRules;
+        this.perTab = other.perTab;
+        this.resultCache = other.resultCache;
+        this.buildExecutor = other.buildExecutor;
+        this.buildBackend = other.buildBackend;
     }
 
     public List<RuleSet> getRuleSets() {
@@ -58,34 +101,404 @@ public class PMDRunner {
             return ruleSetList;
         }
         return Collections.emptyList();
-    }/** Run a list of files through PMD, sending the results to the provided renderer */
+    }
+
+    /**
+     * Analyse every tab of a project as its own compilation unit, instead of all tabs joined together. A syntax error
+     * then only stops the analysis of the tab it is in. Rules still see the whole sketch: they are started and ended
+     * once per project, and the symbols of all tabs are available through {@link ProjectSymbols}.
+     */
+    public void setPerTab(boolean perTab) {
+        this.perTab = perTab;
+    }
+
+    public boolean isPerTab() {
+        return perTab;
+    }
+
+    /** Serve the results of projects that were analysed before from the cache, and store new results in it */
+    public void setResultCache(ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /** Run the builds of the sketches on the executor, instead of on the default executor */
+    public void setBuildExecutor(BuildExecutor buildExecutor) {
+        this.buildExecutor = buildExecutor;
+    }
+
+    /** The executor the builds of the sketches run on */
+    public BuildExecutor getBuildExecutor() {
+        return buildExecutor != null ? buildExecutor : BuildExecutor.getDefault();
+    }
+
+    /** Build the sketches with the backend, instead of compiling them in-process */
+    public void setBuildBackend(BuildBackend buildBackend) {
+        this.buildBackend = buildBackend;
+    }
+
+    public BuildBackend getBuildBackend() {
+        return buildBackend;
+    }
+
+    /**
+     * Run a project through PMD, sending the results to the provided renderer. The rule instances of this runner are
+     * reused for every project, instead of being copied and thrown away by PMD for every run, so a runner must only be
+     * used by one thread at a time.
+     */
     public void Run(ProcessingProject project, Renderer renderer) throws PMDException {
+        Run(project, renderer, EvaluationMode.FULL);
+    }
+
+    /**
+     * Run a project through PMD like {@link #Run(ProcessingProject, Renderer)}, collecting only as much of the results
+     * as the renderer needs. In {@link EvaluationMode#PASS_FAIL} mode a rule has at most one violation.
+     */
+    public void Run(ProcessingProject project, Renderer renderer, EvaluationMode mode) throws PMDException {
+        Run(project, renderer, mode, new Timings());
+    }
+
+    /**
+     * Run a project through PMD like {@link #Run(ProcessingProject, Renderer, EvaluationMode)}, adding the time of
+     * every stage and every rule to the timings. When Flight Recorder records them, the run is a
+     * {@link SubmissionEvent} and the rendering a {@link RenderEvent}.
+     */
+    public void Run(ProcessingProject project, Renderer renderer, EvaluationMode mode, Timings timings)
+            throws PMDException {
+        var event = new SubmissionEvent();
+        event.begin();
         try {
+            long started = System.nanoTime();
+            project.getJavaProjectCode();
+            timings.addStage(Timings.TRANSLATE, System.nanoTime() - started);
+
             renderer.start();
 
-            List<DataSource> datasources = Collections.singletonList(
-                    new ReaderDataSource(new StringReader(project.getJavaProjectCode()), "Processing.pde")
-            );
+            // Report the rules that were removed because they are misconfigured, like PMD does for every run
+            Report configReport = new Report();
+            for (Rule rule : brokenRules) {
+                configReport.addConfigError(new Report.ConfigurationError(rule, rule.dysfunctionReason()));
+            }
+            renderer.renderFileReport(configReport);
 
-            try {
-                PMD.processFiles(
-                        config,
-                        ruleSetFactory,
-                        datasources,
-                        new RuleContext(),
-                        Collections.singletonList(renderer)
-                );
-            } finally {
-                ClassLoader auxiliaryClassLoader = config.getClassLoader();
-                if (auxiliaryClassLoader instanceof ClasspathClassLoader) {
-                    ((ClasspathClassLoader) auxiliaryClassLoader).close();
+            DataSource dataSource = new ReaderDataSource(new StringReader(project.getJavaProjectCode()), FILE_NAME);
+            String fileName = dataSource.getNiceFileName(false, null);
+            renderer.startFileAnalysis(dataSource);
+            dataSource.close();
+
+            started = System.nanoTime();
+            String cacheKey = resultCache == null ? null : resultCache.key(project, perTab, buildBackend, mode);
+            Report report = cacheKey == null ? null : resultCache.get(cacheKey, this::findRule);
+            if (resultCache != null) {
+                timings.addStage(Timings.CACHE, System.nanoTime() - started);
+            }
+            event.cached = report != null;
+            if (report == null) {
+                var checks = startAsyncChecks(project);
+                report = apply(parse(project, fileName, timings), mode, timings);
+                addBuildTimes(checks, timings);
+                if (cacheKey != null) {
+                    started = System.nanoTime();
+                    resultCache.put(cacheKey, report);
+                    timings.addStage(Timings.CACHE, System.nanoTime() - started);
                 }
             }
 
+            var renderEvent = new RenderEvent();
+            renderEvent.begin();
+            started = System.nanoTime();
+            renderer.renderFileReport(report);
             renderer.end();
             renderer.flush();
+            timings.addStage(Timings.RENDER, System.nanoTime() - started);
+            renderEvent.end();
+            if (renderEvent.shouldCommit()) {
+                renderEvent.renderer = renderer.getClass().getName();
+                renderEvent.submission = String.valueOf(project.getFolder());
+                renderEvent.violations = report.getViolations().size();
+                renderEvent.commit();
+            }
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.submission = String.valueOf(project.getFolder());
+                event.files = project.getFiles().size();
+                event.bytes = project.getFiles().stream()
+                        .mapToLong(file -> file.getContent().getBytes(StandardCharsets.UTF_8).length).sum();
+                event.violations = report.getViolations().size();
+                event.mode = mode.name();
+                event.commit();
+            }
         } catch (Exception e) {
             throw new PMDException(e);
         }
     }
-}
\ No newline at end of file
+
+    /** Start the checks that run next to the analysis, before anything is parsed, and return their builds */
+    private List<CompletableFuture<BuildResult>> startAsyncChecks(ProcessingProject project) {
+        if (asyncChecks == null) {
+            asyncChecks = new ArrayList<>();
+            for (Rule rule : ruleSets.getAllRules()) {
+                if (rule instanceof AsyncSketchCheck) {
+                    asyncChecks.add((AsyncSketchCheck) rule);
+                }
+            }
+        }
+        var builds = new ArrayList<CompletableFuture<BuildResult>>(asyncChecks.size());
+        for (AsyncSketchCheck check : asyncChecks) {
+            builds.add(check.startCheck(project, getBuildExecutor(), buildBackend));
+        }
+        return builds;
+    }
+
+    /**
+     * Add the times of the builds that are done to the timings. Rules wait for their build when they end, also when the
+     * sketch didn't parse, so builds are only still running when the rules didn't end. Builds served from the build
+     * cache took no time.
+     */
+    private static void addBuildTimes(List<CompletableFuture<BuildResult>> builds, Timings timings) {
+        for (CompletableFuture<BuildResult> build : builds) {
+            BuildResult result = build.isDone() && !build.isCompletedExceptionally() ? build.join() : null;
+            if (result != null && !result.isCached()) {
+                timings.addStage(Timings.BUILD_QUEUE, result.getQueueNanos());
+                timings.addStage(Timings.BUILD, result.getBuildNanos());
+            }
+        }
+    }
+
+    /** Find a rule of this runner by name, to link cached violations to */
+    private Rule findRule(String name) {
+        if (rulesByName == null) {
+            rulesByName = new HashMap<>();
+            for (Rule rule : ruleSets.getAllRules()) {
+                rulesByName.putIfAbsent(rule.getName(), rule);
+            }
+        }
+        return rulesByName.get(name);
+    }
+
+    /**
+     * Parse a sketch like {@link #Run(ProcessingProject, Renderer)} does, whole or every tab on its own as set with
+     * {@link #setPerTab(boolean)}, so the rules can be {@link #apply applied} to it separately, e.g. to time them. Tabs
+     * that don't parse are reported as processing errors when the rules are applied.
+     */
+    public ParsedSketch parse(ProcessingProject project) {
+        return parse(project, FILE_NAME, new Timings());
+    }
+
+    /**
+     * Apply the rules to a parsed sketch and return the violations, in the Java code of the whole sketch like
+     * renderers get them. The checks that run next to the analysis, like the build, are started for every call with the
+     * build backend and executor of this runner, and the facts the rules share are collected again, as for every
+     * sketch. The sketch isn't changed, so the rules can be applied to it any number of times.
+     */
+    public Report apply(ParsedSketch sketch, EvaluationMode mode) {
+        startAsyncChecks(sketch.project);
+        return apply(sketch, mode, new Timings());
+    }
+
+    /**
+     * Parse the units of the project: the whole project, or every tab on its own. The units of the tabs are named by
+     * the id of their tab, made unique when tabs share an id or a tab has the file name of the project, so the
+     * violations can be traced back to their tab. The units are all parsed first, so the symbols of the whole project
+     * are known before the first rule runs.
+     */
+    private ParsedSketch parse(ProcessingProject project, String fileName, Timings timings) {
+        var units = new ArrayList<SourceUnit>();
+        Map<String, ProcessingProject> tabs = null;
+        if (perTab) {
+            tabs = new HashMap<>();
+            long started = System.nanoTime();
+            for (ProcessingFile file : project.getFiles()) {
+                var tab = new ProcessingProject(List.of(file));
+                String unitName = file.getId();
+                for (int n = 2; unitName.equals(fileName) || tabs.containsKey(unitName); n++) {
+                    unitName = file.getId() + " (" + n + ")";
+                }
+                units.add(new SourceUnit(unitName, tab.getJavaProjectCode(), tab.getSourceMap()));
+                tabs.put(unitName, tab);
+            }
+            timings.addStage(Timings.TRANSLATE, System.nanoTime() - started);
+        } else {
+            units.add(new SourceUnit(fileName, project.getJavaProjectCode(), project.getSourceMap()));
+        }
+
+        LanguageVersion languageVersion = config.getLanguageVersionOfFile(fileName);
+        LanguageVersionHandler handler = languageVersion.getLanguageVersionHandler();
+        Language language = languageVersion.getLanguage();
+        Initializer.initialize();
+
+        var sketch = new ParsedSketch(project, fileName, tabs);
+        for (SourceUnit unit : units) {
+            Parser parser = PMD.parserFor(languageVersion, config);
+            try {
+                long started = System.nanoTime();
+                Node root = parser.parse(unit.fileName, new StringReader(unit.javaCode));
+                timings.addStage(Timings.PARSE, System.nanoTime() - started);
+                var suppressed = new HashMap<>(parser.getSuppressMap());
+                if (!sketch.units.isEmpty()) {
+                    // Only the wrapper class of the first tab stands for the sketch, the others are not in the code
+                    for (int line = 1; line <= unit.sourceMap.getClassHeaderLine(); line++) {
+                        suppressed.put(line, "");
+                    }
+                    suppressed.put(unit.sourceMap.getClassEndLine(), "");
+                }
+                started = System.nanoTime();
+                handler.getQualifiedNameResolutionFacade(config.getClassLoader()).start(root);
+                handler.getSymbolFacade(config.getClassLoader()).start(root);
+                if (ruleSets.usesDFA(language)) {
+                    handler.getDataFlowFacade().start(root);
+                }
+                if (ruleSets.usesTypeResolution(language)) {
+                    handler.getTypeResolutionFacade(config.getClassLoader()).start(root);
+                }
+                if (ruleSets.usesMultifile(language)) {
+                    handler.getMultifileFacade().start(root);
+                }
+                timings.addStage(Timings.SYMBOLS, System.nanoTime() - started);
+                sketch.units.add(new ProjectSymbols.Unit(unit.fileName, unit.sourceMap, root));
+                sketch.suppressed.add(suppressed);
+            } catch (RuntimeException e) {
+                sketch.errors.add(new Report.ProcessingError(
+                        new net.sourceforge.pmd.PMDException("Error while parsing " + unit.fileName, e), unit.fileName));
+            }
+        }
+        return sketch;
+    }
+
+    /**
+     * Apply the rules to the parsed units, like PMD's SourceCodeProcessor does for a single file. The rules are
+     * started before the first unit and ended after the last, so they collect state over all units. When the tabs were
+     * parsed on their own, the violations are then moved from the Java code of the tabs to the Java code of the whole
+     * project, so renderers get the same positions as when the tabs are analysed together.
+     */
+    private Report apply(ParsedSketch sketch, EvaluationMode mode, Timings timings) {
+        RuleContext ctx = new RuleContext();
+        Report report = Report.createReport(ctx, sketch.fileName);
+        ctx.setLanguageVersion(config.getLanguageVersionOfFile(sketch.fileName));
+        for (Report.ProcessingError error : sketch.errors) {
+            report.addError(error);
+        }
+        var reports = new ArrayList<Report>();
+        for (Map<Integer, String> suppressed : sketch.suppressed) {
+            Report unitReport = new Report();
+            unitReport.suppress(suppressed);
+            reports.add(unitReport);
+        }
+        ctx.setAttribute(ProjectSymbols.ATTRIBUTE, new ProjectSymbols(sketch.project, sketch.units));
+        ctx.setAttribute(EvaluationMode.ATTRIBUTE, mode);
+
+        if (timedRuleSets == null) {
+            timedRuleSets = new TimedRuleSets(ruleSets);
+        }
+        long started = System.nanoTime();
+        timedRuleSets.start(ctx, timings);
+        try {
+            for (int i = 0; i < sketch.units.size(); i++) {
+                var unit = sketch.units.get(i);
+                ctx.setSourceCodeFile(new File(unit.fileName));
+                ctx.setReport(reports.get(i));
+                timedRuleSets.apply(unit.root, ctx, timings);
+            }
+        } catch (RuntimeException e) {
+            report.addError(new Report.ProcessingError(
+                    new net.sourceforge.pmd.PMDException("Error while processing " + sketch.fileName, e),
+                    sketch.fileName));
+        } finally {
+            // Rules that report on the whole sketch do so when they end
+            ctx.setSourceCodeFile(new File(sketch.fileName));
+            ctx.setReport(report);
+            timedRuleSets.end(ctx, timings);
+            timings.addStage(Timings.RULES, System.nanoTime() - started);
+        }
+        for (Report unitReport : reports) {
+            report.merge(unitReport);
+        }
+        return sketch.tabs == null ? report : toProjectReport(sketch, report);
+    }
+
+    /** Move the violations of a sketch that was analysed per tab to the Java code of the whole project */
+    private static Report toProjectReport(ParsedSketch sketch, Report tabReport) {
+        var projectMap = sketch.project.getSourceMap();
+        Report report = new Report();
+        for (RuleViolation violation : tabReport.getViolations()) {
+            var tab = sketch.tabs.get(violation.getFilename());
+            if (tab == null) {
+                report.addRuleViolation(violation);
+                continue;
+            }
+            var tabMap = tab.getSourceMap();
+            var file = tab.getFiles().get(0);
+            int beginLine = toProjectLine(tabMap, projectMap, file, violation.getBeginLine());
+            int endLine = toProjectLine(tabMap, projectMap, file, violation.getEndLine());
+            report.addRuleViolation(new MappedRuleViolation(violation, sketch.fileName, beginLine,
+                    violation.getBeginColumn(), endLine, violation.getEndColumn()));
+        }
+        for (Report.ProcessingError error : tabReport.getProcessingErrors()) {
+            report.addError(error);
+        }
+        return report;
+    }
+
+    /** Map a line in the Java code of a tab to the Java code of the project. The rewrites within a line are the same. */
+    private static int toProjectLine(SourceMap tabMap, SourceMap projectMap, ProcessingFile file, int line) {
+        if (line < 1) {
+            return line;
+        }
+        if (line == tabMap.getClassEndLine()) {
+            return projectMap.getClassEndLine();
+        }
+        if (tabMap.isWrapperLine(line)) {
+            return projectMap.getClassHeaderLine();
+        }
+        return projectMap.mapFileLine(file, tabMap.mapJavaLine(line).getLine());
+    }
+
+    /** A sketch that is parsed and ready for the rules, see {@link #parse(ProcessingProject)} */
+    public static final class ParsedSketch {
+        final ProcessingProject project;
+        final String fileName;
+        /** The unit of every tab by its file name, or null when the sketch was parsed whole */
+        final Map<String, ProcessingProject> tabs;
+        final List<ProjectSymbols.Unit> units = new ArrayList<>();
+        /** The lines of every unit of which violations are suppressed */
+        final List<Map<Integer, String>> suppressed = new ArrayList<>();
+        /** The units that didn't parse */
+        final List<Report.ProcessingError> errors = new ArrayList<>();
+
+        private ParsedSketch(ProcessingProject project, String fileName, Map<String, ProcessingProject> tabs) {
+            this.project = project;
+            this.fileName = fileName;
+            this.tabs = tabs;
+        }
+
+        public ProcessingProject getProject() {
+            return project;
+        }
+
+        /** The parse trees of the units that parsed, the whole sketch or one per tab */
+        public List<Node> getRoots() {
+            var roots = new ArrayList<Node>(units.size());
+            for (ProjectSymbols.Unit unit : units) {
+                roots.add(unit.root);
+            }
+            return roots;
+        }
+    }
+
+    /** Java code to analyse, with the name of the file it is reported in and the map back to the Processing code */
+    private static final class SourceUnit {
+        final String fileName;
+        final String javaCode;
+        final SourceMap sourceMap;
+
+        SourceUnit(String fileName, String javaCode, SourceMap sourceMap) {
+            this.fileName = fileName;
+            this.javaCode = javaCode;
+            this.sourceMap = sourceMap;
+        }
+    }
+}
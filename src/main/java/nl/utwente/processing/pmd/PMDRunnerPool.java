@@ -0,0 +1,65 @@
+package nl.utwente.processing.pmd;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of worker threads that each analyse submissions with their own copy of the rules. PMD rules keep state while
+ * visiting a file, so a single rule set can't be shared between threads.
+ */
+public class PMDRunnerPool implements AutoCloseable {
+
+    /** A unit of work that is run on one of the workers, with the runner owned by that worker */
+    @FunctionalInterface
+    public interface Task<T> {
+        T run(PMDRunner runner) throws Exception;
+    }
+
+    private final int size;
+    private final ExecutorService executor;
+    private final ThreadLocal<PMDRunner> workerRunner;
+
+    public PMDRunnerPool(PMDRunner template, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1, got " + size);
+        }
+        this.size = size;
+        this.workerRunner = ThreadLocal.withInitial(() -> new PMDRunner(template));
+        this.executor = Executors.newFixedThreadPool(size, new WorkerThreadFactory());
+    }
+
+    /** The number of workers, defaults to the number of available cores when not configured */
+    public static int defaultSize() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /** Queue a task, it is run on the first worker that is free */
+    public <T> Future<T> submit(Task<T> task) {
+        return executor.submit(() -> task.run(workerRunner.get()));
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            var thread = new Thread(runnable, "zita-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
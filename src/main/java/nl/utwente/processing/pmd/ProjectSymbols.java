@@ -0,0 +1,157 @@
+package nl.utwente.processing.pmd;
+
+import net.sourceforge.pmd.RuleContext;
+import net.sourceforge.pmd.lang.ast.Node;
+import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceDeclaration;
+import net.sourceforge.pmd.lang.java.symboltable.ClassScope;
+import net.sourceforge.pmd.lang.java.symboltable.MethodNameDeclaration;
+import net.sourceforge.pmd.lang.java.symboltable.VariableNameDeclaration;
+import nl.utwente.processing.ProcessingFile;
+import nl.utwente.processing.ProcessingProject;
+import nl.utwente.processing.SourceMap;
+import nl.utwente.processing.pmd.utils.CallGraph;
+import nl.utwente.processing.pmd.utils.SketchFacts;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The classes, fields and methods declared in all tabs of a sketch. When the tabs are analysed as separate compilation
+ * units, a rule only visits one tab at a time, so facts about the whole sketch, like whether it has a setup method
+ * anywhere, must come from here. The symbols are collected after parsing and before the rules run, and are available
+ * to rules through {@link #from(RuleContext)}.
+ */
+public final class ProjectSymbols {
+
+    static final String ATTRIBUTE = ProjectSymbols.class.getName();
+
+    /** A parsed compilation unit: the code of a single tab, or of the whole sketch */
+    static final class Unit {
+        final String fileName;
+        final SourceMap sourceMap;
+        final Node root;
+
+        Unit(String fileName, SourceMap sourceMap, Node root) {
+            this.fileName = fileName;
+            this.sourceMap = sourceMap;
+            this.root = root;
+        }
+    }
+
+    private final ProcessingProject project;
+    private final Map<Node, Unit> units = new IdentityHashMap<>();
+    private final Map<String, ProcessingFile> classes = new LinkedHashMap<>();
+    private final Map<String, ProcessingFile> fields = new LinkedHashMap<>();
+    private final Map<String, ProcessingFile> methods = new LinkedHashMap<>();
+    private final Map<ClassScope, CallGraph> callGraphs = new IdentityHashMap<>();
+    private final Map<Node, SketchFacts> facts = new IdentityHashMap<>();
+    private ASTClassOrInterfaceDeclaration sketchClass;
+
+    /** Collect the symbols of the units, in the order of the tabs. Requires the symbol table of every unit. */
+    ProjectSymbols(ProcessingProject project, List<Unit> parsedUnits) {
+        this.project = project;
+        for (Unit unit : parsedUnits) {
+            units.put(unit.root, unit);
+            var wrapper = unit.root.getFirstDescendantOfType(ASTClassOrInterfaceDeclaration.class);
+            if (wrapper == null) {
+                continue;
+            }
+            if (sketchClass == null) {
+                sketchClass = wrapper;
+            }
+            for (var declaration : wrapper.findDescendantsOfType(ASTClassOrInterfaceDeclaration.class)) {
+                if (declaration.isNested()) {
+                    classes.putIfAbsent(declaration.getImage(), getTab(declaration));
+                }
+            }
+            if (wrapper.getScope() instanceof ClassScope) {
+                var scope = (ClassScope) wrapper.getScope();
+                for (VariableNameDeclaration field : scope.getVariableDeclarations().keySet()) {
+                    fields.putIfAbsent(field.getImage(), getTab(field.getNode()));
+                }
+                for (MethodNameDeclaration method : scope.getMethodDeclarations().keySet()) {
+                    methods.putIfAbsent(method.getName() + method.getParameterDisplaySignature(),
+                            getTab(method.getNode()));
+                }
+            }
+        }
+    }
+
+    /** The symbols of the sketch that is being analysed */
+    public static ProjectSymbols from(RuleContext ctx) {
+        return (ProjectSymbols) ctx.getAttribute(ATTRIBUTE);
+    }
+
+    /** The sketch the symbols are from, with all its tabs */
+    public ProcessingProject getProject() {
+        return project;
+    }
+
+    /** The classes declared in the sketch, and the tab that declares them */
+    public Map<String, ProcessingFile> getClasses() {
+        return Collections.unmodifiableMap(classes);
+    }
+
+    /** The global variables of the sketch, and the tab that declares them */
+    public Map<String, ProcessingFile> getFields() {
+        return Collections.unmodifiableMap(fields);
+    }
+
+    /** The signatures of the methods of the sketch, like {@code setup()}, and the tab that declares them */
+    public Map<String, ProcessingFile> getMethods() {
+        return Collections.unmodifiableMap(methods);
+    }
+
+    /** Whether the sketch declares a method with the signature in any tab */
+    public boolean hasMethod(String signature) {
+        return methods.containsKey(signature);
+    }
+
+    /**
+     * Whether the node is the class wrapped around the sketch. With separate tabs every tab has its own wrapper class,
+     * only the wrapper of the first tab counts, so rules that report on the sketch as a whole report once.
+     */
+    public boolean isSketchClass(Node node) {
+        return node == sketchClass;
+    }
+
+    /** The calls between the methods of the class, built when first asked for and shared by all rules */
+    public CallGraph getCallGraph(ClassScope scope) {
+        return callGraphs.computeIfAbsent(scope, CallGraph::new);
+    }
+
+    /** The facts of the compilation unit the node is in, collected when first asked for and shared by all rules */
+    public SketchFacts getFacts(Node node) {
+        return facts.computeIfAbsent(getRoot(node), SketchFacts::new);
+    }
+
+    /** The tab the node is in, or null when the node is part of the generated wrapper */
+    public ProcessingFile getTab(Node node) {
+        var unit = units.get(getRoot(node));
+        if (unit == null || node.getBeginLine() < 1 || unit.sourceMap.isWrapperLine(node.getBeginLine())) {
+            return null;
+        }
+        try {
+            return unit.sourceMap.mapJavaLine(node.getBeginLine()).getFile();
+        } catch (IndexOutOfBoundsException ex) {
+            return null;
+        }
+    }
+
+    /** The name of the file the node was parsed from, which violations of the node should be reported in */
+    String getFileName(Node node) {
+        var unit = units.get(getRoot(node));
+        return unit == null ? null : unit.fileName;
+    }
+
+    private static Node getRoot(Node node) {
+        Node root = node;
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        return root;
+    }
+}
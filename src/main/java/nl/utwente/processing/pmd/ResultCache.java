@@ -0,0 +1,181 @@
+package nl.utwente.processing.pmd;
+
+import net.sourceforge.pmd.Report;
+import net.sourceforge.pmd.Rule;
+import net.sourceforge.pmd.RuleViolation;
+import nl.utwente.processing.ContentHash;
+import nl.utwente.processing.LruFileStore;
+import nl.utwente.processing.ProcessingFile;
+import nl.utwente.processing.ProcessingProject;
+import nl.utwente.processing.build.BuildBackend;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * On-disk cache of analysis results, so resubmissions of the same sketch and untouched starter code are not analysed
+ * again. Entries are keyed by a hash of the Processing files, the rule set files and the Zita build, and hold the
+ * violations PMD reported, so every renderer can be served from the cache. When the cache grows beyond its size
+ * limit, the least recently used entries are removed. A cache can be shared by all runners of a pool.
+ */
+public class ResultCache {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String EXTENSION = ".result";
+
+    private final LruFileStore store;
+    private final String fingerprint;
+
+    /**
+     * Open the cache in the directory, keeping the entries that are already there.
+     * @param ruleSets The rule sets the cached results are for, as passed to the PMDRunner
+     */
+    public ResultCache(Path directory, long maxBytes, String ruleSets) throws IOException {
+        this.store = new LruFileStore(directory, maxBytes, EXTENSION, "result cache");
+        this.fingerprint = fingerprint(ruleSets);
+    }
+
+    /** Hash of the rule set files and the Zita build, which every key includes */
+    private static String fingerprint(String ruleSets) throws IOException {
+        var hash = new ContentHash()
+                .add("format " + FORMAT_VERSION)
+                .add(ContentHash.getZitaVersion());
+        for (String ruleSet : ruleSets.split(",")) {
+            var path = Path.of(ruleSet.trim());
+            hash.add(ruleSet.trim());
+            // Rule sets on the class path are part of the build, which is already in the fingerprint
+            if (Files.isRegularFile(path)) {
+                hash.add(Files.readAllBytes(path));
+            }
+        }
+        return hash.toHex();
+    }
+
+    /**
+     * The key of the results of a project. Line breaks are normalised, so the same sketch saved on another platform
+     * gets the same key. The order of the files is part of the key, as it determines the Java line numbers. The build
+     * backend, its version and what else it reads, like the sketch folder name for processing-java, are part of the
+     * key, as the build rule reports the verdict of the build. So is the evaluation mode, so the single violation per
+     * rule of a pass/fail run is not served to a renderer that shows all of them.
+     * @return The key, or null when the results can't be cached as the verdicts of the backend can't be
+     */
+    public String key(ProcessingProject project, boolean perTab, BuildBackend buildBackend, EvaluationMode mode) {
+        if (!buildBackend.isCacheable()) {
+            return null;
+        }
+        var hash = new ContentHash()
+                .add(fingerprint)
+                .add(perTab ? "per-tab" : "project")
+                .add(buildBackend.toString())
+                .add(buildBackend.getVersion())
+                .add(buildBackend.getInputKey(project))
+                .add(mode.name());
+        for (ProcessingFile file : project.getFiles()) {
+            hash.add(file.getName()).addSource(file.getContent());
+        }
+        return hash.toHex();
+    }
+
+    /**
+     * Find the results for the key, with the violations linked to the rules of the runner.
+     * @param rules Finds the rule with the given name
+     * @return The cached report, or null when there is no usable entry
+     */
+    public Report get(String key, Function<String, Rule> rules) {
+        return store.get(key, in -> {
+            if (in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unknown cache format");
+            }
+            var report = new Report();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                var ruleName = in.readUTF();
+                var rule = rules.apply(ruleName);
+                if (rule == null) {
+                    throw new IOException("Rule not found: " + ruleName);
+                }
+                report.addRuleViolation(new MappedRuleViolation(rule, readString(in), false, in.readUTF(), in.readInt(),
+                        in.readInt(), in.readInt(), in.readInt(), readString(in), readString(in), readString(in),
+                        readString(in)));
+            }
+            return report;
+        });
+    }
+
+    /** Store the violations of a report. Reports with processing errors are incomplete and are not stored. */
+    public void put(String key, Report report) {
+        if (report.hasErrors()) {
+            return;
+        }
+        List<RuleViolation> violations = report.getViolations();
+        store.put(key, out -> {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(violations.size());
+            for (RuleViolation violation : violations) {
+                out.writeUTF(violation.getRule().getName());
+                writeString(out, violation.getDescription());
+                out.writeUTF(violation.getFilename());
+                out.writeInt(violation.getBeginLine());
+                out.writeInt(violation.getBeginColumn());
+                out.writeInt(violation.getEndLine());
+                out.writeInt(violation.getEndColumn());
+                writeString(out, violation.getPackageName());
+                writeString(out, violation.getClassName());
+                writeString(out, violation.getMethodName());
+                writeString(out, violation.getVariableName());
+            }
+        });
+    }
+
+    public long getHits() {
+        return store.getHits();
+    }
+
+    public long getMisses() {
+        return store.getMisses();
+    }
+
+    public long getEvictions() {
+        return store.getEvictions();
+    }
+
+    public int getEntryCount() {
+        return store.getEntryCount();
+    }
+
+    public long getSizeBytes() {
+        return store.getSizeBytes();
+    }
+
+    @Override
+    public String toString() {
+        return "Result cache: " + store;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        // Descriptions can be longer than writeUTF allows
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,178 @@
+package nl.utwente.processing.pmd;
+
+import net.sourceforge.pmd.Report;
+import net.sourceforge.pmd.Rule;
+import net.sourceforge.pmd.RuleContext;
+import net.sourceforge.pmd.RuleSet;
+import net.sourceforge.pmd.RuleSets;
+import net.sourceforge.pmd.lang.ast.Node;
+import net.sourceforge.pmd.lang.java.ast.JavaNode;
+import net.sourceforge.pmd.lang.java.ast.JavaParserVisitor;
+import net.sourceforge.pmd.lang.rule.RuleReference;
+import net.sourceforge.pmd.lang.rule.XPathRule;
+import nl.utwente.processing.events.RuleEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Applies rule sets to Java code like {@link RuleSets} does, the rule chain first and then the rules that walk the
+ * tree themselves, but times every rule on its own. The time tracking of PMD adds up the times of all sketches the
+ * JVM analyses, also those analysed at the same time on other threads, so it can't tell the sketches apart. When
+ * Flight Recorder records them, every rule applied to a unit and every rule ending is a {@link RuleEvent}.
+ */
+final class TimedRuleSets {
+
+    private static final Logger LOG = Logger.getLogger(TimedRuleSets.class.getName());
+
+    private final RuleSets ruleSets;
+    /** The names of the node types any rule registered for the rule chain */
+    private final List<String> chainNodeNames = new ArrayList<>();
+
+    TimedRuleSets(RuleSets ruleSets) {
+        this.ruleSets = ruleSets;
+        for (Rule rule : ruleSets.getAllRules()) {
+            if (rule.isRuleChain()) {
+                for (String name : rule.getRuleChainVisits()) {
+                    if (!chainNodeNames.contains(name)) {
+                        chainNodeNames.add(name);
+                    }
+                }
+            }
+        }
+    }
+
+    void start(RuleContext ctx, Timings timings) {
+        for (RuleSet ruleSet : ruleSets.getAllRuleSets()) {
+            for (Rule rule : ruleSet.getRules()) {
+                long started = System.nanoTime();
+                rule.start(ctx);
+                timings.addRule(rule.getName(), System.nanoTime() - started);
+            }
+        }
+    }
+
+    /** Apply the rules to the compilation unit, reporting exceptions of a rule as processing error like PMD does */
+    void apply(Node root, RuleContext ctx, Timings timings) {
+        var nodesByName = index(root);
+        for (RuleSet ruleSet : ruleSets.getAllRuleSets()) {
+            if (!ruleSet.applies(ctx.getSourceCodeFile())) {
+                continue;
+            }
+            for (Rule rule : ruleSet.getRules()) {
+                if (rule.isRuleChain() && RuleSet.applies(rule, ctx.getLanguageVersion())) {
+                    Rule actualRule = rule instanceof RuleReference ? ((RuleReference) rule).getRule() : rule;
+                    var event = beginEvent(ctx);
+                    long started = System.nanoTime();
+                    try {
+                        for (String name : rule.getRuleChainVisits()) {
+                            for (Node node : nodesByName.get(name)) {
+                                visit(actualRule, node, ctx);
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        reportError(rule, ctx, e);
+                    }
+                    timings.addRule(rule.getName(), System.nanoTime() - started);
+                    commitEvent(event, rule, RuleEvent.APPLY, ctx);
+                }
+            }
+        }
+        for (RuleSet ruleSet : ruleSets.getAllRuleSets()) {
+            if (!ruleSet.applies(ctx.getSourceCodeFile())) {
+                continue;
+            }
+            for (Rule rule : ruleSet.getRules()) {
+                if (!rule.isRuleChain() && RuleSet.applies(rule, ctx.getLanguageVersion())) {
+                    var event = beginEvent(ctx);
+                    long started = System.nanoTime();
+                    try {
+                        rule.apply(List.of(root), ctx);
+                    } catch (RuntimeException e) {
+                        reportError(rule, ctx, e);
+                    }
+                    timings.addRule(rule.getName(), System.nanoTime() - started);
+                    commitEvent(event, rule, RuleEvent.APPLY, ctx);
+                }
+            }
+        }
+    }
+
+    void end(RuleContext ctx, Timings timings) {
+        for (RuleSet ruleSet : ruleSets.getAllRuleSets()) {
+            for (Rule rule : ruleSet.getRules()) {
+                var event = beginEvent(ctx);
+                long started = System.nanoTime();
+                rule.end(ctx);
+                timings.addRule(rule.getName(), System.nanoTime() - started);
+                commitEvent(event, rule, RuleEvent.END, ctx);
+            }
+        }
+    }
+
+    /** Start an event for a rule, counting the violations in the report only when the event is recorded */
+    private static RuleEvent beginEvent(RuleContext ctx) {
+        var event = new RuleEvent();
+        if (event.isEnabled()) {
+            event.violations = ctx.getReport().getViolations().size();
+            event.begin();
+        }
+        return event;
+    }
+
+    private static void commitEvent(RuleEvent event, Rule rule, String phase, RuleContext ctx) {
+        event.end();
+        if (event.shouldCommit()) {
+            var symbols = ProjectSymbols.from(ctx);
+            event.rule = rule.getName();
+            event.phase = phase;
+            event.file = String.valueOf(ctx.getSourceCodeFile());
+            event.submission = symbols == null ? null : String.valueOf(symbols.getProject().getFolder());
+            event.violations = ctx.getReport().getViolations().size() - event.violations;
+            event.commit();
+        }
+    }
+
+    /** The nodes of the types of the rule chain, in the order they appear in the tree, like the rule chain of PMD */
+    private Map<String, List<Node>> index(Node root) {
+        var nodesByName = new HashMap<String, List<Node>>();
+        for (String name : chainNodeNames) {
+            nodesByName.put(name, new ArrayList<>());
+        }
+        var stack = new ArrayDeque<Node>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            List<Node> nodes = nodesByName.get(node.getXPathNodeName());
+            if (nodes != null) {
+                nodes.add(node);
+            }
+            for (int i = node.getNumChildren() - 1; i >= 0; i--) {
+                stack.push(node.getChild(i));
+            }
+        }
+        return nodesByName;
+    }
+
+    private static void visit(Rule rule, Node node, RuleContext ctx) {
+        if (rule instanceof XPathRule) {
+            ((XPathRule) rule).evaluate(node, ctx);
+        } else {
+            ((JavaNode) node).jjtAccept((JavaParserVisitor) rule, ctx);
+        }
+    }
+
+    private static void reportError(Rule rule, RuleContext ctx, RuntimeException e) {
+        if (!ctx.isIgnoreExceptions()) {
+            throw e;
+        }
+        ctx.getReport().addError(new Report.ProcessingError(e, String.valueOf(ctx.getSourceCodeFile())));
+        LOG.log(Level.WARNING, "Exception applying rule " + rule.getName() + " on file " + ctx.getSourceCodeFile()
+                + ", continuing with next rule", e);
+    }
+}
@@ -0,0 +1,65 @@
+package nl.utwente.processing.pmd;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The spread of the timings of many sketches, like those of a cohort: the 50th, 95th and 99th percentile of every
+ * stage and every rule, and the total time. Rules are listed by their total time, so the rules that dominate the
+ * time of marking come first. Not thread safe, add the timings from one thread.
+ */
+public final class TimingSummary {
+
+    private final Map<String, List<Long>> stages = new LinkedHashMap<>();
+    private final Map<String, List<Long>> rules = new LinkedHashMap<>();
+    private int sketches;
+
+    /** Add the timings of a sketch */
+    public void add(Timings timings) {
+        sketches++;
+        timings.getStages().forEach((stage, nanos) -> stages.computeIfAbsent(stage, k -> new ArrayList<>()).add(nanos));
+        timings.getRules().forEach((rule, nanos) -> rules.computeIfAbsent(rule, k -> new ArrayList<>()).add(nanos));
+    }
+
+    public int getSketches() {
+        return sketches;
+    }
+
+    /** The percentile of the times, by the nearest rank method */
+    static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    @Override
+    public String toString() {
+        var text = new StringBuilder();
+        text.append("Timings of ").append(sketches).append(" sketches in ms\n");
+        text.append(String.format("%-40s %8s %10s %10s %10s %12s%n", "stage", "count", "p50", "p95", "p99", "total"));
+        stages.forEach((stage, times) -> appendRow(text, stage, times));
+        text.append(String.format("%-40s %8s %10s %10s %10s %12s%n", "rule", "count", "p50", "p95", "p99", "total"));
+        rules.entrySet().stream()
+                .sorted((a, b) -> Long.compare(total(b.getValue()), total(a.getValue())))
+                .forEach(entry -> appendRow(text, entry.getKey(), entry.getValue()));
+        return text.toString();
+    }
+
+    private static void appendRow(StringBuilder text, String name, List<Long> times) {
+        long[] sorted = times.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        text.append(String.format("%-40s %8d %10.2f %10.2f %10.2f %12.1f%n", name, sorted.length,
+                millis(percentile(sorted, 50)), millis(percentile(sorted, 95)), millis(percentile(sorted, 99)),
+                millis(total(times))));
+    }
+
+    private static long total(List<Long> times) {
+        return times.stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,93 @@
+package nl.utwente.processing.pmd;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How long the stages of the analysis of one sketch took, and every rule, in nanoseconds. The stages are those of the
+ * runner, in the order they ran, and the times of a stage that ran more than once, like parsing every tab, are added
+ * up. The build runs in the background, next to parsing and the rules, so its times overlap the other stages. The
+ * time of a rule covers starting it, applying it to every tab and ending it, the rules together take the rules stage.
+ */
+public final class Timings {
+
+    /** Finding and reading the files of the sketch */
+    public static final String LOAD = "load";
+    /** Translating the Processing code to Java */
+    public static final String TRANSLATE = "translate";
+    /** Looking up the results in the result cache and storing them */
+    public static final String CACHE = "cache";
+    /** Parsing the Java code */
+    public static final String PARSE = "parse";
+    /** Building the symbol tables, and the other facades the rules use */
+    public static final String SYMBOLS = "symbols";
+    /** Applying all rules, including the rule chain of PMD */
+    public static final String RULES = "rules";
+    /** Waiting for a build slot, in the background */
+    public static final String BUILD_QUEUE = "buildQueue";
+    /** Building the sketch, in the background */
+    public static final String BUILD = "build";
+    /** Rendering the results */
+    public static final String RENDER = "render";
+
+    private final Map<String, Long> stages = new LinkedHashMap<>();
+    private final Map<String, Long> rules = new LinkedHashMap<>();
+
+    /** Add the time of a stage, to the time it already took if it ran before */
+    public void addStage(String stage, long nanos) {
+        stages.merge(stage, nanos, Long::sum);
+    }
+
+    /** Add the time of a rule, to the time it already took if it ran before */
+    public void addRule(String rule, long nanos) {
+        rules.merge(rule, nanos, Long::sum);
+    }
+
+    /** The time of every stage that ran, in nanoseconds, in the order the stages first ran */
+    public Map<String, Long> getStages() {
+        return Collections.unmodifiableMap(stages);
+    }
+
+    /** The time of every rule that ran, in nanoseconds, in the order of the rule sets */
+    public Map<String, Long> getRules() {
+        return Collections.unmodifiableMap(rules);
+    }
+
+    /** The timings as JSON object, with the nanoseconds per stage and per rule */
+    public String toJson() {
+        return "{\n"
+                + "  \"unit\": \"ns\",\n"
+                + "  \"stages\": " + toJson(stages) + ",\n"
+                + "  \"rules\": " + toJson(rules) + "\n"
+                + "}\n";
+    }
+
+    private static String toJson(Map<String, Long> times) {
+        if (times.isEmpty()) {
+            return "{}";
+        }
+        var json = new StringBuilder("{\n");
+        for (var entry : times.entrySet()) {
+            if (json.length() > 2) {
+                json.append(",\n");
+            }
+            json.append("    \"").append(entry.getKey().replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append("\": ").append(entry.getValue());
+        }
+        return json.append("\n  }").toString();
+    }
+
+    @Override
+    public String toString() {
+        var text = new StringBuilder();
+        for (var entry : stages.entrySet()) {
+            if (text.length() > 0) {
+                text.append(", ");
+            }
+            text.append(entry.getKey()).append(' ').append(TimeUnit.NANOSECONDS.toMillis(entry.getValue())).append(" ms");
+        }
+        return text.toString();
+    }
+}
@@ -5,6 +5,7 @@ import net.sourceforge.pmd.renderers.AbstractIncrementingRenderer;
 import nl.utwente.processing.LineInFile;
 import nl.utwente.processing.ProcessingFile;
 import nl.utwente.processing.ProcessingProject;
+import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -22,11 +23,11 @@ public class AtelierStyleTextRenderer extends AbstractIncrementingRenderer {
     }
 
     @Override
-    public void renderFileViolations(Iterator<RuleViolation> violations) {
+    public void renderFileViolations(Iterator<RuleViolation> violations) throws IOException {
         LinkedList<String> liViolations = new LinkedList<>();
         Map<String, Integer> mViolations = new HashMap<String, Integer>();
 
-        System.out.println(
+        println(
                 "These suggestions were generated automatically by the Zita code quality tool. They are designed to help you improve your code, but they may occasionally be incorrect. If you’re unsure about any suggestion, please ask your TA for clarification.\n");
         /* Generate Comments for Violations Found */
         while (violations.hasNext()) {
@@ -35,7 +36,7 @@ public class AtelierStyleTextRenderer extends AbstractIncrementingRenderer {
             LineInFile begin, end;
             try {
 
-                if (violation.getBeginLine() != 1) {
+                if (!project.isWrapperLine(violation.getBeginLine())) {
                     begin = project.mapJavaProjectLineNumber(violation.getBeginLine());
                     end = project.mapJavaProjectLineNumber(violation.getEndLine());
                 } else {
@@ -46,13 +47,13 @@ public class AtelierStyleTextRenderer extends AbstractIncrementingRenderer {
                 }
 
                 if (!begin.getFile().getId().equals(end.getFile().getId())) {
-                    System.out.println("! Dismissing violation of " + violation.getRule().getName()
+                    println("! Dismissing violation of " + violation.getRule().getName()
                             + ": Line numbers are not in the same source file\n");
                     continue;
                 }
 
             } catch (IndexOutOfBoundsException ex) {
-                System.out.println("! Dismissing violation of " + violation.getRule().getName()
+                println("! Dismissing violation of " + violation.getRule().getName()
                         + ": Line number is not in a source file\n");
                 continue;
             }
@@ -111,21 +112,27 @@ public class AtelierStyleTextRenderer extends AbstractIncrementingRenderer {
 
         /* Print all comments */
         for (String sMsg : liViolations) {
-            System.out.println(sMsg);
+            println(sMsg);
         }
     }
 
     @Override
-    public void end() {
+    public void end() throws IOException {
         for (var err : errors) {
             if (err.getMsg().contains("Processing.pde")) {
-                System.out.println("Error during program load, ZITA could not properly read the program files.");
+                println("Error during program load, ZITA could not properly read the program files.");
             } else {
-                System.out.println("Error during program load, ZITA could not properly read the program files");
+                println("Error during program load, ZITA could not properly read the program files");
             }
         }
     }
 
+    /** Write a line to the renderer's writer, so output can be redirected per submission */
+    private void println(String line) throws IOException {
+        writer.write(line);
+        writer.write(System.lineSeparator());
+    }
+
     public String mAddSpacesToString(String sWord) {
         if (sWord.length() == 0) {
             return "";
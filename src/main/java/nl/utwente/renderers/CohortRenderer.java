@@ -0,0 +1,50 @@
+package nl.utwente.renderers;
+
+import net.sourceforge.pmd.Report;
+import net.sourceforge.pmd.Rule;
+import net.sourceforge.pmd.RuleSet;
+import net.sourceforge.pmd.RuleViolation;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Renderer for batch mode that adds the handover results of a submission to the summary of the cohort, instead of
+ * writing them. The messages of all violations of the rules the submission failed are added as well, so the rules
+ * must run in full mode; the report itself is not kept.
+ */
+public class CohortRenderer extends VivaHandoverRenderer {
+
+    private final CohortSummary summary;
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<String, Set<String>> messagesByRule = new HashMap<>();
+
+    public CohortRenderer(CohortSummary summary) {
+        this.summary = summary;
+    }
+
+    @Override
+    public void setRuleSets(List<RuleSet> ruleSets) {
+        super.setRuleSets(ruleSets);
+        rules.clear();
+        for (RuleSet ruleSet : ruleSets) {
+            rules.addAll(ruleSet.getRules());
+        }
+    }
+
+    @Override
+    public void renderFileReport(Report report) throws IOException {
+        for (RuleViolation violation : report.getViolations()) {
+            messagesByRule.computeIfAbsent(violation.getRule().getName(), k -> new LinkedHashSet<>())
+                    .add(violation.getDescription());
+        }
+        super.renderFileReport(report);
+    }
+
+    @Override
+    public void end() throws IOException {
+        Map<String, String> results = ruleResults();
+        // Rules that passed anyway, like the build rule, or could not be checked have no failure reason
+        messagesByRule.keySet().removeIf(rule -> !"fail".equals(results.get(rule)));
+        summary.add(rules, results, messagesByRule);
+    }
+}
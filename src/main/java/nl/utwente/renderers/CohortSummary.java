@@ -0,0 +1,164 @@
+package nl.utwente.renderers;
+
+import net.sourceforge.pmd.Rule;
+
+import java.util.*;
+
+/**
+ * Running totals of the handover results of a cohort: how many submissions passed, failed or could not be checked
+ * for every rule and every category of rule-category-mapping.properties, how many rules each submission failed, and
+ * how many submissions failed a rule with the same message. Only counters are kept, not the reports, so the memory
+ * does not grow with the cohort. The number of distinct messages that are counted is capped, further messages are
+ * only counted in total. Submissions are added from the analysis workers, so all methods are synchronized.
+ */
+public class CohortSummary {
+
+    /** Distinct rule and message pairs that are counted, students' identifiers in messages make them unbounded */
+    static final int MAX_MESSAGES = 10_000;
+    /** Messages listed in the summary */
+    static final int TOP_MESSAGES = 20;
+
+    private static final int PASS = 0;
+    private static final int FAIL = 1;
+    private static final int NA = 2;
+
+    private final Map<String, String> categories = new LinkedHashMap<>();
+    private final Map<String, long[]> ruleCounts = new LinkedHashMap<>();
+    private final Map<String, long[]> categoryCounts = new LinkedHashMap<>();
+    /** Submissions by the number of rules they failed */
+    private long[] failedRules = new long[1];
+    private final Map<List<String>, Long> messages = new HashMap<>();
+    private long otherMessages;
+    private long submissions;
+    private long errors;
+
+    /**
+     * Add the handover results of a submission, with the messages of the violations it has, by rule. A message is
+     * counted once per submission.
+     */
+    public synchronized void add(Collection<Rule> rules, Map<String, String> results,
+                                 Map<String, Set<String>> messagesByRule) {
+        for (Rule rule : rules) {
+            categories.computeIfAbsent(rule.getName(), name -> StudentFeedbackRenderer.getCategoryForRule(rule));
+        }
+        submissions++;
+        int failed = 0;
+        for (Map.Entry<String, String> result : results.entrySet()) {
+            int outcome = outcome(result.getValue());
+            if (outcome == FAIL) {
+                failed++;
+            }
+            ruleCounts.computeIfAbsent(result.getKey(), name -> new long[3])[outcome]++;
+            String category = categories.getOrDefault(result.getKey(), "uncategorized");
+            categoryCounts.computeIfAbsent(category, name -> new long[3])[outcome]++;
+        }
+        if (failed >= failedRules.length) {
+            failedRules = Arrays.copyOf(failedRules, failed + 1);
+        }
+        failedRules[failed]++;
+        for (Map.Entry<String, Set<String>> rule : messagesByRule.entrySet()) {
+            for (String message : rule.getValue()) {
+                var key = List.of(rule.getKey(), message);
+                if (messages.size() < MAX_MESSAGES || messages.containsKey(key)) {
+                    messages.merge(key, 1L, Long::sum);
+                } else {
+                    otherMessages++;
+                }
+            }
+        }
+    }
+
+    /** Count a submission that could not be analysed at all */
+    public synchronized void addError() {
+        errors++;
+    }
+
+    public synchronized long getSubmissions() {
+        return submissions;
+    }
+
+    private static int outcome(String result) {
+        switch (result) {
+            case "pass":
+                return PASS;
+            case "fail":
+                return FAIL;
+            default:
+                return NA;
+        }
+    }
+
+    /**
+     * The summary as JSON. The pass rate of a rule or category is the share of the submissions it could be checked
+     * for that passed, null when it could not be checked for any.
+     */
+    public synchronized String toJson() {
+        var json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"submissions\": ").append(submissions).append(",\n");
+        json.append("  \"errors\": ").append(errors).append(",\n");
+
+        json.append("  \"rules\": {");
+        String separator = "\n";
+        for (Map.Entry<String, long[]> rule : ruleCounts.entrySet()) {
+            json.append(separator).append("    \"").append(escapeJson(rule.getKey())).append("\": {\"category\": \"")
+                    .append(escapeJson(categories.getOrDefault(rule.getKey(), "uncategorized"))).append("\", ");
+            appendCounts(json, rule.getValue());
+            json.append("}");
+            separator = ",\n";
+        }
+        json.append(ruleCounts.isEmpty() ? "},\n" : "\n  },\n");
+
+        json.append("  \"categories\": {");
+        separator = "\n";
+        for (Map.Entry<String, long[]> category : categoryCounts.entrySet()) {
+            json.append(separator).append("    \"").append(escapeJson(category.getKey())).append("\": {");
+            appendCounts(json, category.getValue());
+            json.append("}");
+            separator = ",\n";
+        }
+        json.append(categoryCounts.isEmpty() ? "},\n" : "\n  },\n");
+
+        json.append("  \"failedRules\": [");
+        for (int i = 0; i < failedRules.length && submissions > 0; i++) {
+            json.append(i == 0 ? "" : ", ").append(failedRules[i]);
+        }
+        json.append("],\n");
+
+        json.append("  \"topMessages\": [");
+        separator = "\n";
+        var top = new ArrayList<>(messages.entrySet());
+        top.sort(Map.Entry.<List<String>, Long>comparingByValue().reversed()
+                .thenComparing(entry -> entry.getKey().get(0))
+                .thenComparing(entry -> entry.getKey().get(1)));
+        for (Map.Entry<List<String>, Long> message : top.subList(0, Math.min(TOP_MESSAGES, top.size()))) {
+            json.append(separator).append("    {\"rule\": \"").append(escapeJson(message.getKey().get(0)))
+                    .append("\", \"message\": \"").append(escapeJson(message.getKey().get(1)))
+                    .append("\", \"submissions\": ").append(message.getValue()).append("}");
+            separator = ",\n";
+        }
+        json.append(top.isEmpty() ? "],\n" : "\n  ],\n");
+        json.append("  \"otherMessages\": ").append(otherMessages).append("\n");
+        json.append("}\n");
+        return json.toString();
+    }
+
+    private static void appendCounts(StringBuilder json, long[] counts) {
+        long checked = counts[PASS] + counts[FAIL];
+        json.append("\"pass\": ").append(counts[PASS])
+                .append(", \"fail\": ").append(counts[FAIL])
+                .append(", \"na\": ").append(counts[NA])
+                .append(", \"passRate\": ")
+                .append(checked == 0 ? "null" : String.format(Locale.ROOT, "%.3f", (double) counts[PASS] / checked));
+    }
+
+    // Simple JSON string escaper
+    private static String escapeJson(String str) {
+        if (str == null) return "";
+        return str.replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("\n", "\\n")
+                .replace("\r", "\\r")
+                .replace("\t", "\\t");
+    }
+}
@@ -0,0 +1,124 @@
+package nl.utwente.renderers;
+
+import net.sourceforge.pmd.Report;
+import net.sourceforge.pmd.RuleViolation;
+import net.sourceforge.pmd.renderers.AbstractRenderer;
+import net.sourceforge.pmd.renderers.Renderer;
+import net.sourceforge.pmd.util.datasource.DataSource;
+import nl.utwente.processing.LineInFile;
+import nl.utwente.processing.ProcessingProject;
+import nl.utwente.processing.SourceMap;
+import nl.utwente.processing.pmd.MappedRuleViolation;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Renderer that maps the violations in the translated Java code back to the Processing files before passing them to
+ * another renderer, so renderers that know nothing about Processing, like the JSON, CSV and HTML renderers, report
+ * the file, line and column in the sketch. Violations of the generated wrapper class are not in any file, so like
+ * violations of the sketch as a whole they keep the name of the combined code and get line 0.
+ */
+public class SourceMappedRenderer extends AbstractRenderer {
+    private final Renderer renderer;
+    private final ProcessingProject project;
+
+    public SourceMappedRenderer(Renderer renderer, ProcessingProject project) {
+        super(renderer.getName(), renderer.getDescription());
+        this.renderer = renderer;
+        this.project = project;
+    }
+
+    @Override
+    public String defaultFileExtension() {
+        return renderer.defaultFileExtension();
+    }
+
+    @Override
+    public void setWriter(Writer writer) {
+        renderer.setWriter(writer);
+    }
+
+    @Override
+    public Writer getWriter() {
+        return renderer.getWriter();
+    }
+
+    @Override
+    public void start() throws IOException {
+        renderer.start();
+    }
+
+    @Override
+    public void startFileAnalysis(DataSource dataSource) {
+        renderer.startFileAnalysis(dataSource);
+    }
+
+    @Override
+    public void renderFileReport(Report report) throws IOException {
+        var sourceMap = project.getSourceMap();
+        var mapped = new Report();
+        for (RuleViolation violation : report.getViolations()) {
+            mapped.addRuleViolation(mapViolation(sourceMap, violation));
+        }
+        for (Report.ProcessingError error : report.getProcessingErrors()) {
+            mapped.addError(error);
+        }
+        for (Report.ConfigurationError error : report.getConfigurationErrors()) {
+            mapped.addConfigError(error);
+        }
+        renderer.renderFileReport(mapped);
+    }
+
+    @Override
+    public void end() throws IOException {
+        renderer.end();
+    }
+
+    @Override
+    public void flush() {
+        try {
+            renderer.flush();
+        } catch (IOException e) {
+            // Same as AbstractRenderer, which does not declare the exception either
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static RuleViolation mapViolation(SourceMap sourceMap, RuleViolation violation) {
+        int beginLine = violation.getBeginLine();
+        if (beginLine < 1) {
+            // Violations of the sketch as a whole already have no position
+            return violation;
+        }
+        LineInFile begin = null;
+        if (!sourceMap.isWrapperLine(beginLine)) {
+            try {
+                begin = sourceMap.mapJavaLine(beginLine);
+            } catch (IndexOutOfBoundsException ex) {
+                begin = null;
+            }
+        }
+        if (begin == null) {
+            return new MappedRuleViolation(violation, violation.getFilename(), 0, 1, 0, 1);
+        }
+        int beginColumn = sourceMap.mapJavaColumn(beginLine, violation.getBeginColumn());
+
+        // A violation that runs into the next file or the wrapper ends where it begins
+        int endLine = violation.getEndLine();
+        LineInFile end = null;
+        if (!sourceMap.isWrapperLine(endLine)) {
+            try {
+                end = sourceMap.mapJavaLine(endLine);
+            } catch (IndexOutOfBoundsException ex) {
+                end = null;
+            }
+        }
+        if (end == null || end.getFile() != begin.getFile()) {
+            return new MappedRuleViolation(violation, begin.getFile().getName(), begin.getLine(), beginColumn,
+                    begin.getLine(), beginColumn);
+        }
+        return new MappedRuleViolation(violation, begin.getFile().getName(), begin.getLine(), beginColumn,
+                end.getLine(), sourceMap.mapJavaColumn(endLine, violation.getEndColumn()));
+    }
+}
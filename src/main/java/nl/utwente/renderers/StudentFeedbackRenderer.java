@@ -107,7 +107,7 @@ public class StudentFeedbackRenderer extends AbstractAccumulatingRenderer {
         }
 
         try {
-            if (violation.getBeginLine() == 1) {
+            if (project.isWrapperLine(violation.getBeginLine())) {
                 return "";
             }
 
@@ -342,7 +342,7 @@ public class StudentFeedbackRenderer extends AbstractAccumulatingRenderer {
     }
 
     // Determine category for a given rule
-    private String getCategoryForRule(Rule rule) {
+    static String getCategoryForRule(Rule rule) {
         String ruleName = rule.getName();
         if (RULE_CATEGORY_MAP.containsKey(ruleName)) {
             return RULE_CATEGORY_MAP.get(ruleName);
@@ -355,7 +355,7 @@ public class StudentFeedbackRenderer extends AbstractAccumulatingRenderer {
     }
 
     // Helper to get a rule property value as string
-    private String getRuleProperty(Rule rule, String propertyName) {
+    private static String getRuleProperty(Rule rule, String propertyName) {
         try {
             PropertyDescriptor<?> descriptor = rule.getPropertyDescriptor(propertyName);
             if (descriptor != null) {
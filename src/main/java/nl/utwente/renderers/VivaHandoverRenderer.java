@@ -52,6 +52,31 @@ public class VivaHandoverRenderer extends AbstractAccumulatingRenderer {
     @Override
     // Final rendering of accumulated reports
     public void end() throws IOException {
+        Map<String, String> results = ruleResults();
+
+        writer.write("{\n");
+        writer.write("  \"rules\": {\n");
+
+        int count = 0;
+        int total = results.size();
+
+        for (Map.Entry<String, String> entry : results.entrySet()) {
+            count++;
+            writer.write("    \"" + escapeJson(entry.getKey()) + "\": \"" + entry.getValue() + "\"");
+            if (count < total) {
+                writer.write(",");
+            }
+            writer.write("\n");
+        }
+
+        writer.write("  }\n");
+        writer.write("}\n");
+
+        writer.flush();
+    }
+
+    /** Whether every rule of the rule sets passed, failed or could not be checked (N/A), in rule set order */
+    protected Map<String, String> ruleResults() {
         // Check for parsing errors
         boolean hasParsingErrors = false;
         for (Report report : accumulatedReports) {
@@ -94,25 +119,7 @@ public class VivaHandoverRenderer extends AbstractAccumulatingRenderer {
             }
         }
 
-        writer.write("{\n");
-        writer.write("  \"rules\": {\n");
-
-        int count = 0;
-        int total = results.size();
-
-        for (Map.Entry<String, String> entry : results.entrySet()) {
-            count++;
-            writer.write("    \"" + escapeJson(entry.getKey()) + "\": \"" + entry.getValue() + "\"");
-            if (count < total) {
-                writer.write(",");
-            }
-            writer.write("\n");
-        }
-
-        writer.write("  }\n");
-        writer.write("}\n");
-
-        writer.flush();
+        return results;
     }
 
     // Simple JSON string escaper
@@ -6,21 +6,31 @@ import net.sourceforge.pmd.lang.java.ast.ASTVariableDeclaratorId
 import net.sourceforge.pmd.lang.java.ast.ASTType
 import net.sourceforge.pmd.lang.java.ast.ASTBlockStatement
 import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Flags if arrays are not iterated using a for loop with an index/counter.
  * If an index-based for loop is found iterating an array, does not flag.
  * If only for-each loops or no loops are used, flags the code.
  */
-class ArrayIndexForLoopRule : AbstractJavaRule() {
+class ArrayIndexForLoopRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+        addRuleChainVisit(ASTForStatement::class.java)
+    }
     private var foundIndexBasedLoop = false
     private var compilationUnit: ASTCompilationUnit? = null
+    override fun reset() {
+        foundIndexBasedLoop = false
+        compilationUnit = null
+    }
+
     override fun visit(node: ASTCompilationUnit?, data: Any?): Any? {
         if (node != null) {
             compilationUnit = node
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTForStatement, data: Any?): Any? {
@@ -42,7 +52,7 @@ class ArrayIndexForLoopRule : AbstractJavaRule() {
             }
         }
 
-        return super.visit(node, data)
+        return data
     }
 
     private fun getLoopVariable(forStmt: ASTForStatement): String? {
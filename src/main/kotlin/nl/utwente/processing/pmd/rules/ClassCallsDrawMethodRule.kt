@@ -1,11 +1,9 @@
 package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.RuleContext
-import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceDeclaration
 import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
 import net.sourceforge.pmd.lang.java.ast.ASTMethodDeclaration
-import net.sourceforge.pmd.lang.java.ast.ASTPrimaryExpression
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 import nl.utwente.processing.pmd.symbols.ProcessingApplet
 
 /**
@@ -13,34 +11,38 @@ import nl.utwente.processing.pmd.symbols.ProcessingApplet
  * PASS: At least one inner class calls a drawing method
  * FAIL: No inner classes found OR no inner classes call drawing methods
  */
-class ClassCallsDrawMethodRule : AbstractJavaRule() {
+class ClassCallsDrawMethodRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+    }
     private var compilationUnit: ASTCompilationUnit? = null
     private var hasInnerClass = false
     private var hasInnerClassThatDraws = false
 
-    override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
-        compilationUnit = node
-        return super.visit(node, data)
+    override fun reset() {
+        compilationUnit = null
+        hasInnerClass = false
+        hasInnerClassThatDraws = false
     }
 
-    override fun visit(node: ASTClassOrInterfaceDeclaration, data: Any?): Any? {
-        if (node.isNested) {
+    override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
+        compilationUnit = node
+        val facts = getFacts(data, node)
+        for (innerClass in facts.innerClasses) {
             hasInnerClass = true
 
             // Check if this inner class has methods that call drawing functions
-            val methods = node.findDescendantsOfType(ASTMethodDeclaration::class.java)
-            for (methodDecl in methods) {
-                val methodCalls = methodDecl.findDescendantsOfType(ASTPrimaryExpression::class.java)
-                for (call in methodCalls) {
-                    val image = getMethodCallName(call)
-                    if (image != null && ProcessingApplet.DRAW_METHODS.any { it.name == image }) {
-                        hasInnerClassThatDraws = true
-                        return super.visit(node, data)  // Found one, we're done
-                    }
-                }
+            val methods = innerClass.findDescendantsOfType(ASTMethodDeclaration::class.java)
+            val draws = methods.any { method ->
+                facts.callSites(method).keys.any { it.substringBefore('.') in ProcessingApplet.DRAW_METHOD_INDEX }
+            }
+            if (draws) {
+                hasInnerClassThatDraws = true
+                break  // Found one, we're done
             }
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
@@ -70,10 +72,4 @@ class ClassCallsDrawMethodRule : AbstractJavaRule() {
         }
         super.end(ctx)
     }
-
-    private fun getMethodCallName(node: ASTPrimaryExpression): String? {
-        val prefix = node.getFirstChildOfType(net.sourceforge.pmd.lang.java.ast.ASTPrimaryPrefix::class.java)
-        val nameNode = prefix?.getFirstChildOfType(net.sourceforge.pmd.lang.java.ast.ASTName::class.java)
-        return nameNode?.image?.substringBefore('.')
-    }
-}
\ No newline at end of file
+}
@@ -1,26 +1,29 @@
 package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceDeclaration
-import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
 import net.sourceforge.pmd.lang.java.ast.ASTMethodDeclaration
 import net.sourceforge.pmd.lang.java.ast.ASTPrimaryExpression
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 import nl.utwente.processing.pmd.symbols.ProcessingApplet
 import nl.utwente.processing.pmd.utils.matches
 
 /**
  * Class which implements the decentralized event handling smell as PMD rule.
  */
-class DecentralizedDrawingRule: AbstractJavaRule() {
+class DecentralizedDrawingRule: AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTClassOrInterfaceDeclaration::class.java)
+        addRuleChainVisit(ASTPrimaryExpression::class.java)
+    }
 
     private var drawMethod: ASTMethodDeclaration? = null
 
     private val restrictedMethods =  ProcessingApplet.EVENT_METHOD_SIGNATURES + ProcessingApplet.SETUP_METHOD_SIGNATURE
 
 
-    override fun visit(node: ASTCompilationUnit?, data: Any?): Any? {
+    override fun reset() {
         this.drawMethod = null
-        return super.visit(node, data)
     }
 
     override fun visit(node: ASTClassOrInterfaceDeclaration, data: Any): Any? {
@@ -28,19 +31,20 @@ class DecentralizedDrawingRule: AbstractJavaRule() {
         if (!node.isNested) {
 
 
-            val drawMethodDecl = node.findDescendantsOfType(ASTMethodDeclaration::class.java).firstOrNull() { it.name == "draw" }
+            val drawMethodDecl = getFacts(data, node).methods.firstOrNull { it.name == "draw" }
 
             this.drawMethod = drawMethodDecl
 
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTPrimaryExpression, data: Any): Any? {
+        if (isDecided) return data
 
         val method = node.getFirstParentOfType(ASTMethodDeclaration::class.java)
 
-        val match = node.matches(*ProcessingApplet.DRAW_METHODS.map { it.name }.toTypedArray())
+        val match = node.matches(ProcessingApplet.DRAW_METHOD_INDEX.names)
 
 
         if (match != null && method != drawMethod) {
@@ -54,6 +58,6 @@ class DecentralizedDrawingRule: AbstractJavaRule() {
                 this.addViolationWithMessage(data, node, message, kotlin.arrayOf(match, method.name))
             }
         }
-        return super.visit(node, data)
+        return data
     }
 }
\ No newline at end of file
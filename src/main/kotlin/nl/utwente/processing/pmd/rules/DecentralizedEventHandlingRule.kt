@@ -1,26 +1,28 @@
 package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceDeclaration
-import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
 import net.sourceforge.pmd.lang.java.ast.ASTMethodDeclaration
 import net.sourceforge.pmd.lang.java.ast.ASTPrimaryExpression
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
 import net.sourceforge.pmd.lang.java.symboltable.ClassScope
+import nl.utwente.processing.pmd.AbstractProcessingRule
 import nl.utwente.processing.pmd.symbols.ProcessingApplet
 import nl.utwente.processing.pmd.utils.findMethods
 import nl.utwente.processing.pmd.utils.matches
-import nl.utwente.processing.pmd.utils.uniqueCallStack
 
 /**
  * Class which implements the decentralized event handling smell as PMD rule.
  */
-class DecentralizedEventHandlingRule: AbstractJavaRule() {
+class DecentralizedEventHandlingRule: AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTClassOrInterfaceDeclaration::class.java)
+        addRuleChainVisit(ASTPrimaryExpression::class.java)
+    }
 
     private var eventStack: Set<ASTMethodDeclaration> = emptySet();
 
-    override fun visit(node: ASTCompilationUnit?, data: Any?): Any? {
+    override fun reset() {
         this.eventStack = emptySet()
-        return super.visit(node, data)
     }
 
     override fun visit(node: ASTClassOrInterfaceDeclaration, data: Any): Any? {
@@ -29,21 +31,22 @@ class DecentralizedEventHandlingRule: AbstractJavaRule() {
             val scope = node.scope as? ClassScope
             val methodDecls = scope?.findMethods(ProcessingApplet.EVENT_METHOD_SIGNATURES)
             methodDecls?.let {
-                this.eventStack = scope.uniqueCallStack(*methodDecls)
+                this.eventStack = getProjectSymbols(data).getCallGraph(scope).uniqueCallStack(*methodDecls)
             }
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTPrimaryExpression, data: Any): Any? {
+        if (isDecided) return data
         val method = node.getFirstParentOfType(ASTMethodDeclaration::class.java)
         if (method != null && method !in this.eventStack) {
-            val match = node.matches(*ProcessingApplet.EVENT_GLOBALS.toTypedArray())
+            val match = node.matches(ProcessingApplet.EVENT_GLOBALS)
             match?.let {
                 this.addViolationWithMessage(data, node, message, kotlin.arrayOf(match, method.name))
             }
         }
-        return super.visit(node, data)
+        return data
     }
 
 }
\ No newline at end of file
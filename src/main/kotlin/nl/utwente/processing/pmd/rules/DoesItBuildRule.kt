@@ -1,20 +1,27 @@
 package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
 import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.properties.PropertyDescriptor
 import net.sourceforge.pmd.properties.PropertyFactory
-import java.io.BufferedReader
-import java.io.File
-import java.io.InputStreamReader
-import java.util.concurrent.TimeUnit
-
-*/**
- * Rule that checks whether the Processing sketch builds successfully using processing-java.
- * If the build fails, a violation is reported.
+import java.util.concurrent.CompletableFuture
+import nl.utwente.processing.ProcessingProject
+import nl.utwente.processing.build.BuildBackend
+import nl.utwente.processing.build.BuildExecutor
+import nl.utwente.processing.build.BuildResult
+import nl.utwente.processing.build.SketchCompiler
+import nl.utwente.processing.pmd.AbstractProcessingRule
+import nl.utwente.processing.pmd.AsyncSketchCheck
+
+/**
+ * Rule that checks whether the Processing sketch builds successfully.
+ * The sketch is built with the build backend of the runner, by default it is compiled
+ * in-process against the bundled Processing API. The builder property overrides the backend
+ * for this rule, e.g. with processing-java to build with the Processing command line tool.
+ * The build runs in the background, next to parsing and the other rules, and the
+ * result is reported when the rule ends. If the build fails, a violation is reported.
  */
-class DoesItBuildRule: AbstractJavaRule() {
+class DoesItBuildRule: AbstractProcessingRule(), AsyncSketchCheck {
 
 
 
@@ -24,138 +31,88 @@ class DoesItBuildRule: AbstractJavaRule() {
                 .desc("Rule category")
                 .defaultValue("default")
                 .build()
-        private var hasRun = false
-        var sketchPath: String? = null
-
-        // Reset for testing
-        fun resetRunFlag() {
-            hasRun = false
-            sketchPath = null
-        }
+        private val BUILDER: PropertyDescriptor<String> =
+            PropertyFactory.stringProperty("builder")
+                .desc("Build backend to use instead of the one of the runner: javac, processing-java or fake")
+                .defaultValue("")
+                .build()
+        // Used when the rule runs without a runner that starts the build
+        private val DEFAULT_BACKEND = SketchCompiler()
     }
     init {
         definePropertyDescriptor(CATEGORY)
+        definePropertyDescriptor(BUILDER)
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+    }
+
+    // The compilation unit the result is reported on, only the first one when the tabs are visited separately
+    private var compilationUnit: ASTCompilationUnit? = null
+    // Started by the runner before the sketch is parsed, or when the rule visits the sketch otherwise
+    private var pendingBuild: CompletableFuture<BuildResult>? = null
+    // The backend of the builder property, created on first use
+    private var propertyBackend: BuildBackend? = null
+
+    override fun reset() {
+        compilationUnit = null
+    }
+
+    override fun startCheck(project: ProcessingProject, executor: BuildExecutor,
+                            backend: BuildBackend): CompletableFuture<BuildResult> {
+        return startBuild(project, executor, backend).also { pendingBuild = it }
     }
+
     override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
         val ctx = data as RuleContext
 
         // Only run once per PMD execution
-        if (!hasRun && shouldRunBuild(ctx)) {
-            hasRun = true
+        if (compilationUnit == null && shouldRunBuild(ctx)) {
+            compilationUnit = node
+            val project = getProjectSymbols(ctx)?.project
+            if (pendingBuild == null && project != null) {
+                pendingBuild = startBuild(project, BuildExecutor.getDefault(), DEFAULT_BACKEND)
+            }
+        }
 
-            val result = buildSketch(ctx)
+        return data
+    }
 
-            if (!result.success) {
+    override fun end(ctx: RuleContext?) {
+        val build = pendingBuild
+        pendingBuild = null
+        val node = compilationUnit
+        // Wait for the build even when it isn't reported, it reads the sketch folder, which the caller may delete
+        // once the run returns
+        val result = build?.join()
+        // Without a visited compilation unit the sketch did not parse, and no rule reports on it
+        if (result != null && node != null && ctx != null) {
+            if (!result.isSuccess) {
                 addViolationWithMessage(
-                    data, node,
+                    ctx, node,
                     "Processing sketch failed to build: ${result.errorMessage}"
                 )
             }
         }
-
-        return super.visit(node, data)
+        super.end(ctx)
     }
 
-    private fun shouldRunBuild(ctx: RuleContext): Boolean {
-        val filename = ctx.sourceCodeFilename
-        return filename != null &&
-                (filename.endsWith("Processing.pde") || filename.contains(".pde"))
+    private fun startBuild(project: ProcessingProject, executor: BuildExecutor,
+                           runnerBackend: BuildBackend): CompletableFuture<BuildResult> {
+        val backend = getBackend() ?: runnerBackend
+        val name = project.folder?.fileName?.toString() ?: "sketch"
+        return executor.submit(name, project, backend)
     }
 
-    private fun buildSketch(ctx: RuleContext): BuildResult {
-        val result = BuildResult()
-
-        try {
-            val path = sketchPath ?: throw IllegalStateException("Sketch path is null")
-
-            // Use --build to just compile, not run
-            val pb = ProcessBuilder(
-                "processing-java",
-                "--sketch=$path",
-                "--build"
-            )
-
-            pb.redirectErrorStream(true)
-            val process = pb.start()
-
-            // Capture output
-            val output = StringBuilder()
-            val reader = BufferedReader(InputStreamReader(process.inputStream))
-
-            reader.useLines { lines ->
-                lines.forEach { line ->
-                    output.append(line).append("\n")
-                }
-            }
-
-            // Wait for build to complete
-            val finished = process.waitFor(30, TimeUnit.SECONDS)
-
-            if (!finished) {
-                process.destroy()
-                result.success = false
-                result.errorMessage = "Build timeout after 30 seconds"
-                return result
-            }
-
-            val exitCode = process.exitValue()
-            result.success = (exitCode == 0)
-            result.output = output.toString()
-
-            if (result.output.contains("Finished")) {
-
-                result.success = true
-                result.output = output.toString();
-                return result
-            } else if (result.output.contains("Not a valid sketch folder")) {
-
-                result.errorMessage = """
-                    |Your submission did NOT run successfully.
-                    |   - Please ensure your program runs on your machine and is free of errors. 
-                    |   - Please ensure you only upload a single zip file.
-                    |   - The zip file should contain a single folder.
-                    |   - The single folder should contain all your Processing files for your project.
-                    |   - The name of the folder should match the name of your main Processing file/tab that contains your draw and setup functions.
-                    |   - The simplest way to achieve this is to right-click on your project folder that contains your Processing files and zip/compress that folder.
-                    |   - Please reupload your submission and check if we can build it.
-                """.trimMargin()
-                return result;
-            }
-
-
-            if (!result.success) {
-                result.errorMessage = extractErrorMessages(result.output)
-            }
-
-        } catch (e: Exception) {
-            result.success = false
-            result.errorMessage = "Exception during build: ${e.message}"
+    private fun getBackend(): BuildBackend? {
+        val name = getProperty(BUILDER)
+        if (name.isNullOrEmpty()) {
+            return null
         }
-
-        return result
+        return propertyBackend ?: BuildBackend.forName(name).also { propertyBackend = it }
     }
 
-    private fun extractErrorMessages(output: String): String {
-        // Extract just the error lines for cleaner output
-        val errors = StringBuilder()
-        val lines = output.split("\n")
-
-        for (line in lines) {
-            val lower = line.toLowerCase();
-            if ("error" in lower || "exception" in lower ||
-                "cannot find symbol" in lower || "expected" in lower
-            ) {
-                errors.append(line).append("\n")
-            }
-        }
-
-        return if (errors.isNotEmpty()) errors.toString() else output
+    private fun shouldRunBuild(ctx: RuleContext): Boolean {
+        val filename = ctx.sourceCodeFilename
+        return filename != null &&
+                (filename.endsWith("Processing.pde") || filename.contains(".pde"))
     }
-
-    private data class BuildResult(
-        var success: Boolean = false,
-        var errorMessage: String = "",
-        var output: String = ""
-    )
-
-}
\ No newline at end of file
+}
@@ -2,39 +2,41 @@ package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.java.ast.ASTMethodDeclaration
-import net.sourceforge.pmd.lang.java.ast.ASTPrimaryExpression
-import net.sourceforge.pmd.lang.java.ast.ASTName
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
-import nl.utwente.processing.pmd.symbols.ProcessingApplet
+import nl.utwente.processing.pmd.AbstractProcessingRule
+import nl.utwente.processing.pmd.utils.SketchFacts
 
 /**
  * Rule that flags if none of the event handler methods call any declared methods in the program.
  * If at least one event handler calls a declared method, no violation is reported for any event handler.
  */
-class EventHandlerNoDeclaredCallRule : AbstractJavaRule() {
+class EventHandlerNoDeclaredCallRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTMethodDeclaration::class.java)
+    }
     private var foundDeclaredCall = false
     private val eventHandlersToFlag = mutableListOf<ASTMethodDeclaration>()
 
+    override fun reset() {
+        foundDeclaredCall = false
+        eventHandlersToFlag.clear()
+    }
+
     override fun visit(node: ASTMethodDeclaration, data: Any?): Any? {
-        val methodName = node.name
-        if (ProcessingApplet.EVENT_METHOD_SIGNATURES.any { it.startsWith(methodName) }) {
-            // Collect all declared method names in the entire file (compilation unit)
-            val cu = node.getFirstParentOfType(net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit::class.java)
-            val declaredNames = cu?.findDescendantsOfType(ASTMethodDeclaration::class.java)
-                ?.map { it.name }?.toSet() ?: emptySet()
-            // Find all method calls
-            val calls = node.findDescendantsOfType(ASTPrimaryExpression::class.java)
-            val callsDeclared = calls.any { call ->
-                val name = getMethodCallName(call)
-                name != null && declaredNames.contains(name)
-            }
+        // One handler that calls a declared method is enough to pass, the others don't need to be checked
+        if (foundDeclaredCall) return data
+        if (SketchFacts.isEventHandler(node)) {
+            // The methods declared in the entire file (compilation unit), and the method calls of the handler
+            val facts = getFacts(data, node)
+            val declaredNames = facts.methodNames
+            val callsDeclared = facts.callSites(node).keys.any { declaredNames.contains(it.substringBefore('.')) }
             if (callsDeclared) {
                 foundDeclaredCall = true
             } else {
                 eventHandlersToFlag.add(node)
             }
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
@@ -51,10 +53,4 @@ class EventHandlerNoDeclaredCallRule : AbstractJavaRule() {
         }
         super.end(ctx)
     }
-
-    private fun getMethodCallName(node: ASTPrimaryExpression): String? {
-        val prefix = node.getFirstChildOfType(net.sourceforge.pmd.lang.java.ast.ASTPrimaryPrefix::class.java)
-        val nameNode = prefix?.getFirstChildOfType(ASTName::class.java)
-        return nameNode?.image?.substringBefore('.')
-    }
 }
@@ -61,14 +61,14 @@ class GodClassRule : AbstractProcessingRule() {
     private var currentMethodName: String? = null
 
     /**
-     * For each compilation unit, clear all attributes (if the class is reused).
+     * Before each sketch, clear all attributes, as the rule instance is reused.
      */
-    override fun visit(node: ASTCompilationUnit, data: Any): Any? {
+    override fun reset() {
         this.wmcCounter.clear()
         this.atfdCounter.clear()
         this.methodAttributeAccess.clear()
         this.currentClassScope = null
-        return super.visit(node, data)
+        this.currentMethodName = null
     }
 
     /**
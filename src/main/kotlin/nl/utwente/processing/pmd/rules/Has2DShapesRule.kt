@@ -2,8 +2,8 @@ package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.lang.java.ast.ASTPrimaryExpression
 import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
 import net.sourceforge.pmd.RuleContext
+import nl.utwente.processing.pmd.AbstractProcessingRule
 import nl.utwente.processing.pmd.symbols.ProcessingApplet
 import nl.utwente.processing.pmd.symbols.ProcessingAppletMethodCategory
 import nl.utwente.processing.pmd.utils.matches
@@ -11,7 +11,7 @@ import net.sourceforge.pmd.lang.ast.Node
 import net.sourceforge.pmd.properties.PropertyDescriptor
 import net.sourceforge.pmd.properties.PropertyFactory
 
-class Has2DShapesRule : AbstractJavaRule() {
+class Has2DShapesRule : AbstractProcessingRule() {
 
     companion object {
         private val CATEGORY: PropertyDescriptor<String> =
@@ -23,31 +23,35 @@ class Has2DShapesRule : AbstractJavaRule() {
 
     init {
         definePropertyDescriptor(CATEGORY)
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+        addRuleChainVisit(ASTPrimaryExpression::class.java)
     }
 
     private var shape2DCount = 0
     private var firstShapeNode: Node? = null
     private var compilationUnit: ASTCompilationUnit? = null
 
+    override fun reset() {
+        shape2DCount = 0
+        firstShapeNode = null
+        compilationUnit = null
+    }
+
     override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
         // Store the compilation unit so we always have a node to report against
         compilationUnit = node
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTPrimaryExpression, data: Any): Any? {
-        if (
-            ProcessingApplet.DRAW_METHODS
-                .filter { it.category == ProcessingAppletMethodCategory.SHAPE_2D }
-                .any { shapeMethod -> node.matches(shapeMethod) }
-        ) {
+        if (node.matches(ProcessingApplet.DRAW_METHOD_INDEX, ProcessingAppletMethodCategory.SHAPE_2D) != null) {
             shape2DCount++
             if (firstShapeNode == null) {
                 firstShapeNode = node
             }
         }
 
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
@@ -2,19 +2,27 @@ package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceDeclaration
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Rule that flags if the program declares any abstract class or interface (including inner classes).
  */
-class HasAbstractClassOrInterfaceRule : AbstractJavaRule() {
+class HasAbstractClassOrInterfaceRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTClassOrInterfaceDeclaration::class.java)
+    }
     private var found: ASTClassOrInterfaceDeclaration? = null
 
+    override fun reset() {
+        found = null
+    }
+
     override fun visit(node: ASTClassOrInterfaceDeclaration, data: Any?): Any? {
         if ((node.isAbstract || node.isInterface) && found == null) {
             found = node
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
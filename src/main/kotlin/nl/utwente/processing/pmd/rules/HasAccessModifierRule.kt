@@ -2,15 +2,26 @@ package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.lang.java.ast.ASTFieldDeclaration
 import net.sourceforge.pmd.lang.java.ast.ASTMethodDeclaration
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
 import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.ast.Node
+import nl.utwente.processing.pmd.AbstractProcessingRule
+import nl.utwente.processing.pmd.utils.isBefore
 
 /// Rule that flags the use of any access modifier (private, public, protected, or package-private) on variables (fields) and functions (methods)
-class HasAccessModifierRule : AbstractJavaRule() {
+class HasAccessModifierRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTFieldDeclaration::class.java)
+        addRuleChainVisit(ASTMethodDeclaration::class.java)
+    }
     private var found = false
     private var referenceNode: Node? = null
 
+    override fun reset() {
+        found = false
+        referenceNode = null
+    }
+
     private fun hasAccessModifier(node: ASTFieldDeclaration): Boolean {
         return node.isPrivate || node.isPublic || node.isProtected
     }
@@ -22,17 +33,17 @@ class HasAccessModifierRule : AbstractJavaRule() {
     override fun visit(node: ASTFieldDeclaration?, data: Any?): Any? {
         if (node != null && hasAccessModifier(node)) {
             found = true
-            if (referenceNode == null) referenceNode = node
+            if (referenceNode.let { it == null || node.isBefore(it) }) referenceNode = node
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTMethodDeclaration?, data: Any?): Any? {
         if (node != null && hasAccessModifier(node)) {
             found = true
-            if (referenceNode == null) referenceNode = node
+            if (referenceNode.let { it == null || node.isBefore(it) }) referenceNode = node
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
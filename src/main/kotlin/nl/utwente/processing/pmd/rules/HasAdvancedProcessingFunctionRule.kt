@@ -5,13 +5,17 @@ import net.sourceforge.pmd.lang.ast.Node
 import net.sourceforge.pmd.lang.java.ast.ASTPrimaryExpression
 import net.sourceforge.pmd.lang.java.ast.ASTPrimaryPrefix
 import net.sourceforge.pmd.lang.java.ast.ASTName
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Flags use of advanced Processing functions like translate, rotate, and matrix operations.
  * Useful for tutors to quickly find places to quiz students on more complex concepts.
  */
-class HasAdvancedProcessingFunctionRule : AbstractJavaRule() {
+class HasAdvancedProcessingFunctionRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTPrimaryExpression::class.java)
+    }
 
     private val advancedFunctions = setOf(
         "shearX", "shearY", "translate",
@@ -27,6 +31,10 @@ class HasAdvancedProcessingFunctionRule : AbstractJavaRule() {
     )
     private var firstMatch: Pair<Node, String>? = null
 
+    override fun reset() {
+        firstMatch = null
+    }
+
     override fun visit(node: ASTPrimaryExpression?, data: Any?): Any? {
         if (node == null) return data
 
@@ -38,7 +46,7 @@ class HasAdvancedProcessingFunctionRule : AbstractJavaRule() {
             firstMatch = node to methodName
         }
 
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
@@ -3,19 +3,29 @@ package nl.utwente.processing.pmd.rules
 import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
 import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceType
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Rule that flags if the program uses ArrayList.
  * Students should use traditional arrays instead.
  */
-class HasArrayListRule : AbstractJavaRule() {
+class HasArrayListRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+        addRuleChainVisit(ASTClassOrInterfaceType::class.java)
+    }
     private var compilationUnit: ASTCompilationUnit? = null
     private var firstArrayListNode: ASTClassOrInterfaceType? = null
 
+    override fun reset() {
+        compilationUnit = null
+        firstArrayListNode = null
+    }
+
     override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
         compilationUnit = node
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTClassOrInterfaceType, data: Any?): Any? {
@@ -25,7 +35,7 @@ class HasArrayListRule : AbstractJavaRule() {
                 firstArrayListNode = node
             }
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
@@ -1,78 +1,28 @@
 package nl.utwente.processing.pmd.rules
 
-import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
+import net.sourceforge.pmd.lang.ast.Node
 import net.sourceforge.pmd.lang.java.ast.ASTType
 import net.sourceforge.pmd.lang.java.ast.ASTFieldDeclaration
 import net.sourceforge.pmd.lang.java.ast.ASTLocalVariableDeclaration
 import net.sourceforge.pmd.lang.java.ast.ASTVariableDeclarator
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
 import net.sourceforge.pmd.RuleContext
+import nl.utwente.processing.pmd.AbstractNodePresenceRule
 
-class HasArrayUsageRule : AbstractJavaRule() {
+class HasArrayUsageRule : AbstractNodePresenceRule(
+        ASTFieldDeclaration::class.java, ASTLocalVariableDeclaration::class.java) {
 
-    private var hasArray = false
-    private var compilationUnit: ASTCompilationUnit? = null
-
-    override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
-        hasArray = false
-        compilationUnit = node
-        return super.visit(node, data)
-    }
-    override fun visit(node: ASTFieldDeclaration, data: Any?): Any? {
-        // Get the type for this field
+    override fun matches(node: Node): Boolean {
+        // A field or local variable is an array when its type is, or when one of its variables has array dimensions
         val typeNode = node.getFirstChildOfType(ASTType::class.java)
-        val baseTypeName = typeNode?.typeImage ?: "unknown"
-
-        node.findChildrenOfType(ASTVariableDeclarator::class.java).forEach { declarator ->
-
-            val varId = declarator.variableId
-            val hasVariableArrayDimensions = varId.isArray
-            val isArray = (typeNode?.isArrayType ?: false) || hasVariableArrayDimensions
-            val typeName = if (isArray) {
-                "$baseTypeName[]"
-            } else {
-                baseTypeName
-            }
-
-            // Mark that we found an array
-            if (isArray) {
-                hasArray = true
-            }
-        }
-
-        return super.visit(node, data)
-    }
-
-    override fun visit(node: ASTLocalVariableDeclaration, data: Any?): Any? {
-        // Get the type for this local variable
-        val typeNode = node.getFirstChildOfType(ASTType::class.java)
-        val baseTypeName = typeNode?.typeImage ?: "unknown"
-
-        node.findChildrenOfType(ASTVariableDeclarator::class.java).forEach { declarator ->
-
-            val varId = declarator.variableId
-            val hasVariableArrayDimensions = varId.isArray
-            val isArray = (typeNode?.isArrayType ?: false) || hasVariableArrayDimensions
-            val typeName = if (isArray) {
-                "$baseTypeName[]"
-            } else {
-                baseTypeName
-            }
-
-            // Mark that we found an array
-            if (isArray) {
-                hasArray = true
-            }
-        }
-
-        return super.visit(node, data)
+        return (typeNode?.isArrayType ?: false) ||
+                node.findChildrenOfType(ASTVariableDeclarator::class.java).any { it.variableId.isArray }
     }
 
     override fun end(ctx: RuleContext?) {
-        if (!hasArray && ctx != null && compilationUnit != null) {
+        if (!isPresent && ctx != null && lastUnit != null) {
             addViolationWithMessage(
                 ctx,
-                compilationUnit,
+                lastUnit,
                 message,
                 0,
                 0
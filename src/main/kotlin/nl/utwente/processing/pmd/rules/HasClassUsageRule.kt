@@ -4,13 +4,17 @@ import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.ast.Node
 import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceType
 import net.sourceforge.pmd.lang.java.ast.JavaNode
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Flags usage of advanced Java/Processing classes not expected in beginner assignments.
  * Outputs one violation per detected type, including line numbers and class name.
  */
-class HasClassUsageRule : AbstractJavaRule() {
+class HasClassUsageRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTClassOrInterfaceType::class.java)
+    }
 
     private val forbiddenTypes = listOf(
         // Data structures and utility classes (suspicious for COMP1000)
@@ -31,8 +35,14 @@ class HasClassUsageRule : AbstractJavaRule() {
     private var firstForbiddenNode: JavaNode? = null
     private var firstForbiddenType: String? = null
 
+    override fun reset() {
+        arrayListNode = null
+        firstForbiddenNode = null
+        firstForbiddenType = null
+    }
+
     override fun visit(node: ASTClassOrInterfaceType, data: Any?): Any? {
-        val className = node.image ?: return super.visit(node, data)
+        val className = node.image ?: return data
 
         if (className in forbiddenTypes) {
             val javaNode = node as JavaNode
@@ -45,7 +55,7 @@ class HasClassUsageRule : AbstractJavaRule() {
             }
         }
 
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
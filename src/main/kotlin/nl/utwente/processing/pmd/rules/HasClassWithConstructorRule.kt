@@ -4,7 +4,9 @@ import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceDeclaration
 import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
 import net.sourceforge.pmd.lang.java.ast.ASTConstructorDeclaration
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import net.sourceforge.pmd.properties.PropertyDescriptor
+import net.sourceforge.pmd.properties.PropertyFactory
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Rule that checks if user-defined classes have explicit constructors.
@@ -15,14 +17,35 @@ import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
  * Passes if:
  * - At least one user-defined class has an explicit constructor
  */
-class HasClassWithConstructorRule : AbstractJavaRule() {
+class HasClassWithConstructorRule : AbstractProcessingRule() {
+
+    companion object {
+        private val CATEGORY: PropertyDescriptor<String> =
+            PropertyFactory.stringProperty("category")
+                .desc("Rule category")
+                .defaultValue("default")
+                .build()
+    }
+
+    init {
+        definePropertyDescriptor(CATEGORY)
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+        addRuleChainVisit(ASTClassOrInterfaceDeclaration::class.java)
+    }
+
     private var compilationUnit: ASTCompilationUnit? = null
     private var hasUserDefinedClass = false
     private var hasConstructor = false
 
+    override fun reset() {
+        compilationUnit = null
+        hasUserDefinedClass = false
+        hasConstructor = false
+    }
+
     override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
         compilationUnit = node
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTClassOrInterfaceDeclaration, data: Any?): Any? {
@@ -35,7 +58,7 @@ class HasClassWithConstructorRule : AbstractJavaRule() {
             hasConstructor = true
         }
 
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
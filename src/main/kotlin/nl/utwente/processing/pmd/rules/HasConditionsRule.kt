@@ -3,16 +3,21 @@ package nl.utwente.processing.pmd.rules
 import net.sourceforge.pmd.lang.ast.Node
 import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
 import net.sourceforge.pmd.lang.java.ast.ASTIfStatement
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
 import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.properties.PropertyDescriptor
 import net.sourceforge.pmd.properties.PropertyFactory
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Rule that checks whether there are at least two conditional statements (if statements) in the code.
  * If fewer than two conditions are found, a violation is reported.
  */
-class HasConditionsRule : AbstractJavaRule() {
+class HasConditionsRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+        addRuleChainVisit(ASTIfStatement::class.java)
+    }
 
 
 
@@ -20,15 +25,20 @@ class HasConditionsRule : AbstractJavaRule() {
     private var firstNode: Node? = null
 
 
+    override fun reset() {
+        conditions = 0
+        firstNode = null
+    }
+
     override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
         if (firstNode == null) firstNode = node
-        return super.visit(node, data)
+        return data
     }
 
 
     override fun visit(node: ASTIfStatement, data: Any?): Any? {
         conditions += 1
-        return  super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext) {
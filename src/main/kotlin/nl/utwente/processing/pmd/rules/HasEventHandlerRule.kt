@@ -1,17 +1,13 @@
 package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceDeclaration
-import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
-import net.sourceforge.pmd.lang.java.symboltable.ClassScope
 import net.sourceforge.pmd.properties.PropertyDescriptor
 import net.sourceforge.pmd.properties.PropertyFactory
+import nl.utwente.processing.pmd.AbstractProcessingRule
 import nl.utwente.processing.pmd.symbols.ProcessingApplet
-import nl.utwente.processing.pmd.utils.findMethods
-
 
 /// ** Class which implements the hasEventHandler smell as PMD rule. */
-class HasEventHandlerRule: AbstractJavaRule() {
+class HasEventHandlerRule: AbstractProcessingRule() {
 
     companion object {
         private val CATEGORY: PropertyDescriptor<String> =
@@ -23,22 +19,20 @@ class HasEventHandlerRule: AbstractJavaRule() {
 
     init {
         definePropertyDescriptor(CATEGORY)
+        addRuleChainVisit(ASTClassOrInterfaceDeclaration::class.java)
     }
 
-    override fun visit(node: ASTCompilationUnit?, data: Any?): Any? {
-        return super.visit(node, data)
-    }
+    override fun reset() {}
 
     override fun visit(node: ASTClassOrInterfaceDeclaration, data: Any): Any? {
-        //Check if this is a top node, not a inner class.
-        if (!node.isNested) {
-            val scope = node.scope as? ClassScope
-            val methodDecls = scope?.findMethods(ProcessingApplet.EVENT_METHOD_SIGNATURES)
-            if (methodDecls.isNullOrEmpty()) {
+        //Check the sketch as a whole, the event handler may be declared in any tab.
+        val symbols = getProjectSymbols(data)
+        if (symbols.isSketchClass(node)) {
+            if (ProcessingApplet.EVENT_METHOD_SIGNATURES.none { symbols.hasMethod(it) }) {
                 // setting line and column to 0, as this is a class level violation and does not have a specific line
                 addViolationWithMessage(data, node, message,0,0)
             }
         }
-        return super.visit(node, data)
+        return data
     }
 }
\ No newline at end of file
@@ -3,21 +3,29 @@ package nl.utwente.processing.pmd.rules
 import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.ast.Node
 import net.sourceforge.pmd.lang.java.ast.ASTFieldDeclaration
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Rule that flags the use of the 'final' keyword on fields.
  * Using 'final' may be unnecessary or confusing for beginners in Processing assignments.
  */
-class HasFinalVariableRule : AbstractJavaRule() {
+class HasFinalVariableRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTFieldDeclaration::class.java)
+    }
 
     private var referenceNode: Node? = null
 
+    override fun reset() {
+        referenceNode = null
+    }
+
     override fun visit(node: ASTFieldDeclaration?, data: Any?): Any? {
         if (node?.isFinal == true && referenceNode == null) {
             referenceNode = node
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
@@ -1,39 +1,34 @@
 package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.RuleContext
+import net.sourceforge.pmd.lang.ast.Node
 import net.sourceforge.pmd.lang.java.ast.ASTForStatement
 import net.sourceforge.pmd.lang.java.ast.ASTExpression
 import net.sourceforge.pmd.lang.java.ast.ASTForInit
 import net.sourceforge.pmd.lang.java.ast.ASTForUpdate
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractNodePresenceRule
 
 /**
  * Rule to detect use of enhanced for-each loops like: for (Type item : collection)
  */
-class HasForEachLoopRule : AbstractJavaRule() {
+class HasForEachLoopRule : AbstractNodePresenceRule(ASTForStatement::class.java) {
 
-    private var firstForEachNode: ASTForStatement? = null
-
-    override fun visit(node: ASTForStatement, data: Any?): Any? {
+    override fun matches(node: Node): Boolean {
         val hasExpression = node.getFirstDescendantOfType(ASTExpression::class.java) != null
         val hasNoInit = node.getFirstChildOfType(ASTForInit::class.java) == null
         val hasNoUpdate = node.getFirstChildOfType(ASTForUpdate::class.java) == null
-
-        if (hasExpression && hasNoInit && hasNoUpdate && firstForEachNode == null) {
-            firstForEachNode = node
-        }
-
-        return super.visit(node, data)
+        return hasExpression && hasNoInit && hasNoUpdate
     }
 
     override fun end(ctx: RuleContext?) {
-        if (ctx != null && firstForEachNode != null) {
+        val node = firstMatch
+        if (ctx != null && node != null) {
             addViolationWithMessage(
                 ctx,
-                firstForEachNode,
+                node,
                 message,
-                firstForEachNode!!.beginLine,
-                firstForEachNode!!.endLine
+                node.beginLine,
+                node.endLine
             )
         }
         super.end(ctx)
@@ -1,15 +1,16 @@
 package nl.utwente.processing.pmd.rules
 
+import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
 import net.sourceforge.pmd.properties.PropertyDescriptor
 import net.sourceforge.pmd.properties.PropertyFactory
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Rule that checks whether the code contains a header comment with a link to "nga.gov.au".
  * If such a comment is not found, a violation is reported.
  */
-class HasHeaderCommentRule : AbstractJavaRule() {
+class HasHeaderCommentRule : AbstractProcessingRule() {
 
 
     companion object {
@@ -22,12 +23,23 @@ class HasHeaderCommentRule : AbstractJavaRule() {
 
     init {
         definePropertyDescriptor(CATEGORY)
+        addRuleChainVisit(ASTCompilationUnit::class.java)
     }
+    private var hasLinkInComment = false
+    private var compilationUnit: ASTCompilationUnit? = null
+
+    override fun reset() {
+        hasLinkInComment = false
+        compilationUnit = null
+    }
+
     override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
         // Get comments from the compilation unit
         val comments = node.comments
 
-        var hasLinkInComment = false
+        if (compilationUnit == null) {
+            compilationUnit = node
+        }
 
         if (comments != null && comments.isNotEmpty()) {
             for (comment in comments) {
@@ -41,13 +53,17 @@ class HasHeaderCommentRule : AbstractJavaRule() {
             }
         }
 
-        if (!hasLinkInComment) {
+        return data
+    }
+
+    override fun end(ctx: RuleContext?) {
+        // The comment may be in any tab, so report when the whole sketch is visited
+        if (!hasLinkInComment && compilationUnit != null && ctx != null) {
             addViolationWithMessage(
-                data, node,
+                ctx, compilationUnit,
                 message
             )
         }
-
-        return super.visit(node, data)
+        super.end(ctx)
     }
 }
\ No newline at end of file
@@ -1,9 +1,10 @@
 package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.RuleContext
+import net.sourceforge.pmd.lang.ast.Node
 import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceDeclaration
-import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import net.sourceforge.pmd.lang.java.ast.ASTExtendsList
+import nl.utwente.processing.pmd.AbstractNodePresenceRule
 
 /**
  * Rule that flags if students are using inheritance through the extends keyword.
@@ -13,43 +14,25 @@ import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
  * Fails if:
  * - At least one user-defined class extends another class
  */
-class HasInheritanceRule : AbstractJavaRule() {
+class HasInheritanceRule : AbstractNodePresenceRule(ASTClassOrInterfaceDeclaration::class.java) {
 
-    private var compilationUnit: ASTCompilationUnit? = null
-    private var hasInheritance = false
-    private var outerClassName: String? = null
-
-    override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
-        compilationUnit = node
-        return super.visit(node, data)
-    }
-
-    override fun visit(node: ASTClassOrInterfaceDeclaration, data: Any?): Any? {
-        if (node.isInterface) return super.visit(node, data)
-
-        // Skip the outer Processing wrapper class
-        if (outerClassName == null) {
-            outerClassName = node.image
-            return super.visit(node, data)
+    override fun matches(node: Node): Boolean {
+        node as ASTClassOrInterfaceDeclaration
+        // Skip the outer Processing wrapper class, every tab has one when tabs are analysed separately
+        if (node.isInterface || !node.isNested) {
+            return false
         }
 
         // Check if this class extends another class
-        val extendsList = node.getFirstChildOfType(
-            net.sourceforge.pmd.lang.java.ast.ASTExtendsList::class.java
-        )
-
-        if (extendsList != null && extendsList.jjtGetNumChildren() > 0) {
-            hasInheritance = true
-        }
-
-        return super.visit(node, data)
+        val extendsList = node.getFirstChildOfType(ASTExtendsList::class.java)
+        return extendsList != null && extendsList.numChildren > 0
     }
 
     override fun end(ctx: RuleContext?) {
-        if (ctx != null && compilationUnit != null && hasInheritance) {
+        if (ctx != null && lastUnit != null && isPresent) {
             addViolationWithMessage(
                 ctx,
-                compilationUnit,
+                lastUnit,
                 message,
                 0,
                 0
@@ -57,4 +40,4 @@ class HasInheritanceRule : AbstractJavaRule() {
         }
         super.end(ctx)
     }
-}
+}
\ No newline at end of file
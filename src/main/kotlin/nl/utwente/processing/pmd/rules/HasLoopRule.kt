@@ -1,19 +1,17 @@
 package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.RuleContext
-import net.sourceforge.pmd.lang.ast.Node
 import net.sourceforge.pmd.lang.java.ast.ASTForStatement
 import net.sourceforge.pmd.lang.java.ast.ASTWhileStatement
-import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
 import net.sourceforge.pmd.properties.PropertyDescriptor
 import net.sourceforge.pmd.properties.PropertyFactory
+import nl.utwente.processing.pmd.AbstractNodePresenceRule
 
 /**
  * Rule that checks whether there is at least one loop (for or while) in the code.
  * If no loops are found, a violation is reported.
  */
-class HasLoopRule : AbstractJavaRule() {
+class HasLoopRule : AbstractNodePresenceRule(ASTForStatement::class.java, ASTWhileStatement::class.java) {
 
     companion object {
         private val CATEGORY: PropertyDescriptor<String> =
@@ -26,29 +24,12 @@ class HasLoopRule : AbstractJavaRule() {
     init {
         definePropertyDescriptor(CATEGORY)
     }
-    private var hasLoop = false
-    private var firstNode: Node? = null
-
-    override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
-        if (firstNode == null) firstNode = node
-        return super.visit(node, data)
-    }
-
-    override fun visit(node: ASTForStatement, data: Any?): Any? {
-        hasLoop = true
-        return super.visit(node, data)
-    }
-
-    override fun visit(node: ASTWhileStatement, data: Any?): Any? {
-        hasLoop = true
-        return super.visit(node, data)
-    }
 
     override fun end(ctx: RuleContext) {
-        if (!hasLoop && firstNode != null) {
+        if (!isPresent && firstUnit != null) {
             addViolationWithMessage(
                 ctx,
-                firstNode!!,
+                firstUnit,
                 message,
                 0,
                 0
@@ -2,35 +2,24 @@ package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.ast.Node
-import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
 import net.sourceforge.pmd.lang.java.ast.ASTMultiplicativeExpression
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractNodePresenceRule
 
 /**
  * Rule that checks whether there is at least one modulo operator (%) used in the code.
  * If no modulo operator is found, a violation is reported.
  */
-class HasModuloOperatorRule : AbstractJavaRule() {
-    private var hasModulo = false
-    private var compilationUnit: ASTCompilationUnit? = null
+class HasModuloOperatorRule : AbstractNodePresenceRule(ASTMultiplicativeExpression::class.java) {
 
-    override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
-        compilationUnit = node
-        return super.visit(node, data)
-    }
-
-    override fun visit(node: ASTMultiplicativeExpression, data: Any?): Any? {
-        if (node.image == "%") {
-            hasModulo = true
-        }
-        return super.visit(node, data)
+    override fun matches(node: Node): Boolean {
+        return node.image == "%"
     }
 
     override fun end(ctx: RuleContext?) {
-        if (!hasModulo && ctx != null && compilationUnit != null) {
+        if (!isPresent && ctx != null && lastUnit != null) {
             addViolationWithMessage(
                 ctx,
-                compilationUnit,
+                lastUnit,
                 message,
                 0,
                 0
@@ -4,32 +4,45 @@ import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.ast.Node
 import net.sourceforge.pmd.lang.java.ast.ASTConditionalAndExpression
 import net.sourceforge.pmd.lang.java.ast.ASTConditionalOrExpression
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
 import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
+import nl.utwente.processing.pmd.AbstractProcessingRule
+import nl.utwente.processing.pmd.utils.isBefore
 
 /**
  * Rule that flags if the program does NOT contain any boolean operator (&& or ||).
  */
-class HasNoBooleanOperatorRule : AbstractJavaRule() {
+class HasNoBooleanOperatorRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+        addRuleChainVisit(ASTConditionalAndExpression::class.java)
+        addRuleChainVisit(ASTConditionalOrExpression::class.java)
+    }
     private var hasBooleanOperator = false
     private var firstNode: Node? = null
     private var anyNode: Node? = null
 
+    override fun reset() {
+        hasBooleanOperator = false
+        firstNode = null
+        anyNode = null
+    }
+
     override fun visit(node: ASTConditionalAndExpression, data: Any?): Any? {
-        if (firstNode == null) firstNode = node
+        if (firstNode.let { it == null || node.isBefore(it) }) firstNode = node
         hasBooleanOperator = true
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTConditionalOrExpression, data: Any?): Any? {
-        if (firstNode == null) firstNode = node
+        if (firstNode.let { it == null || node.isBefore(it) }) firstNode = node
         hasBooleanOperator = true
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
         if (anyNode == null) anyNode = node
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
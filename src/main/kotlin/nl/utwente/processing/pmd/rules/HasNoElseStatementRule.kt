@@ -3,25 +3,35 @@ package nl.utwente.processing.pmd.rules
 import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
 import net.sourceforge.pmd.lang.java.ast.ASTIfStatement
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Rule that flags if the program does NOT contain any 'else' statement.
  */
-class HasNoElseStatementRule : AbstractJavaRule() {
+class HasNoElseStatementRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+        addRuleChainVisit(ASTIfStatement::class.java)
+    }
     private var hasElse = false
     private var compilationUnit: ASTCompilationUnit? = null
 
+    override fun reset() {
+        hasElse = false
+        compilationUnit = null
+    }
+
     override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
         compilationUnit = node
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTIfStatement, data: Any?): Any? {
         if (node.hasElse()) {
             hasElse = true
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
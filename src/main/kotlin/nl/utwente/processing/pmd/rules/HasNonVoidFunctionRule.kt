@@ -3,26 +3,36 @@ package nl.utwente.processing.pmd.rules
 import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
 import net.sourceforge.pmd.lang.java.ast.ASTMethodDeclaration
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Rule that flags if there are no functions with a return type other than void.
  */
-class HasNonVoidFunctionRule : AbstractJavaRule() {
+class HasNonVoidFunctionRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+        addRuleChainVisit(ASTMethodDeclaration::class.java)
+    }
 
     private var foundNonVoidFunction = false
     private var compilationUnit: ASTCompilationUnit? = null
 
+    override fun reset() {
+        foundNonVoidFunction = false
+        compilationUnit = null
+    }
+
     override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
         compilationUnit = node
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTMethodDeclaration, data: Any?): Any? {
         if (!node.isVoid) {
             foundNonVoidFunction = true
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
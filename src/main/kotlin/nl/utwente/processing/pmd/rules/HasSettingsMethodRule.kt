@@ -3,26 +3,36 @@ package nl.utwente.processing.pmd.rules
 import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
 import net.sourceforge.pmd.lang.java.ast.ASTMethodDeclaration
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Rule that checks whether there is a method named "settings" defined in the code.
  * If such a method is found, a violation is reported.
  */
-class HasSettingsMethodRule : AbstractJavaRule() {
+class HasSettingsMethodRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+        addRuleChainVisit(ASTMethodDeclaration::class.java)
+    }
     private var compilationUnit: ASTCompilationUnit? = null
     private var settingsMethod: ASTMethodDeclaration? = null
 
+    override fun reset() {
+        compilationUnit = null
+        settingsMethod = null
+    }
+
     override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
         compilationUnit = node
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTMethodDeclaration, data: Any?): Any? {
         if (node.name == "settings") {
             settingsMethod = node
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
@@ -1,20 +1,17 @@
 package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceDeclaration
-import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
-import net.sourceforge.pmd.lang.java.symboltable.ClassScope
 import net.sourceforge.pmd.properties.PropertyDescriptor
 import net.sourceforge.pmd.properties.PropertyFactory
+import nl.utwente.processing.pmd.AbstractProcessingRule
 import nl.utwente.processing.pmd.symbols.ProcessingApplet
-import nl.utwente.processing.pmd.utils.findMethods
 
 /**
  * Rule that checks whether the Processing sketch has the standard structure,
  * i.e., it contains both "setup" and "draw" methods.
  * If either method is missing, a violation is reported.
  */
-class HasStandardProcessingStructure: AbstractJavaRule() {
+class HasStandardProcessingStructure: AbstractProcessingRule() {
 
     companion object {
         private val CATEGORY: PropertyDescriptor<String> =
@@ -25,23 +22,22 @@ class HasStandardProcessingStructure: AbstractJavaRule() {
     }
     init {
         definePropertyDescriptor(CATEGORY)
+        addRuleChainVisit(ASTClassOrInterfaceDeclaration::class.java)
     }
 
-    override fun visit(node: ASTCompilationUnit?, data: Any?): Any? {
-        return super.visit(node, data)
-    }
+    override fun reset() {}
 
     override fun visit(node: ASTClassOrInterfaceDeclaration, data: Any): Any? {
-        //Check if this is a top node, not a inner class.
-        if (!node.isNested) {
-            val scope = node.scope as? ClassScope
-            val hasDrawMethod = scope?.findMethods(ProcessingApplet.DRAW_METHOD_SIGNATURE);
-            val hasSetupMethod = scope?.findMethods(ProcessingApplet.SETUP_METHOD_SIGNATURE);
-            if (hasDrawMethod.isNullOrEmpty() || hasSetupMethod.isNullOrEmpty()) {
+        //Check the sketch as a whole, setup and draw may be declared in different tabs.
+        val symbols = getProjectSymbols(data)
+        if (symbols.isSketchClass(node)) {
+            val hasDrawMethod = ProcessingApplet.DRAW_METHOD_SIGNATURE.any { symbols.hasMethod(it) }
+            val hasSetupMethod = ProcessingApplet.SETUP_METHOD_SIGNATURE.any { symbols.hasMethod(it) }
+            if (!hasDrawMethod || !hasSetupMethod) {
                 // setting line and column to 0, as this is a class level violation and does not have a specific line
                 addViolationWithMessage(data, node, message,0,0);
             }
         }
-        return super.visit(node, data)
+        return data
     }
 }
\ No newline at end of file
@@ -1,33 +1,24 @@
 package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.RuleContext
-import net.sourceforge.pmd.lang.ast.Node
 import net.sourceforge.pmd.lang.java.ast.ASTConditionalExpression
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractNodePresenceRule
 
 /**
  * Rule that checks whether any ternary (conditional) operators are used in the sketch.
  * Example: int result = (a > b) ? a : b;
  */
-class HasTernaryOperatorRule : AbstractJavaRule() {
-
-    private var referenceNode: Node? = null
-
-    override fun visit(node: ASTConditionalExpression, data: Any?): Any? {
-        if (referenceNode == null) {
-            referenceNode = node
-        }
-        return super.visit(node, data)
-    }
+class HasTernaryOperatorRule : AbstractNodePresenceRule(ASTConditionalExpression::class.java) {
 
     override fun end(ctx: RuleContext?) {
-        if (ctx != null && referenceNode != null) {
+        val node = firstMatch
+        if (ctx != null && node != null) {
             addViolationWithMessage(
                 ctx,
-                referenceNode,
+                node,
                 message,
-                referenceNode!!.beginLine,
-                referenceNode!!.endLine
+                node.beginLine,
+                node.endLine
             )
         }
         super.end(ctx)
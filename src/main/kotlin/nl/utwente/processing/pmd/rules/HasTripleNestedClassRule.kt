@@ -2,14 +2,22 @@ package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceDeclaration
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Rule that flags if the program declares a class inside a class inside a class (triple nested class).
  */
-class HasTripleNestedClassRule : AbstractJavaRule() {
+class HasTripleNestedClassRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTClassOrInterfaceDeclaration::class.java)
+    }
     private var found: ASTClassOrInterfaceDeclaration? = null
 
+    override fun reset() {
+        found = null
+    }
+
     override fun visit(node: ASTClassOrInterfaceDeclaration, data: Any?): Any? {
         var nestingLevel = 0
         var parent = node.jjtGetParent()
@@ -22,7 +30,7 @@ class HasTripleNestedClassRule : AbstractJavaRule() {
         if (nestingLevel >= 2 && found == null) { // 2 parents = triple nested
             found = node
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
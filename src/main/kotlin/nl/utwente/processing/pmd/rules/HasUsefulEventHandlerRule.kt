@@ -2,8 +2,10 @@ package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.java.ast.*
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
-import nl.utwente.processing.pmd.symbols.ProcessingApplet
+import net.sourceforge.pmd.properties.PropertyDescriptor
+import net.sourceforge.pmd.properties.PropertyFactory
+import nl.utwente.processing.pmd.AbstractProcessingRule
+import nl.utwente.processing.pmd.utils.SketchFacts
 
 /**
  * Rule that checks whether event handler methods (like mousePressed, keyPressed) contain useful code.
@@ -12,28 +14,45 @@ import nl.utwente.processing.pmd.symbols.ProcessingApplet
  * If event handlers are found that do not meet these criteria, a violation is reported.
  * Additionally, if no event handlers are found at all, a violation is also reported.
  */
-class HasUsefulEventHandlerRule : AbstractJavaRule() {
+class HasUsefulEventHandlerRule : AbstractProcessingRule() {
+
+    companion object {
+        private val CATEGORY: PropertyDescriptor<String> =
+            PropertyFactory.stringProperty("category")
+                .desc("Rule category")
+                .defaultValue("default")
+                .build()
+    }
+
+    init {
+        definePropertyDescriptor(CATEGORY)
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+        addRuleChainVisit(ASTMethodDeclaration::class.java)
+    }
+
     private var foundComplexity = false
     private val eventHandlersToFlag = mutableListOf<ASTMethodDeclaration>()
-    private var declaredMethodNames: Set<String> = emptySet()
     private var compilationUnit: ASTCompilationUnit? = null
     private var hasAnyEventHandlers = false  // Track if we found any event handlers
 
+    override fun reset() {
+        foundComplexity = false
+        eventHandlersToFlag.clear()
+        compilationUnit = null
+        hasAnyEventHandlers = false
+    }
+
     override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
         compilationUnit = node
-        declaredMethodNames = node.findDescendantsOfType(ASTMethodDeclaration::class.java)
-            .map { it.name }
-            .toSet()
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTMethodDeclaration, data: Any?): Any? {
-        val methodName = node.name
-
-        if (ProcessingApplet.EVENT_METHOD_SIGNATURES.any { it.startsWith(methodName) }) {
+        if (SketchFacts.isEventHandler(node)) {
             hasAnyEventHandlers = true  // Found an event handler
 
-            val hasComplexity = hasControlFlow(node) || callsDeclaredMethod(node)
+            val facts = getFacts(data, node)
+            val hasComplexity = facts.hasControlFlow(node) || callsDeclaredMethod(facts, node)
 
             if (hasComplexity) {
                 foundComplexity = true
@@ -41,7 +60,7 @@ class HasUsefulEventHandlerRule : AbstractJavaRule() {
                 eventHandlersToFlag.add(node)
             }
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
@@ -75,25 +94,8 @@ class HasUsefulEventHandlerRule : AbstractJavaRule() {
         super.end(ctx)
     }
 
-    private fun hasControlFlow(node: ASTMethodDeclaration): Boolean {
-        val hasFor = node.findDescendantsOfType(ASTForStatement::class.java).isNotEmpty()
-        val hasIf = node.findDescendantsOfType(ASTIfStatement::class.java).isNotEmpty()
-        val hasWhile = node.findDescendantsOfType(ASTWhileStatement::class.java).isNotEmpty()
-        return hasFor || hasIf || hasWhile
-    }
-
-    private fun callsDeclaredMethod(node: ASTMethodDeclaration): Boolean {
-        val calls = node.findDescendantsOfType(ASTPrimaryExpression::class.java)
-        return calls.any { call ->
-            val name = getMethodCallName(call)
-            // Check for instance method calls (e.g., hero.stop()) OR direct user-defined method calls
-            name != null && (name.contains('.') || declaredMethodNames.contains(name))
-        }
-    }
-
-    private fun getMethodCallName(node: ASTPrimaryExpression): String? {
-        val prefix = node.getFirstChildOfType(ASTPrimaryPrefix::class.java)
-        val nameNode = prefix?.getFirstChildOfType(ASTName::class.java)
-        return nameNode?.image
+    private fun callsDeclaredMethod(facts: SketchFacts, node: ASTMethodDeclaration): Boolean {
+        // Check for instance method calls (e.g., hero.stop()) OR direct user-defined method calls
+        return facts.callSites(node).keys.any { name -> name.contains('.') || facts.methodNames.contains(name) }
     }
-}
\ No newline at end of file
+}
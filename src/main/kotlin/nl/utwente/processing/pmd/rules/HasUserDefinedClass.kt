@@ -1,31 +1,33 @@
 package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceDeclaration
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Rule that checks whether there is at least one user-defined class in the code.
  * A user-defined class is defined as a class that contains at least one inner class.
  * If no such class is found, a violation is reported.
  */
-class HasUserDefinedClass: AbstractJavaRule() {
+class HasUserDefinedClass: AbstractProcessingRule() {
 
-    private var checkedOuter = false
+    init {
+        addRuleChainVisit(ASTClassOrInterfaceDeclaration::class.java)
+    }
 
-    override fun visit(node: ASTClassOrInterfaceDeclaration?, data: Any?): Any? {
-        if (node == null || checkedOuter || node.isNested) return super.visit(node, data)
+    override fun reset() {}
 
-        // This is the outermost class
-        checkedOuter = true
+    override fun visit(node: ASTClassOrInterfaceDeclaration?, data: Any?): Any? {
+        val symbols = getProjectSymbols(data)
+        if (node == null || !symbols.isSketchClass(node)) return data
 
-        val hasInnerClass = node.findDescendantsOfType(ASTClassOrInterfaceDeclaration::class.java)
-            .any { it != node } // Exclude the outer class itself
+        // The inner classes may be declared in any tab
+        val hasInnerClass = symbols.classes.isNotEmpty()
 
 
         if (!hasInnerClass) {
             addViolationWithMessage(data, node,message,0,0)
         }
 
-        return super.visit(node, data)
+        return data
     }
 }
\ No newline at end of file
@@ -2,29 +2,27 @@ package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceDeclaration
 import net.sourceforge.pmd.lang.java.ast.ASTConstructorDeclaration
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Rule that checks whether there is at least one user-defined constructor in each class in the code.
  * A user-defined constructor is defined as a constructor that matches the class name.
  * If no such constructor is found in a class, a violation is reported.
  */
-class HasUserDefinedConstructor: AbstractJavaRule() {
+class HasUserDefinedConstructor: AbstractProcessingRule() {
 
-    private var outerClass: ASTClassOrInterfaceDeclaration? = null
+    init {
+        addRuleChainVisit(ASTClassOrInterfaceDeclaration::class.java)
+    }
+
+    override fun reset() {}
 
     override fun visit(node: ASTClassOrInterfaceDeclaration?, data: Any?): Any? {
         if (node == null) return data
 
-        if (outerClass == null) {
-            // First class is assumed to be the top-level wrapper
-            outerClass = node
-            return super.visit(node, data)
-        }
-
-        // Skip interfaces or top-level class itself
-        if (node == outerClass || node.isInterface) {
-            return super.visit(node, data)
+        // Skip interfaces or the top-level wrapper class, every tab has one when tabs are analysed separately
+        if (!node.isNested || node.isInterface) {
+            return data
         }
 
         val hasConstructor = node.findDescendantsOfType(ASTConstructorDeclaration::class.java)
@@ -44,6 +42,6 @@ class HasUserDefinedConstructor: AbstractJavaRule() {
         }
 
 
-        return super.visit(node, data)
+        return data
     }
 }
\ No newline at end of file
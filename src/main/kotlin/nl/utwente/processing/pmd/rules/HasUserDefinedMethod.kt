@@ -4,20 +4,30 @@ import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceDeclaration
 import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
 import net.sourceforge.pmd.lang.java.ast.ASTMethodDeclaration
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 import nl.utwente.processing.pmd.symbols.ProcessingApplet
 
 /**
  * Rule that checks if there are user-defined methods (excluding Processing lifecycle methods).
  * Looks for methods in both the main class and inner classes.
  */
-class HasUserDefinedMethod : AbstractJavaRule() {
+class HasUserDefinedMethod : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+        addRuleChainVisit(ASTMethodDeclaration::class.java)
+    }
     private var compilationUnit: ASTCompilationUnit? = null
     private var hasUserDefinedMethod = false
 
+    override fun reset() {
+        compilationUnit = null
+        hasUserDefinedMethod = false
+    }
+
     override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
         compilationUnit = node
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTMethodDeclaration, data: Any?): Any? {
@@ -36,7 +46,7 @@ class HasUserDefinedMethod : AbstractJavaRule() {
             hasUserDefinedMethod = true
         }
 
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
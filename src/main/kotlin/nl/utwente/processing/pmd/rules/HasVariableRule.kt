@@ -1,19 +1,45 @@
  package nl.utwente.processing.pmd.rules
 
+import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
-import net.sourceforge.pmd.lang.java.ast.ASTVariableDeclarator
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import net.sourceforge.pmd.lang.java.ast.ASTLocalVariableDeclaration
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
- * Rule that checks whether there is at least one variable declared in the code.
+ * Rule that checks whether there is at least one variable declared in the code, a field or a local variable, also in
+ * the classes the student declared.
  * If no variable is found, a violation is reported.
  */
-class HasVariableRule : AbstractJavaRule() {
+class HasVariableRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+    }
+
+    private var hasVariable = false
+    private var compilationUnit: ASTCompilationUnit? = null
+
+    override fun reset() {
+        hasVariable = false
+        compilationUnit = null
+    }
+
     override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
-        val hasVariable = node.findDescendantsOfType(ASTVariableDeclarator::class.java).isNotEmpty()
-        if (!hasVariable) {
-            addViolationWithMessage(data, node, message, 0, 0)
+        // The variable may be declared in any tab, so report when the whole sketch is visited
+        if (compilationUnit == null) {
+            compilationUnit = node
+        }
+        val facts = getFacts(data, node)
+        if (facts.fields.isNotEmpty() || ASTLocalVariableDeclaration::class.java in facts.nodeTypes) {
+            hasVariable = true
+        }
+        return data
+    }
+
+    override fun end(ctx: RuleContext?) {
+        if (!hasVariable && compilationUnit != null && ctx != null) {
+            addViolationWithMessage(ctx, compilationUnit, message, 0, 0)
         }
-        return super.visit(node, data)
+        super.end(ctx)
     }
 }
@@ -2,8 +2,8 @@ package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.lang.java.ast.*
 import net.sourceforge.pmd.lang.java.metrics.api.JavaOperationMetricKey
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
 import net.sourceforge.pmd.lang.metrics.MetricsUtil
+import nl.utwente.processing.pmd.AbstractProcessingRule
 import nl.utwente.processing.pmd.symbols.ProcessingApplet
 import nl.utwente.processing.pmd.symbols.ProcessingAppletMethodCategory
 import java.lang.Exception
@@ -13,7 +13,11 @@ import java.lang.IllegalStateException
  * Class which implements the long method smell as PMD rule. Based on the NcssMethodCountRule in PMD. The class has
  * been modified to count blocks of Processing shape drawing methods as one line.
  */
-class LongMethodRule : AbstractJavaRule() {
+class LongMethodRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTMethodDeclaration::class.java)
+    }
 
     // List to store all methods that can be within a block, can be expanded as needed in the future.
     private val targetMethods = listOf<ProcessingAppletMethodCategory>(
@@ -26,6 +30,8 @@ class LongMethodRule : AbstractJavaRule() {
             ProcessingAppletMethodCategory.SHAPE_LD
     )
 
+    override fun reset() {}
+
     /**
      *  Visitor goes through all method declarations and first uses the standard PMD NCSS method to get the
      *  normal count. After which the expressions list is stored within and a block offset is defined.
@@ -35,7 +41,7 @@ class LongMethodRule : AbstractJavaRule() {
     override fun visit(node: ASTMethodDeclaration, data: Any?): Any? {
         val ncss = MetricsUtil.computeMetric(JavaOperationMetricKey.NCSS, node)
 
-        if (!node.hasDescendantOfType(ASTStatementExpression::class.java))  return super.visit(node, data) // Filters abstract classes.
+        if (!node.hasDescendantOfType(ASTStatementExpression::class.java))  return data // Filters abstract classes.
 
         val expressions = node.body.findDescendantsOfType(ASTStatementExpression::class.java)
         var blockOffset = 0.0
@@ -74,7 +80,7 @@ class LongMethodRule : AbstractJavaRule() {
         if ((ncss - blockOffset) > 50.0) {
             this.addViolationWithMessage(data, node.getFirstDescendantOfType(ASTResultType::class.java), message, arrayOf(node.name, ncss))
         }
-        return super.visit(node, data)
+        return data
     }
 
     /**
@@ -84,11 +90,6 @@ class LongMethodRule : AbstractJavaRule() {
      * @return Boolean if the method is defined as a shape method within target methods.
      */
     private fun isShapeMethod(methodName: String): Boolean {
-        ProcessingApplet.DRAW_METHODS.forEach {
-            if (it.name == methodName && targetMethods.contains(it.category)) {
-                return true
-            }
-        }
-        return false
+        return ProcessingApplet.DRAW_METHOD_INDEX.hasCategory(methodName, targetMethods)
     }
 }
\ No newline at end of file
@@ -1,7 +1,6 @@
 package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.lang.java.ast.*
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
 import net.sourceforge.pmd.lang.java.symboltable.ClassScope
 import net.sourceforge.pmd.lang.java.symboltable.MethodScope
 import net.sourceforge.pmd.lang.java.symboltable.VariableNameDeclaration
@@ -9,6 +8,7 @@ import net.sourceforge.pmd.lang.symboltable.NameOccurrence
 import kotlin.collections.ArrayList
 import kotlin.math.exp
 import kotlin.math.expm1
+import nl.utwente.processing.pmd.AbstractProcessingRule
 
 /**
  * Class that implements the OutOfScopeStateChange rule.
@@ -21,7 +21,12 @@ import kotlin.math.expm1
  *     operations are allowed however.
  * </p>
  */
-class OutOfScopeStateChangeRule: AbstractJavaRule() {
+class OutOfScopeStateChangeRule: AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTClassOrInterfaceDeclaration::class.java)
+        addRuleChainVisit(ASTMethodDeclaration::class.java)
+    }
 
     private var classDeclarations  = ArrayList<String>()
     private var methodDeclarations = ArrayList<String>()
@@ -30,9 +35,19 @@ class OutOfScopeStateChangeRule: AbstractJavaRule() {
     private var currentMethodName = ""
 
     /* Constructor Handler */
+    override fun reset() {
+        classDeclarations = ArrayList()
+        methodDeclarations = ArrayList()
+        globalDeclarations = ArrayList()
+        currentClassName = ""
+        currentMethodName = ""
+    }
+
     override fun visit(node: ASTClassOrInterfaceDeclaration, data: Any): Any? {
+        if (isDecided) return data
         if (!node.isNested) {
-           globalDeclarations = extractImages((node.scope as? ClassScope)?.variableDeclarations!!)
+           // The global variables of all tabs, a class in one tab can change a global declared in another
+           globalDeclarations = ArrayList(getProjectSymbols(data).fields.keys)
         } else {
             val constructor = node.getFirstDescendantOfType(ASTConstructorDeclaration::class.java)
             if (constructor != null) {
@@ -49,16 +64,18 @@ class OutOfScopeStateChangeRule: AbstractJavaRule() {
                         if (!nodeScope.contains(varName) && !constScope.contains(varName) && globalDeclarations.contains(varName)) {
                             this.addViolationWithMessage(data, expression, message,
                                     arrayOf(varName, "Constructor"))
+                            if (isDecided) return data
                         }
                     }
                 }
             }
         }
-        return super.visit(node, data)
+        return data
     }
 
     /* Method Handler */
     override fun visit(node: ASTMethodDeclaration, data: Any): Any? {
+        if (isDecided) return data
         val currentClass = node.getFirstParentOfType(ASTClassOrInterfaceDeclaration::class.java)
         if (currentClass.simpleName != currentClassName) {
             currentClassName = currentClass.simpleName
@@ -79,10 +96,11 @@ class OutOfScopeStateChangeRule: AbstractJavaRule() {
                 if (!classDeclarations.contains(varName) && !methodDeclarations.contains(varName) && globalDeclarations.contains(varName)) {
                     this.addViolationWithMessage(data, expression, message,
                             arrayOf(varName, currentMethodName))
+                    if (isDecided) return data
                 }
             }
         }
-        return super.visit(node, data)
+        return data
     }
 
     /* Helper Methods */
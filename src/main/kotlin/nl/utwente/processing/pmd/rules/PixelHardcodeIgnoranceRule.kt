@@ -1,9 +1,8 @@
 package nl.utwente.processing.pmd.rules
 
-import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit
 import net.sourceforge.pmd.lang.java.ast.ASTMethodDeclaration
 import net.sourceforge.pmd.lang.java.ast.ASTPrimaryExpression
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
 import nl.utwente.processing.pmd.symbols.ProcessingApplet
 import nl.utwente.processing.pmd.utils.hasLiteralArguments
 import nl.utwente.processing.pmd.utils.isMethodCall
@@ -13,26 +12,30 @@ import nl.utwente.processing.pmd.utils.matches
  * Class which implements the pixel hardcode ignorance smell as PMD rule.
  */
 
-class PixelHardcodeIgnoranceRule : AbstractJavaRule() {
+class PixelHardcodeIgnoranceRule : AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTPrimaryExpression::class.java)
+    }
 
     private var pushesMatrix = false
 
-    override fun visit(node: ASTCompilationUnit?, data: Any?): Any? {
-        this.pushesMatrix=false
-        return super.visit(node, data)
+    override fun reset() {
+        this.pushesMatrix = false
     }
 
 
     override fun visit(node: ASTPrimaryExpression, data: Any): Any? {
+        if (isDecided) return data
         val method = node.getFirstParentOfType(ASTMethodDeclaration::class.java)
 
         if (node.isMethodCall) {
-            val matchPushMatrix = node.matches(*ProcessingApplet.MATRIX_METHOD_SIGNATURES.toTypedArray())
+            val matchPushMatrix = node.matches(ProcessingApplet.MATRIX_METHOD_SIGNATURES)
             matchPushMatrix?.let {
                 pushesMatrix=true
             }
 
-            val match = node.matches(*ProcessingApplet.DRAW_METHODS.toTypedArray())
+            val match = node.matches(ProcessingApplet.DRAW_METHOD_INDEX)
             match?.let {
                 if (node.hasLiteralArguments(match)  &&!pushesMatrix ) {
                     this.addViolationWithMessage(data, node, message, kotlin.arrayOf(match, method.methodName))
@@ -41,7 +44,7 @@ class PixelHardcodeIgnoranceRule : AbstractJavaRule() {
             }
 
         }
-        return super.visit(node, data)
+        return data
     }
 
 }
\ No newline at end of file
@@ -10,6 +10,12 @@ import nl.utwente.processing.pmd.AbstractProcessingRule
  */
 class StatelessClassRule : AbstractProcessingRule() {
 
+    init {
+        addRuleChainVisit(ASTClassOrInterfaceDeclaration::class.java)
+    }
+
+    override fun reset() {}
+
     override fun visit(node: ASTClassOrInterfaceDeclaration, data: Any): Any? {
         //Check if this is a top node, not a inner class.
         if (node.isNested && !node.isInterface && !node.isAbstract) {
@@ -19,6 +25,6 @@ class StatelessClassRule : AbstractProcessingRule() {
                 this.addViolationWithMessage(data, node, message, node.beginLine, node.beginLine, kotlin.arrayOf(scope?.className))
             }
         }
-        return super.visit(node, data)
+        return data
     }
 }
\ No newline at end of file
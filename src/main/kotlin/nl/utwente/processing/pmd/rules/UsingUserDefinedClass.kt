@@ -3,7 +3,8 @@ package nl.utwente.processing.pmd.rules
 import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.lang.ast.Node
 import net.sourceforge.pmd.lang.java.ast.*
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
+import nl.utwente.processing.pmd.AbstractProcessingRule
+import nl.utwente.processing.pmd.utils.isInInterface
 
 /**
  * Rule that checks if user-defined inner classes are actually used in the code.
@@ -11,33 +12,39 @@ import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
  * - Have a constructor but are never instantiated
  * - Have no constructor and are never instantiated
  */
-class UsingUserDefinedClass: AbstractJavaRule() {
+class UsingUserDefinedClass: AbstractProcessingRule() {
+
+    init {
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+        addRuleChainVisit(ASTAllocationExpression::class.java)
+    }
 
-    private var outerClassName: String? = null
     private val definedClasses = mutableSetOf<String>()
     private val classesWithConstructors = mutableSetOf<String>()
     private val classesUsedWithNew = mutableSetOf<String>()
     private val classNodeMap = mutableMapOf<String, ASTClassOrInterfaceDeclaration>()
     private var compilationUnit: ASTCompilationUnit? = null
 
-    override fun visit(node: ASTCompilationUnit?, data: Any?): Any? {
-        compilationUnit = node
-        return super.visit(node, data)
+    override fun reset() {
+        definedClasses.clear()
+        classesWithConstructors.clear()
+        classesUsedWithNew.clear()
+        classNodeMap.clear()
+        compilationUnit = null
     }
 
-    override fun visit(node: ASTClassOrInterfaceDeclaration?, data: Any?): Any? {
-        if (node == null || node.isInterface) return data
+    override fun visit(node: ASTCompilationUnit?, data: Any?): Any? {
+        if (node == null) return data
+        compilationUnit = node
 
-        if (outerClassName == null) {
-            // First class = outer Processing wrapper
-            outerClassName = node.image
-        } else {
-            // This is an inner class
-            val className = node.image
+        // The outer Processing wrapper isn't an inner class, every tab has one when tabs are analysed separately
+        for (innerClass in getFacts(data, node).innerClasses) {
+            if (innerClass.isInterface || innerClass.isInInterface()) continue
+            val className = innerClass.image
             definedClasses.add(className)
-            classNodeMap[className] = node  // Store the actual class node for violation reporting
+            classNodeMap[className] = innerClass  // Store the actual class node for violation reporting
 
-            val hasConstructor = node
+            val hasConstructor = innerClass
                 .findDescendantsOfType(ASTConstructorDeclaration::class.java)
                 .any { it.image == null || it.image == className }
 
@@ -45,17 +52,17 @@ class UsingUserDefinedClass: AbstractJavaRule() {
                 classesWithConstructors.add(className)
             }
         }
-
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTAllocationExpression?, data: Any?): Any? {
-        val type = node?.getFirstChildOfType(ASTClassOrInterfaceType::class.java)
+        if (node == null || node.isInInterface()) return data
+        val type = node.getFirstChildOfType(ASTClassOrInterfaceType::class.java)
         val typeName = type?.image
         if (typeName != null) {
             classesUsedWithNew.add(typeName)
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
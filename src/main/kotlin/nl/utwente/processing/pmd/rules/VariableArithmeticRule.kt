@@ -2,12 +2,13 @@ package nl.utwente.processing.pmd.rules
 
 import net.sourceforge.pmd.lang.ast.Node
 import net.sourceforge.pmd.lang.java.ast.*
-import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule
 import net.sourceforge.pmd.RuleContext
 import net.sourceforge.pmd.properties.PropertyDescriptor
 import net.sourceforge.pmd.properties.PropertyFactory
+import nl.utwente.processing.pmd.AbstractProcessingRule
+import nl.utwente.processing.pmd.utils.isBefore
 
-class VariableArithmeticRule : AbstractJavaRule() {
+class VariableArithmeticRule : AbstractProcessingRule() {
 
     companion object {
         private val CATEGORY: PropertyDescriptor<String> =
@@ -18,30 +19,44 @@ class VariableArithmeticRule : AbstractJavaRule() {
     }
     init {
         definePropertyDescriptor(CATEGORY)
+        addRuleChainVisit(ASTCompilationUnit::class.java)
+        addRuleChainVisit(ASTAdditiveExpression::class.java)
+        addRuleChainVisit(ASTMultiplicativeExpression::class.java)
+        addRuleChainVisit(ASTStatementExpression::class.java)
+        addRuleChainVisit(ASTUnaryExpression::class.java)
+        addRuleChainVisit(ASTPreIncrementExpression::class.java)
+        addRuleChainVisit(ASTPreDecrementExpression::class.java)
+        addRuleChainVisit(ASTPostfixExpression::class.java)
     }
     private var meaningfulArithmeticCount = 0
     private var referenceNode: Node? = null
     private var compilationUnit: ASTCompilationUnit? = null
 
+    override fun reset() {
+        meaningfulArithmeticCount = 0
+        referenceNode = null
+        compilationUnit = null
+    }
+
     override fun visit(node: ASTCompilationUnit, data: Any?): Any? {
         compilationUnit = node
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTAdditiveExpression, data: Any?): Any? {
         if (hasVariableOperand(node)) {
             meaningfulArithmeticCount++
-            if (referenceNode == null) referenceNode = node
+            if (referenceNode.let { it == null || node.isBefore(it) }) referenceNode = node
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTMultiplicativeExpression, data: Any?): Any? {
         if (hasVariableOperand(node)) {
             meaningfulArithmeticCount++
-            if (referenceNode == null) referenceNode = node
+            if (referenceNode.let { it == null || node.isBefore(it) }) referenceNode = node
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTStatementExpression, data: Any?): Any? {
@@ -50,39 +65,39 @@ class VariableArithmeticRule : AbstractJavaRule() {
             val operator = assignmentOp.image
             if (operator in listOf("+=", "-=", "*=", "/=", "%=")) {
                 meaningfulArithmeticCount++
-                if (referenceNode == null) referenceNode = node
+                if (referenceNode.let { it == null || node.isBefore(it) }) referenceNode = node
             }
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTUnaryExpression, data: Any?): Any? {
         val operator = node.image
         if (operator == "++" || operator == "--") {
             meaningfulArithmeticCount++
-            if (referenceNode == null) referenceNode = node
+            if (referenceNode.let { it == null || node.isBefore(it) }) referenceNode = node
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun visit(node: ASTPreIncrementExpression, data: Any?): Any? {
         meaningfulArithmeticCount++
-        if (referenceNode == null) referenceNode = node
-        return super.visit(node, data)
+        if (referenceNode.let { it == null || node.isBefore(it) }) referenceNode = node
+        return data
     }
 
     override fun visit(node: ASTPreDecrementExpression, data: Any?): Any? {
         meaningfulArithmeticCount++
-        if (referenceNode == null) referenceNode = node
-        return super.visit(node, data)
+        if (referenceNode.let { it == null || node.isBefore(it) }) referenceNode = node
+        return data
     }
 
     override fun visit(node: ASTPostfixExpression, data: Any?): Any? {
         if (node.image == "++" || node.image == "--") {
             meaningfulArithmeticCount++
-            if (referenceNode == null) referenceNode = node
+            if (referenceNode.let { it == null || node.isBefore(it) }) referenceNode = node
         }
-        return super.visit(node, data)
+        return data
     }
 
     override fun end(ctx: RuleContext?) {
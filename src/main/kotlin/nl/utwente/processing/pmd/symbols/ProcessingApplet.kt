@@ -310,6 +310,7 @@ object ProcessingApplet {
             //TextSize method: https://processing.org/reference/textSize_.html
             ProcessingAppletMethod("textSize", listOf(PARAM_FLOAT_NON_PIXEL), TYPOGRAPHY_ATTRIBUTES)
     )
+    val DRAW_METHOD_INDEX = ProcessingAppletMethodIndex(DRAW_METHODS)
 
     val MATRIX_METHOD_SIGNATURES = setOf(
             //MouseClicked handler: https://processing.org/reference/mouseClicked_.html
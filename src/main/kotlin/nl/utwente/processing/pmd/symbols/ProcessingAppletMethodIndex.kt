@@ -0,0 +1,44 @@
+package nl.utwente.processing.pmd.symbols
+
+/**
+ * Read-only index of Processing Applet methods by name, then by argument count, then by category, so a call can be
+ * matched with a lookup instead of comparing it to every method. Methods with the same name and argument count are
+ * kept in the order they were given in.
+ */
+class ProcessingAppletMethodIndex(methods: Collection<ProcessingAppletMethod>) {
+
+    private val methods: Map<String, Map<Int, List<ProcessingAppletMethod>>> =
+            methods.groupBy { it.name }.mapValues { (_, overloads) -> overloads.groupBy { it.parameters.size } }
+
+    private val categories: Map<String, Map<Int, Map<ProcessingAppletMethodCategory, ProcessingAppletMethod>>> =
+            this.methods.mapValues { (_, byCount) ->
+                byCount.mapValues { (_, overloads) ->
+                    overloads.reversed().associateBy { it.category }
+                }
+            }
+
+    private val categoriesByName: Map<String, Set<ProcessingAppletMethodCategory>> =
+            this.methods.mapValues { (_, byCount) -> byCount.values.flatten().map { it.category }.toSet() }
+
+    /** The names of all methods */
+    val names: Set<String> = this.methods.keys
+
+    operator fun contains(name: String): Boolean {
+        return name in methods
+    }
+
+    /** The methods with the name and argument count, in the order they were given in */
+    fun get(name: String, argumentCount: Int): List<ProcessingAppletMethod> {
+        return methods[name]?.get(argumentCount) ?: emptyList()
+    }
+
+    /** The first method with the name, argument count and category, or null if there is none */
+    fun get(name: String, argumentCount: Int, category: ProcessingAppletMethodCategory): ProcessingAppletMethod? {
+        return categories[name]?.get(argumentCount)?.get(category)
+    }
+
+    /** Whether any method with the name is in one of the categories */
+    fun hasCategory(name: String, categories: Collection<ProcessingAppletMethodCategory>): Boolean {
+        return categoriesByName[name]?.any { it in categories } ?: false
+    }
+}
@@ -0,0 +1,134 @@
+package nl.utwente.processing.pmd.utils
+
+import net.sourceforge.pmd.lang.java.ast.ASTClassOrInterfaceDeclaration
+import net.sourceforge.pmd.lang.java.ast.ASTMethodDeclaration
+import net.sourceforge.pmd.lang.java.symboltable.ClassScope
+import net.sourceforge.pmd.lang.java.symboltable.MethodNameDeclaration
+import java.util.*
+
+/**
+ * The calls between the methods of a class and of the classes declared directly in it, the same calls as
+ * [ClassScope.callStack]. The graph is built once, with a number for every method and the callees and callers of
+ * every method, so the call stacks of methods are found with a single search. Get the graph of a sketch from
+ * [nl.utwente.processing.pmd.ProjectSymbols.getCallGraph], so all rules share it.
+ */
+class CallGraph(scope: ClassScope) {
+
+    private val methods = ArrayList<ASTMethodDeclaration>()
+    private val ids = HashMap<ASTMethodDeclaration, Int>()
+    private val callees: Array<IntArray>
+    private val callers: Array<IntArray>
+    // Methods that are also called outside any method, like in the initializer of a field
+    private val calledOutsideMethods = BitSet()
+
+    init {
+        val declarations = HashMap(scope.methodDeclarations.mapKeysToNodes())
+        for (classDecl in scope.classDeclarations.keys) {
+            val node = classDecl.accessNodeParent as? ASTClassOrInterfaceDeclaration
+            val nested = node?.scope as? ClassScope
+            nested?.let { s -> declarations.putAll(s.methodDeclarations.mapKeysToNodes()) }
+        }
+        val calleeSets = ArrayList<MutableSet<Int>>()
+        val callerSets = ArrayList<MutableSet<Int>>()
+        fun id(method: ASTMethodDeclaration): Int = ids.getOrPut(method) {
+            methods.add(method)
+            calleeSets.add(LinkedHashSet())
+            callerSets.add(LinkedHashSet())
+            methods.size - 1
+        }
+        for ((callee, occurrences) in declarations) {
+            val calleeId = id(callee)
+            occurrences?.forEach { o ->
+                val caller = o.location.getFirstParentOfType(ASTMethodDeclaration::class.java)
+                if (caller == null) {
+                    calledOutsideMethods.set(calleeId)
+                } else {
+                    val callerId = id(caller)
+                    calleeSets[callerId].add(calleeId)
+                    callerSets[calleeId].add(callerId)
+                }
+            }
+        }
+        callees = Array(methods.size) { calleeSets[it].toIntArray() }
+        callers = Array(methods.size) { callerSets[it].toIntArray() }
+    }
+
+    /** The methods the method calls directly */
+    fun callees(method: ASTMethodDeclaration): Set<ASTMethodDeclaration> {
+        return toMethods(ids[method]?.let { callees[it] } ?: IntArray(0))
+    }
+
+    /** The methods that call the method directly */
+    fun callers(method: ASTMethodDeclaration): Set<ASTMethodDeclaration> {
+        return toMethods(ids[method]?.let { callers[it] } ?: IntArray(0))
+    }
+
+    /**
+     * All methods that are in the call stacks of the specified methods, including the methods themselves.
+     * @param methods The methods to get the call stacks for.
+     */
+    fun callStack(vararg methods: MethodNameDeclaration): Set<ASTMethodDeclaration> {
+        val roots = methods.map { it.methodNameDeclaratorNode.getFirstParentOfType(ASTMethodDeclaration::class.java) }
+        val result = toMethods(reachable(roots))
+        // Methods the graph doesn't know don't call anything it knows
+        result.addAll(roots.filter { it !in ids })
+        return result
+    }
+
+    /**
+     * The methods that are only in the call stacks of the specified methods. Methods that are also called by methods
+     * outside of the call stacks, or outside any method, are not returned.
+     * @param methods The methods to get the locally unique call stacks for.
+     */
+    fun uniqueCallStack(vararg methods: MethodNameDeclaration): Set<ASTMethodDeclaration> {
+        val roots = methods.map { it.methodNameDeclaratorNode.getFirstParentOfType(ASTMethodDeclaration::class.java) }
+        val stack = reachable(roots)
+        val unique = BitSet()
+        var i = stack.nextSetBit(0)
+        while (i >= 0) {
+            if (!calledOutsideMethods[i] && callers[i].all { stack[it] }) {
+                unique.set(i)
+            }
+            i = stack.nextSetBit(i + 1)
+        }
+        val result = toMethods(unique)
+        result.addAll(roots.filter { it !in ids })
+        return result
+    }
+
+    /** Breadth-first search from the roots, the ids of all methods reached */
+    private fun reachable(roots: List<ASTMethodDeclaration>): BitSet {
+        val reached = BitSet(methods.size)
+        val queue = ArrayDeque<Int>()
+        for (root in roots) {
+            val id = ids[root] ?: continue
+            if (!reached[id]) {
+                reached.set(id)
+                queue.add(id)
+            }
+        }
+        while (queue.isNotEmpty()) {
+            for (callee in callees[queue.poll()]) {
+                if (!reached[callee]) {
+                    reached.set(callee)
+                    queue.add(callee)
+                }
+            }
+        }
+        return reached
+    }
+
+    private fun toMethods(ids: BitSet): MutableSet<ASTMethodDeclaration> {
+        val result = HashSet<ASTMethodDeclaration>()
+        var i = ids.nextSetBit(0)
+        while (i >= 0) {
+            result.add(methods[i])
+            i = ids.nextSetBit(i + 1)
+        }
+        return result
+    }
+
+    private fun toMethods(ids: IntArray): Set<ASTMethodDeclaration> {
+        return ids.mapTo(HashSet()) { methods[it] }
+    }
+}
@@ -3,6 +3,8 @@ package nl.utwente.processing.pmd.utils
 import net.sourceforge.pmd.lang.ast.Node
 import net.sourceforge.pmd.lang.java.ast.*
 import nl.utwente.processing.pmd.symbols.ProcessingAppletMethod
+import nl.utwente.processing.pmd.symbols.ProcessingAppletMethodCategory
+import nl.utwente.processing.pmd.symbols.ProcessingAppletMethodIndex
 import java.util.*
 
 val ASTPrimaryExpression.isMethodCall : Boolean
@@ -89,6 +91,34 @@ fun Node.getContainingClass() : ASTClassOrInterfaceDeclaration? {
     return this.getFirstParentOfType(ASTClassOrInterfaceDeclaration::class.java)
 }
 
+/**
+ * Whether the node comes before the other node in the order a visitor visits them, parents before their children.
+ * The rule chain visits the nodes of each type in turn, rules that keep the first node of several types use this.
+ * Nodes of different tabs are never before each other, the tab that is visited first keeps its node.
+ */
+fun Node.isBefore(other: Node) : Boolean {
+    if (this.root() !== other.root()) return false
+    if (this.beginLine != other.beginLine) return this.beginLine < other.beginLine
+    if (this.beginColumn != other.beginColumn) return this.beginColumn < other.beginColumn
+    var parent = other.parent
+    while (parent != null) {
+        if (parent === this) return true
+        parent = parent.parent
+    }
+    return false
+}
+
+private fun Node.root() : Node {
+    var node = this
+    while (node.parent != null) node = node.parent
+    return node
+}
+
+/** Whether the node is declared in an interface, the visits of the rules skip interfaces */
+fun Node.isInInterface() : Boolean {
+    return this.getParentsOfType(ASTClassOrInterfaceDeclaration::class.java).any { it.isInterface }
+}
+
 fun ASTPrimaryExpression.hasLiteralArguments(method: ProcessingAppletMethod) : Boolean {
     val argumentNode = this.findChildrenOfType(ASTPrimarySuffix::class.java).stream()
             .filter { s -> s.isArguments }.findFirst().orElse(null) ?: return false
@@ -187,4 +217,45 @@ fun ASTPrimaryExpression.matches(vararg methods: ProcessingAppletMethod) : Proce
 
 fun ASTPrimaryExpression.matches(vararg variables: String) : String? {
     return Arrays.stream(variables).filter { m -> this.matches(m) }.findFirst().orElse(null)
+}
+
+/**
+ * The name of the global the expression starts with, when it is one of the names, like [matches] for a single name.
+ */
+fun ASTPrimaryExpression.matches(names: Set<String>) : String? {
+    val prefix = this.getChild(0) as? ASTPrimaryPrefix ?: return null
+    if (prefix.usesThisModifier() || prefix.usesSuperModifier()) {
+        return null
+    }
+    val name = prefix.getFirstChildOfType(ASTName::class.java) ?: return null
+    if (name.image !in names || name.nameDeclaration != null) {
+        return null
+    }
+    return name.image
+}
+
+/**
+ * The method of the index the expression calls, like [matches] for a single method, but with one lookup for the
+ * name and argument count of the call. When a category is given, only methods of that category match.
+ */
+fun ASTPrimaryExpression.matches(index: ProcessingAppletMethodIndex,
+                                 category: ProcessingAppletMethodCategory? = null) : ProcessingAppletMethod? {
+    if (this.getNumChildren() < 2) return null
+    val prefix = this.getChild(0) as? ASTPrimaryPrefix ?: return null
+    val suffix = this.getChild(1) as? ASTPrimarySuffix ?: return null
+    // A call through this. or super. has a name suffix before the arguments, so it never matches
+    if (prefix.usesThisModifier() || prefix.usesSuperModifier() || !suffix.isArguments) {
+        return null
+    }
+    val name = prefix.getFirstChildOfType(ASTName::class.java) ?: return null
+    val image = name.image
+    if (image !in index) {
+        return null
+    }
+    val method = if (category == null) index.get(image, suffix.argumentCount).firstOrNull()
+                 else index.get(image, suffix.argumentCount, category)
+    if (method == null || name.nameDeclaration != null) {
+        return null
+    }
+    return method
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package nl.utwente.processing.pmd.utils
+
+import net.sourceforge.pmd.lang.ast.Node
+
+/**
+ * The nodes of a compilation unit by their exact type, collected in a single pass over the tree, so rules that only
+ * need to know whether a sketch uses a kind of node look it up instead of visiting the tree. Unlike
+ * [Node.findDescendantsOfType], the index includes the nodes in inner classes and lambdas, like a visitor would, and
+ * the nodes of each type are kept in the order a visitor visits them. Get the index of a compilation unit from
+ * [SketchFacts.nodeTypes], so all rules share it.
+ */
+class NodeTypeIndex(root: Node) {
+
+    private class Occurrences {
+        val nodes = ArrayList<Node>()
+        // The position of every node in the order of the visitor, to find the first node of several types
+        var positions = IntArray(4)
+
+        fun add(node: Node, position: Int) {
+            if (nodes.size == positions.size) positions = positions.copyOf(positions.size * 2)
+            positions[nodes.size] = position
+            nodes.add(node)
+        }
+    }
+
+    private val types = HashMap<Class<out Node>, Occurrences>()
+
+    /** The number of nodes in the compilation unit */
+    val size: Int
+
+    init {
+        val stack = ArrayList<Node>()
+        stack.add(root)
+        var position = 0
+        while (stack.isNotEmpty()) {
+            val node = stack.removeAt(stack.size - 1)
+            types.getOrPut(node.javaClass) { Occurrences() }.add(node, position++)
+            for (i in node.numChildren - 1 downTo 0) {
+                stack.add(node.getChild(i))
+            }
+        }
+        size = position
+    }
+
+    operator fun contains(type: Class<out Node>): Boolean {
+        return type in types
+    }
+
+    /** The number of nodes of the type */
+    fun count(type: Class<out Node>): Int {
+        return types[type]?.nodes?.size ?: 0
+    }
+
+    /** The nodes of the type, in the order a visitor visits them */
+    fun <T : Node> nodes(type: Class<T>): List<T> {
+        @Suppress("UNCHECKED_CAST")
+        return (types[type]?.nodes ?: emptyList<Node>()) as List<T>
+    }
+
+    /** The first node of the type, or null if there is none */
+    fun <T : Node> first(type: Class<T>): T? {
+        return nodes(type).firstOrNull()
+    }
+
+    /** The first node of any of the types that matches the predicate, or null if there is none */
+    fun first(types: Collection<Class<out Node>>, predicate: (Node) -> Boolean): Node? {
+        var first: Node? = null
+        var firstPosition = Int.MAX_VALUE
+        for (type in types) {
+            val occurrences = this.types[type] ?: continue
+            for (i in occurrences.nodes.indices) {
+                if (occurrences.positions[i] >= firstPosition) break
+                if (predicate(occurrences.nodes[i])) {
+                    first = occurrences.nodes[i]
+                    firstPosition = occurrences.positions[i]
+                    break
+                }
+            }
+        }
+        return first
+    }
+}
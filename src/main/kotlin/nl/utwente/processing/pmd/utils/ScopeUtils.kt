@@ -58,35 +58,21 @@ fun ClassScope.callStack(): Map<ASTMethodDeclaration, Set<ASTMethodDeclaration>>
 
 /**
  * Extension method which returns all methods that are in the call stacks of the specified methods.
+ * Rules should use the shared [CallGraph] of the sketch instead, which is only built once.
  * @param methods The methods to get the call stacks for.
  */
 fun ClassScope.callStack(vararg methods: MethodNameDeclaration) : Set<ASTMethodDeclaration> {
-    val totalStack = this.callStack();
-    val stack = HashSet<ASTMethodDeclaration>()
-    for (method in methods) {
-        val methodDecl = method.methodNameDeclaratorNode.getFirstParentOfType(ASTMethodDeclaration::class.java)
-        stack.addAll(totalStack[methodDecl] ?: emptySet())
-        stack.add(methodDecl)
-    }
-    var size: Int
-    do {
-        size = stack.size
-        HashSet(stack).forEach { m -> stack.addAll(this.callStack()[m] ?: emptySet()) }
-    } while (stack.size != size)
-    return stack
+    return CallGraph(this).callStack(*methods)
 }
 
 /**
  * Extension method which returns the methods that are uniquely in the call stacks of the specified methods.
  * All methods that are also called by methods outside of the call stacks are not returned in the final set.
+ * Rules should use the shared [CallGraph] of the sketch instead, which is only built once.
  * @param method The methods to get the locally unique call stacks for.
  */
 fun ClassScope.uniqueCallStack(vararg methods: MethodNameDeclaration) : Set<ASTMethodDeclaration> {
-    val stack = this.callStack()
-    val uniqueStack = HashSet(this.callStack(*methods))
-    return uniqueStack.stream().filter {
-        m -> uniqueStack.containsAll(stack.keysByValue(m))
-    }.collect(Collectors.toSet())
+    return CallGraph(this).uniqueCallStack(*methods)
 }
 
 /**
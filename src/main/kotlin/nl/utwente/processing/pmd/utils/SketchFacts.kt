@@ -0,0 +1,103 @@
+package nl.utwente.processing.pmd.utils
+
+import net.sourceforge.pmd.lang.ast.Node
+import net.sourceforge.pmd.lang.java.ast.*
+import nl.utwente.processing.pmd.symbols.ProcessingApplet
+import java.util.*
+
+/**
+ * Facts about a compilation unit that several rules need, collected from the tree when first asked for and then
+ * shared by all rules, so the cost of a tab doesn't grow with the number of rules times the size of the tree. Get the
+ * facts of a node with [nl.utwente.processing.pmd.ProjectSymbols.getFacts]. Like
+ * [Node.findDescendantsOfType], the methods, expressions and call sites don't look inside inner classes and lambdas;
+ * the inner classes, fields, loops and the [nodeTypes] do.
+ */
+class SketchFacts(val compilationUnit: Node) {
+
+    companion object {
+        /** Whether the method has the name of one of the Processing event handlers */
+        fun isEventHandler(method: ASTMethodDeclaration): Boolean {
+            val name = method.name
+            return ProcessingApplet.EVENT_METHOD_SIGNATURES.any { it.startsWith(name) }
+        }
+
+        /** The name the primary expression calls, like `ellipse` or `ball.move`, or null if it isn't a name */
+        fun callName(call: ASTPrimaryExpression): String? {
+            val prefix = call.getFirstChildOfType(ASTPrimaryPrefix::class.java)
+            return prefix?.getFirstChildOfType(ASTName::class.java)?.image
+        }
+    }
+
+    /** The methods declared in the compilation unit, in the order they are declared */
+    val methods: List<ASTMethodDeclaration> by lazy {
+        compilationUnit.findDescendantsOfType(ASTMethodDeclaration::class.java)
+    }
+
+    /** The names of the methods declared in the compilation unit */
+    val methodNames: Set<String> by lazy {
+        methods.mapTo(HashSet()) { it.name }
+    }
+
+    /** The nodes of the compilation unit by type, including the nodes in inner classes and lambdas */
+    val nodeTypes: NodeTypeIndex by lazy {
+        NodeTypeIndex(compilationUnit)
+    }
+
+    /**
+     * The classes and interfaces declared in a class, at any depth, in the order a visitor visits them. The class
+     * each tab is wrapped in and classes declared in a method are not included.
+     */
+    val innerClasses: List<ASTClassOrInterfaceDeclaration> by lazy {
+        nodeTypes.nodes(ASTClassOrInterfaceDeclaration::class.java).filter { it.isNested }
+    }
+
+    /** The fields declared in the compilation unit, including those of inner classes, in the order they are declared */
+    val fields: List<ASTFieldDeclaration> by lazy {
+        nodeTypes.nodes(ASTFieldDeclaration::class.java)
+    }
+
+    /** The for and while loops of the compilation unit, including those in inner classes and lambdas, for loops first */
+    val loops: List<Node> by lazy {
+        nodeTypes.nodes(ASTForStatement::class.java) + nodeTypes.nodes(ASTWhileStatement::class.java)
+    }
+
+    /**
+     * The nodes [hasControlFlow] is true for: the ancestors of every loop and if statement, up to the first inner
+     * class or lambda, which [Node.findDescendantsOfType] doesn't look beyond.
+     */
+    private val controlFlowOwners: Set<Node> by lazy {
+        val owners = Collections.newSetFromMap(IdentityHashMap<Node, Boolean>())
+        for (statement in loops + nodeTypes.nodes(ASTIfStatement::class.java)) {
+            var owner = statement.parent
+            while (owner != null && owners.add(owner) && !owner.isFindBoundary) {
+                owner = owner.parent
+            }
+        }
+        owners
+    }
+
+    private val primaryExpressions = IdentityHashMap<Node, List<ASTPrimaryExpression>>()
+    private val callSites = IdentityHashMap<Node, Map<String, List<ASTPrimaryExpression>>>()
+
+    /** The primary expressions in the node, usually a method, found once for all rules */
+    fun primaryExpressions(node: Node): List<ASTPrimaryExpression> {
+        return primaryExpressions.getOrPut(node) { node.findDescendantsOfType(ASTPrimaryExpression::class.java) }
+    }
+
+    /** The primary expressions in the node that call a name, by the [callName], in the order they appear */
+    fun callSites(node: Node): Map<String, List<ASTPrimaryExpression>> {
+        return callSites.getOrPut(node) {
+            val sites = LinkedHashMap<String, MutableList<ASTPrimaryExpression>>()
+            for (call in primaryExpressions(node)) {
+                val name = callName(call) ?: continue
+                sites.getOrPut(name) { ArrayList() }.add(call)
+            }
+            sites
+        }
+    }
+
+    /** Whether the node, usually a method, contains a for loop, if statement or while loop */
+    fun hasControlFlow(node: Node): Boolean {
+        return node in controlFlowOwners
+    }
+}
@@ -0,0 +1,429 @@
+package processing.core;
+
+import processing.data.*;
+import processing.event.*;
+
+/**
+ * Stub of the Processing sketch base class, only used to compile sketches in-process. The stub extends
+ * PGraphics so the drawing API is declared once. The callbacks are package private, so sketches may
+ * declare them with any access modifier without clashing with the stub.
+ */
+public class PApplet extends PGraphics {
+    public String[] args;
+    public PGraphics g;
+    public PSurface surface;
+    public int displayWidth;
+    public int displayHeight;
+    public int mouseX;
+    public int mouseY;
+    public int pmouseX;
+    public int pmouseY;
+    public int mouseButton;
+    public boolean mousePressed;
+    public char key;
+    public int keyCode;
+    public boolean keyPressed;
+    public boolean focused;
+    public int frameCount;
+    public float frameRate;
+    public boolean finished;
+    public static int platform;
+    public static boolean useNativeSelect;
+
+    void settings() {}
+    void setup() {}
+    void draw() {}
+    void mousePressed() {}
+    void mousePressed(MouseEvent event) {}
+    void mouseReleased() {}
+    void mouseReleased(MouseEvent event) {}
+    void mouseClicked() {}
+    void mouseClicked(MouseEvent event) {}
+    void mouseDragged() {}
+    void mouseDragged(MouseEvent event) {}
+    void mouseMoved() {}
+    void mouseMoved(MouseEvent event) {}
+    void mouseEntered() {}
+    void mouseEntered(MouseEvent event) {}
+    void mouseExited() {}
+    void mouseExited(MouseEvent event) {}
+    void mouseWheel() {}
+    void mouseWheel(MouseEvent event) {}
+    void keyPressed() {}
+    void keyPressed(KeyEvent event) {}
+    void keyReleased() {}
+    void keyReleased(KeyEvent event) {}
+    void keyTyped() {}
+    void keyTyped(KeyEvent event) {}
+    void focusGained() {}
+    void focusLost() {}
+    void windowMoved() {}
+    void windowResized() {}
+    void exitActual() {}
+
+    public void size(int width, int height) {}
+    public void size(int width, int height, String renderer) {}
+    public void size(int width, int height, String renderer, String path) {}
+    public void fullScreen() {}
+    public void fullScreen(int display) {}
+    public void fullScreen(String renderer) {}
+    public void fullScreen(String renderer, int display) {}
+    public void pixelDensity(int density) {}
+    public int displayDensity() { return 1; }
+    public void frameRate(float fps) {}
+    public void loop() {}
+    public void noLoop() {}
+    public boolean isLooping() { return true; }
+    public void redraw() {}
+    public void exit() {}
+    public void start() {}
+    public void stop() {}
+    public void pause() {}
+    public void resume() {}
+    public void delay(int napTime) {}
+    public void thread(String name) {}
+    public void cursor() {}
+    public void cursor(int kind) {}
+    public void cursor(PImage img) {}
+    public void cursor(PImage img, int x, int y) {}
+    public void noCursor() {}
+    public void saveFrame() {}
+    public void saveFrame(String filename) {}
+    public void registerMethod(String methodName, Object target) {}
+    public void unregisterMethod(String methodName, Object target) {}
+    public PSurface getSurface() { return null; }
+    public PGraphics getGraphics() { return null; }
+    public void windowTitle(String title) {}
+    public void windowResize(int newWidth, int newHeight) {}
+    public void windowResizable(boolean resizable) {}
+    public void windowMove(int x, int y) {}
+    public void windowRatio(int wide, int high) {}
+    public int sketchWidth() { return 0; }
+    public int sketchHeight() { return 0; }
+    public String sketchRenderer() { return null; }
+    public int sketchSmooth() { return 0; }
+    public boolean sketchFullScreen() { return false; }
+    public int sketchDisplay() { return 0; }
+    public int sketchPixelDensity() { return 1; }
+    public PGraphics beginRecord(String renderer, String filename) { return null; }
+    public void beginRecord(PGraphics recorder) {}
+    public void endRecord() {}
+    public PGraphics beginRaw(String renderer, String filename) { return null; }
+    public void beginRaw(PGraphics rawGraphics) {}
+    public void endRaw() {}
+    public void method(String name) {}
+    public static void main(String[] args) {}
+    public static void runSketch(String[] args, PApplet constructedSketch) {}
+
+    public int millis() { return 0; }
+    public static int second() { return 0; }
+    public static int minute() { return 0; }
+    public static int hour() { return 0; }
+    public static int day() { return 0; }
+    public static int month() { return 0; }
+    public static int year() { return 0; }
+
+    public static void print(byte what) {}
+    public static void print(boolean what) {}
+    public static void print(char what) {}
+    public static void print(int what) {}
+    public static void print(long what) {}
+    public static void print(float what) {}
+    public static void print(double what) {}
+    public static void print(String what) {}
+    public static void print(Object... variables) {}
+    public static void println() {}
+    public static void println(byte what) {}
+    public static void println(boolean what) {}
+    public static void println(char what) {}
+    public static void println(int what) {}
+    public static void println(long what) {}
+    public static void println(float what) {}
+    public static void println(double what) {}
+    public static void println(String what) {}
+    public static void println(Object what) {}
+    public static void println(Object... variables) {}
+    public static void printArray(Object what) {}
+    public static void debug(String msg) {}
+
+    public static final float abs(float n) { return 0; }
+    public static final int abs(int n) { return 0; }
+    public static final float sq(float n) { return 0; }
+    public static final float sqrt(float n) { return 0; }
+    public static final float log(float n) { return 0; }
+    public static final float exp(float n) { return 0; }
+    public static final float pow(float n, float e) { return 0; }
+    public static final int max(int a, int b) { return 0; }
+    public static final float max(float a, float b) { return 0; }
+    public static final int max(int a, int b, int c) { return 0; }
+    public static final float max(float a, float b, float c) { return 0; }
+    public static final int max(int[] list) { return 0; }
+    public static final float max(float[] list) { return 0; }
+    public static final int min(int a, int b) { return 0; }
+    public static final float min(float a, float b) { return 0; }
+    public static final int min(int a, int b, int c) { return 0; }
+    public static final float min(float a, float b, float c) { return 0; }
+    public static final int min(int[] list) { return 0; }
+    public static final float min(float[] list) { return 0; }
+    public static final int constrain(int amt, int low, int high) { return 0; }
+    public static final float constrain(float amt, float low, float high) { return 0; }
+    public static final float sin(float angle) { return 0; }
+    public static final float cos(float angle) { return 0; }
+    public static final float tan(float angle) { return 0; }
+    public static final float asin(float value) { return 0; }
+    public static final float acos(float value) { return 0; }
+    public static final float atan(float value) { return 0; }
+    public static final float atan2(float y, float x) { return 0; }
+    public static final float degrees(float radians) { return 0; }
+    public static final float radians(float degrees) { return 0; }
+    public static final int ceil(float n) { return 0; }
+    public static final int floor(float n) { return 0; }
+    public static final int round(float n) { return 0; }
+    public static final float mag(float a, float b) { return 0; }
+    public static final float mag(float a, float b, float c) { return 0; }
+    public static final float dist(float x1, float y1, float x2, float y2) { return 0; }
+    public static final float dist(float x1, float y1, float z1, float x2, float y2, float z2) { return 0; }
+    public static final float lerp(float start, float stop, float amt) { return 0; }
+    public static final float norm(float value, float start, float stop) { return 0; }
+    public static final float map(float value, float start1, float stop1, float start2, float stop2) { return 0; }
+    public static final double map(double value, double start1, double stop1, double start2, double stop2) { return 0; }
+    public final float random(float high) { return 0; }
+    public final float random(float low, float high) { return 0; }
+    public final float randomGaussian() { return 0; }
+    public final void randomSeed(long seed) {}
+    public float noise(float x) { return 0; }
+    public float noise(float x, float y) { return 0; }
+    public float noise(float x, float y, float z) { return 0; }
+    public void noiseDetail(int lod) {}
+    public void noiseDetail(int lod, float falloff) {}
+    public void noiseSeed(long seed) {}
+
+    public static final boolean toBoolean(int what) { return false; }
+    public static final boolean toBoolean(String what) { return false; }
+    public static final int toInt(boolean what) { return 0; }
+    public static final int toInt(byte what) { return 0; }
+    public static final int toInt(char what) { return 0; }
+    public static final int toInt(int what) { return 0; }
+    public static final int toInt(long what) { return 0; }
+    public static final int toInt(float what) { return 0; }
+    public static final int toInt(double what) { return 0; }
+    public static final int toInt(String what) { return 0; }
+    public static final int toInt(String what, int otherwise) { return 0; }
+    public static final int[] toInt(byte[] what) { return null; }
+    public static final int[] toInt(char[] what) { return null; }
+    public static final int[] toInt(float[] what) { return null; }
+    public static final int[] toInt(String[] what) { return null; }
+    public static final float toFloat(int what) { return 0; }
+    public static final float toFloat(long what) { return 0; }
+    public static final float toFloat(float what) { return 0; }
+    public static final float toFloat(double what) { return 0; }
+    public static final float toFloat(char what) { return 0; }
+    public static final float toFloat(String what) { return 0; }
+    public static final float toFloat(String what, float otherwise) { return 0; }
+    public static final float[] toFloat(int[] what) { return null; }
+    public static final float[] toFloat(String[] what) { return null; }
+    public static final boolean parseBoolean(int what) { return false; }
+    public static final boolean parseBoolean(String what) { return false; }
+    public static final byte parseByte(boolean what) { return 0; }
+    public static final byte parseByte(char what) { return 0; }
+    public static final byte parseByte(int what) { return 0; }
+    public static final byte parseByte(float what) { return 0; }
+    public static final char parseChar(byte what) { return 0; }
+    public static final char parseChar(int what) { return 0; }
+    public static final int parseInt(boolean what) { return 0; }
+    public static final int parseInt(byte what) { return 0; }
+    public static final int parseInt(char what) { return 0; }
+    public static final int parseInt(float what) { return 0; }
+    public static final int parseInt(String what) { return 0; }
+    public static final int parseInt(String what, int otherwise) { return 0; }
+    public static final float parseFloat(int what) { return 0; }
+    public static final float parseFloat(String what) { return 0; }
+    public static final float parseFloat(String what, float otherwise) { return 0; }
+    public static final String str(boolean value) { return null; }
+    public static final String str(byte value) { return null; }
+    public static final String str(char value) { return null; }
+    public static final String str(int value) { return null; }
+    public static final String str(float value) { return null; }
+    public static final String[] str(int[] values) { return null; }
+    public static final String[] str(float[] values) { return null; }
+    public static final String hex(byte value) { return null; }
+    public static final String hex(char value) { return null; }
+    public static final String hex(int value) { return null; }
+    public static final String hex(int value, int digits) { return null; }
+    public static final int unhex(String value) { return 0; }
+    public static final String binary(byte value) { return null; }
+    public static final String binary(char value) { return null; }
+    public static final String binary(int value) { return null; }
+    public static final String binary(int value, int digits) { return null; }
+    public static final int unbinary(String value) { return 0; }
+
+    public static String nf(int num) { return null; }
+    public static String nf(int num, int digits) { return null; }
+    public static String[] nf(int[] nums, int digits) { return null; }
+    public static String nf(float num) { return null; }
+    public static String nf(float num, int left, int right) { return null; }
+    public static String[] nf(float[] nums, int left, int right) { return null; }
+    public static String nfc(int num) { return null; }
+    public static String[] nfc(int[] nums) { return null; }
+    public static String nfc(float num, int right) { return null; }
+    public static String[] nfc(float[] nums, int right) { return null; }
+    public static String nfs(int num, int digits) { return null; }
+    public static String[] nfs(int[] nums, int digits) { return null; }
+    public static String nfs(float num, int left, int right) { return null; }
+    public static String[] nfs(float[] nums, int left, int right) { return null; }
+    public static String nfp(int num, int digits) { return null; }
+    public static String[] nfp(int[] nums, int digits) { return null; }
+    public static String nfp(float num, int left, int right) { return null; }
+    public static String[] nfp(float[] nums, int left, int right) { return null; }
+    public static String join(String[] list, char separator) { return null; }
+    public static String join(String[] list, String separator) { return null; }
+    public static String trim(String str) { return null; }
+    public static String[] trim(String[] array) { return null; }
+    public static String[] split(String value, char delim) { return null; }
+    public static String[] split(String value, String delim) { return null; }
+    public static String[] splitTokens(String value) { return null; }
+    public static String[] splitTokens(String value, String delim) { return null; }
+    public static String[] match(String str, String regexp) { return null; }
+    public static String[][] matchAll(String str, String regexp) { return null; }
+
+    public static boolean[] sort(boolean[] list) { return null; }
+    public static byte[] sort(byte[] list) { return null; }
+    public static char[] sort(char[] list) { return null; }
+    public static int[] sort(int[] list) { return null; }
+    public static int[] sort(int[] list, int count) { return null; }
+    public static float[] sort(float[] list) { return null; }
+    public static float[] sort(float[] list, int count) { return null; }
+    public static String[] sort(String[] list) { return null; }
+    public static String[] sort(String[] list, int count) { return null; }
+    public static void arrayCopy(Object src, int srcPosition, Object dst, int dstPosition, int length) {}
+    public static void arrayCopy(Object src, Object dst, int length) {}
+    public static void arrayCopy(Object src, Object dst) {}
+    public static void arraycopy(Object src, int srcPosition, Object dst, int dstPosition, int length) {}
+    public static void arraycopy(Object src, Object dst, int length) {}
+    public static void arraycopy(Object src, Object dst) {}
+    public static boolean[] expand(boolean[] list) { return null; }
+    public static byte[] expand(byte[] list) { return null; }
+    public static char[] expand(char[] list) { return null; }
+    public static int[] expand(int[] list) { return null; }
+    public static int[] expand(int[] list, int newSize) { return null; }
+    public static float[] expand(float[] list) { return null; }
+    public static float[] expand(float[] list, int newSize) { return null; }
+    public static String[] expand(String[] list) { return null; }
+    public static String[] expand(String[] list, int newSize) { return null; }
+    public static Object expand(Object array) { return null; }
+    public static Object expand(Object list, int newSize) { return null; }
+    public static byte[] append(byte[] array, byte value) { return null; }
+    public static char[] append(char[] array, char value) { return null; }
+    public static int[] append(int[] array, int value) { return null; }
+    public static float[] append(float[] array, float value) { return null; }
+    public static String[] append(String[] array, String value) { return null; }
+    public static Object append(Object array, Object value) { return null; }
+    public static boolean[] shorten(boolean[] list) { return null; }
+    public static byte[] shorten(byte[] list) { return null; }
+    public static char[] shorten(char[] list) { return null; }
+    public static int[] shorten(int[] list) { return null; }
+    public static float[] shorten(float[] list) { return null; }
+    public static String[] shorten(String[] list) { return null; }
+    public static Object shorten(Object list) { return null; }
+    public static boolean[] splice(boolean[] list, boolean value, int index) { return null; }
+    public static char[] splice(char[] list, char value, int index) { return null; }
+    public static int[] splice(int[] list, int value, int index) { return null; }
+    public static int[] splice(int[] list, int[] value, int index) { return null; }
+    public static float[] splice(float[] list, float value, int index) { return null; }
+    public static float[] splice(float[] list, float[] value, int index) { return null; }
+    public static String[] splice(String[] list, String value, int index) { return null; }
+    public static String[] splice(String[] list, String[] value, int index) { return null; }
+    public static Object splice(Object list, Object value, int index) { return null; }
+    public static boolean[] subset(boolean[] list, int start) { return null; }
+    public static boolean[] subset(boolean[] list, int start, int count) { return null; }
+    public static char[] subset(char[] list, int start) { return null; }
+    public static char[] subset(char[] list, int start, int count) { return null; }
+    public static int[] subset(int[] list, int start) { return null; }
+    public static int[] subset(int[] list, int start, int count) { return null; }
+    public static float[] subset(float[] list, int start) { return null; }
+    public static float[] subset(float[] list, int start, int count) { return null; }
+    public static String[] subset(String[] list, int start) { return null; }
+    public static String[] subset(String[] list, int start, int count) { return null; }
+    public static Object subset(Object list, int start) { return null; }
+    public static Object subset(Object list, int start, int count) { return null; }
+    public static boolean[] concat(boolean[] a, boolean[] b) { return null; }
+    public static char[] concat(char[] a, char[] b) { return null; }
+    public static int[] concat(int[] a, int[] b) { return null; }
+    public static float[] concat(float[] a, float[] b) { return null; }
+    public static String[] concat(String[] a, String[] b) { return null; }
+    public static Object concat(Object a, Object b) { return null; }
+    public static boolean[] reverse(boolean[] list) { return null; }
+    public static char[] reverse(char[] list) { return null; }
+    public static int[] reverse(int[] list) { return null; }
+    public static float[] reverse(float[] list) { return null; }
+    public static String[] reverse(String[] list) { return null; }
+    public static Object reverse(Object list) { return null; }
+
+    public PImage loadImage(String filename) { return null; }
+    public PImage loadImage(String filename, String extension) { return null; }
+    public PImage requestImage(String filename) { return null; }
+    public PImage createImage(int w, int h, int format) { return null; }
+    public PGraphics createGraphics(int w, int h) { return null; }
+    public PGraphics createGraphics(int w, int h, String renderer) { return null; }
+    public PShape loadShape(String filename) { return null; }
+    public PShape loadShape(String filename, String options) { return null; }
+    public PFont loadFont(String filename) { return null; }
+    public PFont createFont(String name, float size) { return null; }
+    public PFont createFont(String name, float size, boolean smooth) { return null; }
+    public PFont createFont(String name, float size, boolean smooth, char[] charset) { return null; }
+    public String[] loadStrings(String filename) { return null; }
+    public static String[] loadStrings(java.io.File file) { return null; }
+    public static String[] loadStrings(java.io.BufferedReader reader) { return null; }
+    public static String[] loadStrings(java.io.InputStream input) { return null; }
+    public void saveStrings(String filename, String[] data) {}
+    public static void saveStrings(java.io.File file, String[] data) {}
+    public static void saveStrings(java.io.OutputStream output, String[] data) {}
+    public byte[] loadBytes(String filename) { return null; }
+    public static byte[] loadBytes(java.io.File file) { return null; }
+    public static byte[] loadBytes(java.io.InputStream input) { return null; }
+    public void saveBytes(String filename, byte[] data) {}
+    public static void saveBytes(java.io.File file, byte[] data) {}
+    public static void saveBytes(java.io.OutputStream output, byte[] data) {}
+    public boolean saveStream(String target, String source) { return true; }
+    public XML loadXML(String filename) { return null; }
+    public XML loadXML(String filename, String options) { return null; }
+    public XML parseXML(String xmlString) { return null; }
+    public XML parseXML(String xmlString, String options) { return null; }
+    public boolean saveXML(XML xml, String filename) { return true; }
+    public boolean saveXML(XML xml, String filename, String options) { return true; }
+    public JSONObject loadJSONObject(String filename) { return null; }
+    public static JSONObject loadJSONObject(java.io.File file) { return null; }
+    public JSONObject parseJSONObject(String input) { return null; }
+    public boolean saveJSONObject(JSONObject json, String filename) { return true; }
+    public boolean saveJSONObject(JSONObject json, String filename, String options) { return true; }
+    public JSONArray loadJSONArray(String filename) { return null; }
+    public static JSONArray loadJSONArray(java.io.File file) { return null; }
+    public JSONArray parseJSONArray(String input) { return null; }
+    public boolean saveJSONArray(JSONArray json, String filename) { return true; }
+    public boolean saveJSONArray(JSONArray json, String filename, String options) { return true; }
+    public Table loadTable(String filename) { return null; }
+    public Table loadTable(String filename, String options) { return null; }
+    public boolean saveTable(Table table, String filename) { return true; }
+    public boolean saveTable(Table table, String filename, String options) { return true; }
+    public java.io.BufferedReader createReader(String filename) { return null; }
+    public java.io.PrintWriter createWriter(String filename) { return null; }
+    public java.io.InputStream createInput(String filename) { return null; }
+    public java.io.OutputStream createOutput(String filename) { return null; }
+    public String sketchPath() { return null; }
+    public String sketchPath(String where) { return null; }
+    public java.io.File sketchFile(String where) { return null; }
+    public String dataPath(String where) { return null; }
+    public java.io.File dataFile(String where) { return null; }
+    public void selectInput(String prompt, String callback) {}
+    public void selectInput(String prompt, String callback, java.io.File file) {}
+    public void selectInput(String prompt, String callback, java.io.File file, Object callbackObject) {}
+    public void selectOutput(String prompt, String callback) {}
+    public void selectOutput(String prompt, String callback, java.io.File file) {}
+    public void selectOutput(String prompt, String callback, java.io.File file, Object callbackObject) {}
+    public void selectFolder(String prompt, String callback) {}
+    public void selectFolder(String prompt, String callback, java.io.File file) {}
+    public void selectFolder(String prompt, String callback, java.io.File file, Object callbackObject) {}
+    public void link(String url) {}
+    public static Process launch(String... args) { return null; }
+    public static Process exec(String... args) { return null; }
+}
@@ -0,0 +1,179 @@
+package processing.core;
+
+/** Stub of the Processing constants, only used to compile sketches in-process */
+public interface PConstants {
+    float PI = (float) Math.PI;
+    float HALF_PI = PI / 2;
+    float THIRD_PI = PI / 3;
+    float QUARTER_PI = PI / 4;
+    float TWO_PI = PI * 2;
+    float TAU = PI * 2;
+    float DEG_TO_RAD = PI / 180;
+    float RAD_TO_DEG = 180 / PI;
+    float EPSILON = 0.0001f;
+    float MAX_FLOAT = Float.MAX_VALUE;
+    float MIN_FLOAT = -Float.MAX_VALUE;
+    int MAX_INT = Integer.MAX_VALUE;
+    int MIN_INT = Integer.MIN_VALUE;
+    String WHITESPACE = " \t\n\r\f\u00A0";
+
+    String JAVA2D = "processing.awt.PGraphicsJava2D";
+    String P2D = "processing.opengl.PGraphics2D";
+    String P3D = "processing.opengl.PGraphics3D";
+    String OPENGL = P3D;
+    String FX2D = "processing.javafx.PGraphicsFX2D";
+    String PDF = "processing.pdf.PGraphicsPDF";
+    String SVG = "processing.svg.PGraphicsSVG";
+    String DXF = "processing.dxf.RawDXF";
+
+    int RGB = 1;
+    int ARGB = 2;
+    int HSB = 3;
+    int ALPHA = 4;
+
+    int X = 0;
+    int Y = 1;
+    int Z = 2;
+
+    int POINT = 2;
+    int POINTS = 3;
+    int LINE = 4;
+    int LINES = 5;
+    int LINE_STRIP = 50;
+    int LINE_LOOP = 51;
+    int TRIANGLE = 8;
+    int TRIANGLES = 9;
+    int TRIANGLE_STRIP = 10;
+    int TRIANGLE_FAN = 11;
+    int QUAD = 16;
+    int QUADS = 17;
+    int QUAD_STRIP = 18;
+    int POLYGON = 20;
+    int PATH = 21;
+    int RECT = 30;
+    int ELLIPSE = 31;
+    int ARC = 32;
+    int SPHERE = 40;
+    int BOX = 41;
+    int GROUP = 0;
+    int PRIMITIVE = 101;
+    int GEOMETRY = 103;
+
+    int OPEN = 1;
+    int CLOSE = 2;
+    int CHORD = 2;
+    int PIE = 3;
+
+    int CORNER = 0;
+    int CORNERS = 1;
+    int RADIUS = 2;
+    int CENTER = 3;
+    int DIAMETER = 3;
+
+    int BASELINE = 0;
+    int TOP = 101;
+    int BOTTOM = 102;
+    int NORMAL = 1;
+    int IMAGE = 2;
+    int CLAMP = 0;
+    int REPEAT = 1;
+    int MODEL = 4;
+    int SHAPE = 5;
+
+    int SQUARE = 1;
+    int ROUND = 2;
+    int PROJECT = 4;
+    int MITER = 8;
+    int BEVEL = 32;
+
+    int AMBIENT = 0;
+    int DIRECTIONAL = 1;
+    int SPOT = 3;
+
+    int REPLACE = 0;
+    int BLEND = 1;
+    int ADD = 2;
+    int SUBTRACT = 4;
+    int LIGHTEST = 8;
+    int DARKEST = 16;
+    int DIFFERENCE = 32;
+    int EXCLUSION = 64;
+    int MULTIPLY = 128;
+    int SCREEN = 256;
+    int OVERLAY = 512;
+    int HARD_LIGHT = 1024;
+    int SOFT_LIGHT = 2048;
+    int DODGE = 4096;
+    int BURN = 8192;
+
+    int CHATTER = 0;
+    int COMPLAINT = 1;
+    int PROBLEM = 2;
+
+    int BLUR = 11;
+    int GRAY = 12;
+    int INVERT = 13;
+    int OPAQUE = 14;
+    int POSTERIZE = 15;
+    int THRESHOLD = 16;
+    int ERODE = 17;
+    int DILATE = 18;
+
+    int ARROW = 0;
+    int CROSS = 1;
+    int HAND = 12;
+    int MOVE = 13;
+    int TEXT = 2;
+    int WAIT = 3;
+
+    int LEFT = 37;
+    int UP = 38;
+    int RIGHT = 39;
+    int DOWN = 40;
+
+    char BACKSPACE = 8;
+    char TAB = 9;
+    char ENTER = 10;
+    char RETURN = 13;
+    char ESC = 27;
+    char DELETE = 127;
+    int CODED = 0xffff;
+    int ALT = 18;
+    int CONTROL = 17;
+    int SHIFT = 16;
+
+    int WINDOWS = 1;
+    int MACOSX = 2;
+    int LINUX = 3;
+    int OTHER = 0;
+
+    int PORTRAIT = 1;
+    int LANDSCAPE = 2;
+    int SPAN = 0;
+
+    int ORTHOGRAPHIC = 2;
+    int PERSPECTIVE = 3;
+
+    int DISABLE_DEPTH_TEST = 2;
+    int ENABLE_DEPTH_TEST = -2;
+    int ENABLE_DEPTH_SORT = 3;
+    int DISABLE_DEPTH_SORT = -3;
+    int DISABLE_OPENGL_ERRORS = 4;
+    int ENABLE_OPENGL_ERRORS = -4;
+    int DISABLE_DEPTH_MASK = 5;
+    int ENABLE_DEPTH_MASK = -5;
+    int DISABLE_OPTIMIZED_STROKE = 6;
+    int ENABLE_OPTIMIZED_STROKE = -6;
+    int ENABLE_STROKE_PERSPECTIVE = 7;
+    int DISABLE_STROKE_PERSPECTIVE = -7;
+    int DISABLE_TEXTURE_MIPMAPS = 8;
+    int ENABLE_TEXTURE_MIPMAPS = -8;
+    int ENABLE_STROKE_PURE = 9;
+    int DISABLE_STROKE_PURE = -9;
+    int ENABLE_BUFFER_READING = 10;
+    int DISABLE_BUFFER_READING = -10;
+    int DISABLE_KEY_REPEAT = 11;
+    int ENABLE_KEY_REPEAT = -11;
+    int DISABLE_ASYNC_SAVEFRAME = 12;
+    int ENABLE_ASYNC_SAVEFRAME = -12;
+}
@@ -0,0 +1,21 @@
+package processing.core;
+
+/** Stub of the Processing font class, only used to compile sketches in-process */
+public class PFont implements PConstants {
+    public static char[] CHARSET;
+
+    public PFont() {}
+    public PFont(java.awt.Font font, boolean smooth) {}
+    public PFont(java.awt.Font font, boolean smooth, char[] charset) {}
+    public PFont(java.io.InputStream input) throws java.io.IOException {}
+
+    public String getName() { return null; }
+    public String getPostScriptName() { return null; }
+    public int getSize() { return 0; }
+    public float getDefaultSize() { return 0; }
+    public boolean isSmooth() { return true; }
+    public float ascent() { return 0; }
+    public float descent() { return 0; }
+    public float width(char c) { return 0; }
+    public static String[] list() { return null; }
+}
@@ -0,0 +1,41 @@
+package processing.core;
+
+/** Stub of the Processing image class, only used to compile sketches in-process */
+public class PImage implements PConstants, Cloneable {
+    public int format;
+    public int[] pixels;
+    public int width;
+    public int height;
+    public int pixelDensity;
+    public int pixelWidth;
+    public int pixelHeight;
+
+    public PImage() {}
+    public PImage(int width, int height) {}
+    public PImage(int width, int height, int format) {}
+    public PImage(int width, int height, int format, int factor) {}
+    public PImage(java.awt.Image img) {}
+
+    public boolean isLoaded() { return true; }
+    public void loadPixels() {}
+    public void updatePixels() {}
+    public void updatePixels(int x, int y, int w, int h) {}
+    public void resize(int w, int h) {}
+    public PImage copy() { return null; }
+    public void copy(int sx, int sy, int sw, int sh, int dx, int dy, int dw, int dh) {}
+    public void copy(PImage src, int sx, int sy, int sw, int sh, int dx, int dy, int dw, int dh) {}
+    public int get(int x, int y) { return 0; }
+    public PImage get(int x, int y, int w, int h) { return null; }
+    public PImage get() { return null; }
+    public void set(int x, int y, int c) {}
+    public void set(int x, int y, PImage img) {}
+    public void mask(int[] maskArray) {}
+    public void mask(PImage img) {}
+    public void filter(int kind) {}
+    public void filter(int kind, float param) {}
+    public void blend(int sx, int sy, int sw, int sh, int dx, int dy, int dw, int dh, int mode) {}
+    public void blend(PImage src, int sx, int sy, int sw, int sh, int dx, int dy, int dw, int dh, int mode) {}
+    public static int blendColor(int c1, int c2, int mode) { return 0; }
+    public boolean save(String filename) { return true; }
+    public Object getNative() { return null; }
+}
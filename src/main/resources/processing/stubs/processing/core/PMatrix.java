@@ -0,0 +1,42 @@
+package processing.core;
+
+/** Stub of the Processing matrix interface, only used to compile sketches in-process */
+public interface PMatrix {
+    void reset();
+    PMatrix get();
+    float[] get(float[] target);
+    void set(PMatrix src);
+    void set(float[] source);
+    void set(float m00, float m01, float m02, float m10, float m11, float m12);
+    void set(float m00, float m01, float m02, float m03, float m10, float m11, float m12, float m13,
+             float m20, float m21, float m22, float m23, float m30, float m31, float m32, float m33);
+    void translate(float tx, float ty);
+    void translate(float tx, float ty, float tz);
+    void rotate(float angle);
+    void rotateX(float angle);
+    void rotateY(float angle);
+    void rotateZ(float angle);
+    void rotate(float angle, float v0, float v1, float v2);
+    void scale(float s);
+    void scale(float sx, float sy);
+    void scale(float x, float y, float z);
+    void shearX(float angle);
+    void shearY(float angle);
+    void apply(PMatrix source);
+    void apply(PMatrix2D source);
+    void apply(PMatrix3D source);
+    void apply(float n00, float n01, float n02, float n10, float n11, float n12);
+    void apply(float n00, float n01, float n02, float n03, float n10, float n11, float n12, float n13,
+               float n20, float n21, float n22, float n23, float n30, float n31, float n32, float n33);
+    void preApply(PMatrix left);
+    void preApply(PMatrix2D left);
+    void preApply(PMatrix3D left);
+    void preApply(float n00, float n01, float n02, float n10, float n11, float n12);
+    void preApply(float n00, float n01, float n02, float n03, float n10, float n11, float n12, float n13,
+                  float n20, float n21, float n22, float n23, float n30, float n31, float n32, float n33);
+    PVector mult(PVector source, PVector target);
+    float[] mult(float[] source, float[] target);
+    void transpose();
+    boolean invert();
+    float determinant();
+}
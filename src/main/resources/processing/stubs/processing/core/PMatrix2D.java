@@ -0,0 +1,50 @@
+package processing.core;
+
+/** Stub of the Processing 2D matrix, only used to compile sketches in-process */
+public class PMatrix2D implements PMatrix {
+    public float m00, m01, m02;
+    public float m10, m11, m12;
+
+    public PMatrix2D() {}
+    public PMatrix2D(float m00, float m01, float m02, float m10, float m11, float m12) {}
+    public PMatrix2D(PMatrix src) {}
+
+    public void reset() {}
+    public PMatrix2D get() { return null; }
+    public float[] get(float[] target) { return null; }
+    public void set(PMatrix src) {}
+    public void set(float[] source) {}
+    public void set(float m00, float m01, float m02, float m10, float m11, float m12) {}
+    public void set(float m00, float m01, float m02, float m03, float m10, float m11, float m12, float m13,
+                    float m20, float m21, float m22, float m23, float m30, float m31, float m32, float m33) {}
+    public void translate(float tx, float ty) {}
+    public void translate(float tx, float ty, float tz) {}
+    public void rotate(float angle) {}
+    public void rotateX(float angle) {}
+    public void rotateY(float angle) {}
+    public void rotateZ(float angle) {}
+    public void rotate(float angle, float v0, float v1, float v2) {}
+    public void scale(float s) {}
+    public void scale(float sx, float sy) {}
+    public void scale(float x, float y, float z) {}
+    public void shearX(float angle) {}
+    public void shearY(float angle) {}
+    public void apply(PMatrix source) {}
+    public void apply(PMatrix2D source) {}
+    public void apply(PMatrix3D source) {}
+    public void apply(float n00, float n01, float n02, float n10, float n11, float n12) {}
+    public void apply(float n00, float n01, float n02, float n03, float n10, float n11, float n12, float n13,
+                      float n20, float n21, float n22, float n23, float n30, float n31, float n32, float n33) {}
+    public void preApply(PMatrix left) {}
+    public void preApply(PMatrix2D left) {}
+    public void preApply(PMatrix3D left) {}
+    public void preApply(float n00, float n01, float n02, float n10, float n11, float n12) {}
+    public void preApply(float n00, float n01, float n02, float n03, float n10, float n11, float n12, float n13,
+                         float n20, float n21, float n22, float n23, float n30, float n31, float n32, float n33) {}
+    public PVector mult(PVector source, PVector target) { return null; }
+    public float[] mult(float[] source, float[] target) { return null; }
+    public void transpose() {}
+    public boolean invert() { return true; }
+    public float determinant() { return 0; }
+    public void print() {}
+}
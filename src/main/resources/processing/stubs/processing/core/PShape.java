@@ -0,0 +1,104 @@
+package processing.core;
+
+/** Stub of the Processing shape class, only used to compile sketches in-process */
+public class PShape implements PConstants {
+    public float width;
+    public float height;
+    public float depth;
+
+    public PShape() {}
+    public PShape(int family) {}
+
+    public String getName() { return null; }
+    public void setName(String name) {}
+    public boolean isVisible() { return true; }
+    public void setVisible(boolean visible) {}
+    public void disableStyle() {}
+    public void enableStyle() {}
+    public float getWidth() { return 0; }
+    public float getHeight() { return 0; }
+    public float getDepth() { return 0; }
+    public void beginShape() {}
+    public void beginShape(int kind) {}
+    public void endShape() {}
+    public void endShape(int mode) {}
+    public void beginContour() {}
+    public void endContour() {}
+    public void vertex(float x, float y) {}
+    public void vertex(float x, float y, float z) {}
+    public void vertex(float x, float y, float u, float v) {}
+    public void vertex(float x, float y, float z, float u, float v) {}
+    public void bezierVertex(float x2, float y2, float x3, float y3, float x4, float y4) {}
+    public void quadraticVertex(float cx, float cy, float x3, float y3) {}
+    public void curveVertex(float x, float y) {}
+    public void fill(int rgb) {}
+    public void fill(float gray) {}
+    public void fill(float x, float y, float z) {}
+    public void fill(float x, float y, float z, float a) {}
+    public void fill(int rgb, float alpha) {}
+    public void fill(float gray, float alpha) {}
+    public void noFill() {}
+    public void stroke(int rgb) {}
+    public void stroke(float gray) {}
+    public void stroke(float x, float y, float z) {}
+    public void stroke(float x, float y, float z, float a) {}
+    public void stroke(int rgb, float alpha) {}
+    public void stroke(float gray, float alpha) {}
+    public void noStroke() {}
+    public void strokeWeight(float weight) {}
+    public void setFill(int fill) {}
+    public void setFill(boolean fill) {}
+    public void setFill(int index, int fill) {}
+    public void setStroke(int stroke) {}
+    public void setStroke(boolean stroke) {}
+    public void setStrokeWeight(float weight) {}
+    public void setStrokeWeight(int index, float weight) {}
+    public void setStroke(int index, int stroke) {}
+    public void setTint(int tint) {}
+    public void setTint(boolean tint) {}
+    public void setTint(int index, int tint) {}
+    public void setTexture(PImage tex) {}
+    public void setTextureMode(int mode) {}
+    public void setTextureUV(int index, float u, float v) {}
+    public void texture(PImage tex) {}
+    public void noTexture() {}
+    public void tint(int rgb) {}
+    public void tint(float gray) {}
+    public void tint(float x, float y, float z) {}
+    public void noTint() {}
+    public void textureMode(int mode) {}
+    public void normal(float nx, float ny, float nz) {}
+    public int getFill(int index) { return 0; }
+    public int getStroke(int index) { return 0; }
+    public int getKind() { return 0; }
+    public int getFamily() { return 0; }
+    public PShape getParent() { return null; }
+    public int getChildCount() { return 0; }
+    public PShape[] getChildren() { return null; }
+    public PShape getChild(int index) { return null; }
+    public PShape getChild(String target) { return null; }
+    public void addChild(PShape who) {}
+    public void removeChild(int idx) {}
+    public int getVertexCount() { return 0; }
+    public PVector getVertex(int index) { return null; }
+    public void setVertex(int index, float x, float y) {}
+    public void setVertex(int index, float x, float y, float z) {}
+    public void setVertex(int index, PVector vec) {}
+    public PVector getVertex(int index, PVector vec) { return null; }
+    public float getVertexX(int index) { return 0; }
+    public float getVertexY(int index) { return 0; }
+    public float getVertexZ(int index) { return 0; }
+    public boolean contains(float x, float y) { return false; }
+    public void translate(float x, float y) {}
+    public void translate(float x, float y, float z) {}
+    public void rotate(float angle) {}
+    public void rotateX(float angle) {}
+    public void rotateY(float angle) {}
+    public void rotateZ(float angle) {}
+    public void scale(float s) {}
+    public void scale(float x, float y) {}
+    public void scale(float x, float y, float z) {}
+    public void rotate(float angle, float v0, float v1, float v2) {}
+    public void applyMatrix(PMatrix source) {}
+    public void resetMatrix() {}
+}
@@ -0,0 +1,23 @@
+package processing.core;
+
+/** Stub of the Processing window surface, only used to compile sketches in-process */
+public interface PSurface {
+    void setTitle(String title);
+    void setVisible(boolean visible);
+    void setResizable(boolean resizable);
+    void setAlwaysOnTop(boolean always);
+    void setIcon(PImage icon);
+    void setLocation(int x, int y);
+    void setSize(int width, int height);
+    void setFrameRate(float fps);
+    void setCursor(int kind);
+    void setCursor(PImage image, int hotspotX, int hotspotY);
+    void showCursor();
+    void hideCursor();
+    Object getNative();
+    void startThread();
+    void pauseThread();
+    void resumeThread();
+    boolean stopThread();
+    boolean isStopped();
+}
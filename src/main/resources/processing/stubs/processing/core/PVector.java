@@ -0,0 +1,67 @@
+package processing.core;
+
+/** Stub of the Processing vector class, only used to compile sketches in-process */
+public class PVector implements java.io.Serializable {
+    public float x;
+    public float y;
+    public float z;
+
+    public PVector() {}
+    public PVector(float x, float y) {}
+    public PVector(float x, float y, float z) {}
+
+    public PVector set(float x, float y) { return this; }
+    public PVector set(float x, float y, float z) { return this; }
+    public PVector set(PVector v) { return this; }
+    public PVector set(float[] source) { return this; }
+    public static PVector random2D() { return null; }
+    public static PVector random2D(PApplet parent) { return null; }
+    public static PVector random2D(PVector target) { return null; }
+    public static PVector random3D() { return null; }
+    public static PVector random3D(PApplet parent) { return null; }
+    public static PVector fromAngle(float angle) { return null; }
+    public static PVector fromAngle(float angle, PVector target) { return null; }
+    public PVector copy() { return null; }
+    public PVector get() { return null; }
+    public float[] get(float[] target) { return null; }
+    public float mag() { return 0; }
+    public float magSq() { return 0; }
+    public PVector add(PVector v) { return this; }
+    public PVector add(float x, float y) { return this; }
+    public PVector add(float x, float y, float z) { return this; }
+    public static PVector add(PVector v1, PVector v2) { return null; }
+    public static PVector add(PVector v1, PVector v2, PVector target) { return null; }
+    public PVector sub(PVector v) { return this; }
+    public PVector sub(float x, float y) { return this; }
+    public PVector sub(float x, float y, float z) { return this; }
+    public static PVector sub(PVector v1, PVector v2) { return null; }
+    public static PVector sub(PVector v1, PVector v2, PVector target) { return null; }
+    public PVector mult(float n) { return this; }
+    public static PVector mult(PVector v, float n) { return null; }
+    public static PVector mult(PVector v, float n, PVector target) { return null; }
+    public PVector div(float n) { return this; }
+    public static PVector div(PVector v, float n) { return null; }
+    public static PVector div(PVector v, float n, PVector target) { return null; }
+    public float dist(PVector v) { return 0; }
+    public static float dist(PVector v1, PVector v2) { return 0; }
+    public float dot(PVector v) { return 0; }
+    public float dot(float x, float y, float z) { return 0; }
+    public static float dot(PVector v1, PVector v2) { return 0; }
+    public PVector cross(PVector v) { return null; }
+    public PVector cross(PVector v, PVector target) { return null; }
+    public static PVector cross(PVector v1, PVector v2, PVector target) { return null; }
+    public PVector normalize() { return this; }
+    public PVector normalize(PVector target) { return null; }
+    public PVector limit(float max) { return this; }
+    public PVector setMag(float len) { return this; }
+    public PVector setMag(PVector target, float len) { return null; }
+    public float heading() { return 0; }
+    public float heading2D() { return 0; }
+    public PVector setHeading(float angle) { return this; }
+    public PVector rotate(float theta) { return this; }
+    public PVector lerp(PVector v, float amt) { return this; }
+    public PVector lerp(float x, float y, float z, float amt) { return this; }
+    public static PVector lerp(PVector v1, PVector v2, float amt) { return null; }
+    public static float angleBetween(PVector v1, PVector v2) { return 0; }
+    public float[] array() { return null; }
+}
@@ -0,0 +1,40 @@
+package processing.data;
+
+/** Stub of the Processing float dictionary, only used to compile sketches in-process */
+public class FloatDict {
+    public FloatDict() {}
+    public FloatDict(int length) {}
+    public FloatDict(String[] keys, float[] values) {}
+    public FloatDict(Object[][] pairs) {}
+
+    public int size() { return 0; }
+    public void resize(int length) {}
+    public void clear() {}
+    public Iterable<String> keys() { return null; }
+    public String key(int index) { return null; }
+    public String[] keyArray() { return null; }
+    public Iterable<Float> values() { return null; }
+    public float value(int index) { return 0; }
+    public float[] valueArray() { return null; }
+    public float get(String key) { return 0; }
+    public float get(String key, float alternate) { return 0; }
+    public void set(String key, float amount) {}
+    public boolean hasKey(String key) { return false; }
+    public int index(String what) { return 0; }
+    public float remove(String key) { return 0; }
+    public void sortKeys() {}
+    public void sortKeysReverse() {}
+    public void sortValues() {}
+    public void sortValuesReverse() {}
+    public FloatDict copy() { return null; }
+    public void print() {}
+    public void add(String key, float amount) {}
+    public void sub(String key, float amount) {}
+    public void mult(String key, float amount) {}
+    public void div(String key, float amount) {}
+    public String minKey() { return null; }
+    public String maxKey() { return null; }
+    public float minValue() { return 0; }
+    public float maxValue() { return 0; }
+    public float sum() { return 0; }
+}
@@ -0,0 +1,52 @@
+package processing.data;
+
+/** Stub of the Processing float list, only used to compile sketches in-process */
+public class FloatList implements Iterable<Float> {
+    public FloatList() {}
+    public FloatList(int length) {}
+    public FloatList(float[] list) {}
+    public FloatList(Iterable<Object> iter) {}
+    public FloatList(Object... items) {}
+
+    public int size() { return 0; }
+    public void resize(int length) {}
+    public void clear() {}
+    public float get(int index) { return 0; }
+    public void set(int index, float what) {}
+    public void push(float value) {}
+    public float pop() { return 0; }
+    public float remove(int index) { return 0; }
+    public int removeValue(float value) { return 0; }
+    public int removeValues(float value) { return 0; }
+    public void append(float value) {}
+    public void append(float[] values) {}
+    public void append(FloatList list) {}
+    public void appendUnique(float value) {}
+    public void insert(int index, float value) {}
+    public void insert(int index, float[] values) {}
+    public int index(float what) { return 0; }
+    public boolean hasValue(float value) { return false; }
+    public void sort() {}
+    public void sortReverse() {}
+    public void reverse() {}
+    public void shuffle() {}
+    public void shuffle(processing.core.PApplet sketch) {}
+    public FloatList copy() { return null; }
+    public float[] array() { return null; }
+    public float[] array(float[] array) { return null; }
+    public FloatList getSubset(int start) { return null; }
+    public FloatList getSubset(int start, int num) { return null; }
+    public String join(String separator) { return null; }
+    public void print() {}
+    public java.util.Iterator<Float> iterator() { return null; }
+    public void add(int index, float amount) {}
+    public void sub(int index, float amount) {}
+    public void mult(int index, float amount) {}
+    public void div(int index, float amount) {}
+    public float min() { return 0; }
+    public float max() { return 0; }
+    public int minIndex() { return 0; }
+    public int maxIndex() { return 0; }
+    public double sum() { return 0; }
+    public float[] values() { return null; }
+}
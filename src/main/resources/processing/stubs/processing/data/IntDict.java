@@ -0,0 +1,41 @@
+package processing.data;
+
+/** Stub of the Processing int dictionary, only used to compile sketches in-process */
+public class IntDict {
+    public IntDict() {}
+    public IntDict(int length) {}
+    public IntDict(String[] keys, int[] values) {}
+    public IntDict(Object[][] pairs) {}
+
+    public int size() { return 0; }
+    public void resize(int length) {}
+    public void clear() {}
+    public Iterable<String> keys() { return null; }
+    public String key(int index) { return null; }
+    public String[] keyArray() { return null; }
+    public Iterable<Integer> values() { return null; }
+    public int value(int index) { return 0; }
+    public int[] valueArray() { return null; }
+    public int get(String key) { return 0; }
+    public int get(String key, int alternate) { return 0; }
+    public void set(String key, int amount) {}
+    public boolean hasKey(String key) { return false; }
+    public int index(String what) { return 0; }
+    public int remove(String key) { return 0; }
+    public void sortKeys() {}
+    public void sortKeysReverse() {}
+    public void sortValues() {}
+    public void sortValuesReverse() {}
+    public IntDict copy() { return null; }
+    public void print() {}
+    public void increment(String key) {}
+    public void add(String key, int amount) {}
+    public void sub(String key, int amount) {}
+    public void mult(String key, int amount) {}
+    public void div(String key, int amount) {}
+    public String minKey() { return null; }
+    public String maxKey() { return null; }
+    public int minValue() { return 0; }
+    public int maxValue() { return 0; }
+    public int sum() { return 0; }
+}
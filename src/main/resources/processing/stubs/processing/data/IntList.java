@@ -0,0 +1,54 @@
+package processing.data;
+
+/** Stub of the Processing int list, only used to compile sketches in-process */
+public class IntList implements Iterable<Integer> {
+    public IntList() {}
+    public IntList(int length) {}
+    public IntList(int[] list) {}
+    public IntList(Iterable<Object> iter) {}
+    public IntList(Object... items) {}
+
+    public int size() { return 0; }
+    public void resize(int length) {}
+    public void clear() {}
+    public int get(int index) { return 0; }
+    public void set(int index, int what) {}
+    public void push(int value) {}
+    public int pop() { return 0; }
+    public int remove(int index) { return 0; }
+    public int removeValue(int value) { return 0; }
+    public int removeValues(int value) { return 0; }
+    public void append(int value) {}
+    public void append(int[] values) {}
+    public void append(IntList list) {}
+    public void appendUnique(int value) {}
+    public void insert(int index, int value) {}
+    public void insert(int index, int[] values) {}
+    public int index(int what) { return 0; }
+    public boolean hasValue(int value) { return false; }
+    public void sort() {}
+    public void sortReverse() {}
+    public void reverse() {}
+    public void shuffle() {}
+    public void shuffle(processing.core.PApplet sketch) {}
+    public IntList copy() { return null; }
+    public int[] array() { return null; }
+    public int[] array(int[] array) { return null; }
+    public IntList getSubset(int start) { return null; }
+    public IntList getSubset(int start, int num) { return null; }
+    public String join(String separator) { return null; }
+    public void print() {}
+    public java.util.Iterator<Integer> iterator() { return null; }
+    public void increment(int index) {}
+    public void add(int index, int amount) {}
+    public void sub(int index, int amount) {}
+    public void mult(int index, int amount) {}
+    public void div(int index, int amount) {}
+    public int min() { return 0; }
+    public int max() { return 0; }
+    public int minIndex() { return 0; }
+    public int maxIndex() { return 0; }
+    public long sum() { return 0; }
+    public int[] values() { return null; }
+    public float[] toFloatArray() { return null; }
+}
@@ -0,0 +1,50 @@
+package processing.data;
+
+/** Stub of the Processing JSON array, only used to compile sketches in-process */
+public class JSONArray {
+    public JSONArray() {}
+    public JSONArray(java.io.Reader reader) {}
+    public JSONArray(IntList list) {}
+    public JSONArray(FloatList list) {}
+    public JSONArray(StringList list) {}
+
+    public static JSONArray parse(String source) { return null; }
+    public Object get(int index) { return null; }
+    public String getString(int index) { return null; }
+    public String getString(int index, String defaultValue) { return null; }
+    public int getInt(int index) { return 0; }
+    public int getInt(int index, int defaultValue) { return 0; }
+    public long getLong(int index) { return 0; }
+    public float getFloat(int index) { return 0; }
+    public float getFloat(int index, float defaultValue) { return 0; }
+    public double getDouble(int index) { return 0; }
+    public boolean getBoolean(int index) { return false; }
+    public boolean getBoolean(int index, boolean defaultValue) { return false; }
+    public JSONArray getJSONArray(int index) { return null; }
+    public JSONObject getJSONObject(int index) { return null; }
+    public String[] getStringArray() { return null; }
+    public int[] getIntArray() { return null; }
+    public float[] getFloatArray() { return null; }
+    public boolean[] getBooleanArray() { return null; }
+    public JSONArray append(String value) { return this; }
+    public JSONArray append(int value) { return this; }
+    public JSONArray append(long value) { return this; }
+    public JSONArray append(float value) { return this; }
+    public JSONArray append(double value) { return this; }
+    public JSONArray append(boolean value) { return this; }
+    public JSONArray append(JSONArray value) { return this; }
+    public JSONArray append(JSONObject value) { return this; }
+    public JSONArray setString(int index, String value) { return this; }
+    public JSONArray setInt(int index, int value) { return this; }
+    public JSONArray setLong(int index, long value) { return this; }
+    public JSONArray setFloat(int index, float value) { return this; }
+    public JSONArray setDouble(int index, double value) { return this; }
+    public JSONArray setBoolean(int index, boolean value) { return this; }
+    public JSONArray setJSONArray(int index, JSONArray value) { return this; }
+    public JSONArray setJSONObject(int index, JSONObject value) { return this; }
+    public int size() { return 0; }
+    public boolean isNull(int index) { return false; }
+    public Object remove(int index) { return null; }
+    public boolean save(java.io.File file, String options) { return true; }
+    public String format(int indentFactor) { return null; }
+}
@@ -0,0 +1,41 @@
+package processing.data;
+
+/** Stub of the Processing JSON object, only used to compile sketches in-process */
+public class JSONObject {
+    public static final Object NULL = null;
+
+    public JSONObject() {}
+    public JSONObject(java.io.Reader reader) {}
+
+    public static JSONObject parse(String source) { return null; }
+    public Object get(String key) { return null; }
+    public String getString(String key) { return null; }
+    public String getString(String key, String defaultValue) { return null; }
+    public int getInt(String key) { return 0; }
+    public int getInt(String key, int defaultValue) { return 0; }
+    public long getLong(String key) { return 0; }
+    public long getLong(String key, long defaultValue) { return 0; }
+    public float getFloat(String key) { return 0; }
+    public float getFloat(String key, float defaultValue) { return 0; }
+    public double getDouble(String key) { return 0; }
+    public double getDouble(String key, double defaultValue) { return 0; }
+    public boolean getBoolean(String key) { return false; }
+    public boolean getBoolean(String key, boolean defaultValue) { return false; }
+    public JSONArray getJSONArray(String key) { return null; }
+    public JSONObject getJSONObject(String key) { return null; }
+    public boolean isNull(String key) { return false; }
+    public boolean hasKey(String key) { return false; }
+    public java.util.Set<String> keys() { return null; }
+    public int size() { return 0; }
+    public JSONObject setString(String key, String value) { return this; }
+    public JSONObject setInt(String key, int value) { return this; }
+    public JSONObject setLong(String key, long value) { return this; }
+    public JSONObject setFloat(String key, float value) { return this; }
+    public JSONObject setDouble(String key, double value) { return this; }
+    public JSONObject setBoolean(String key, boolean value) { return this; }
+    public JSONObject setJSONObject(String key, JSONObject value) { return this; }
+    public JSONObject setJSONArray(String key, JSONArray value) { return this; }
+    public Object remove(String key) { return null; }
+    public boolean save(java.io.File file, String options) { return true; }
+    public String format(int indentFactor) { return null; }
+}
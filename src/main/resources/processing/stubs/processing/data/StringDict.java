@@ -0,0 +1,31 @@
+package processing.data;
+
+/** Stub of the Processing String dictionary, only used to compile sketches in-process */
+public class StringDict {
+    public StringDict() {}
+    public StringDict(int length) {}
+    public StringDict(String[] keys, String[] values) {}
+    public StringDict(Object[][] pairs) {}
+
+    public int size() { return 0; }
+    public void resize(int length) {}
+    public void clear() {}
+    public Iterable<String> keys() { return null; }
+    public String key(int index) { return null; }
+    public String[] keyArray() { return null; }
+    public Iterable<String> values() { return null; }
+    public String value(int index) { return null; }
+    public String[] valueArray() { return null; }
+    public String get(String key) { return null; }
+    public String get(String key, String alternate) { return null; }
+    public void set(String key, String amount) {}
+    public boolean hasKey(String key) { return false; }
+    public int index(String what) { return 0; }
+    public String remove(String key) { return null; }
+    public void sortKeys() {}
+    public void sortKeysReverse() {}
+    public void sortValues() {}
+    public void sortValuesReverse() {}
+    public StringDict copy() { return null; }
+    public void print() {}
+}
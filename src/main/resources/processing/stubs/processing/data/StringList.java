@@ -0,0 +1,47 @@
+package processing.data;
+
+/** Stub of the Processing String list, only used to compile sketches in-process */
+public class StringList implements Iterable<String> {
+    public StringList() {}
+    public StringList(int length) {}
+    public StringList(String[] list) {}
+    public StringList(Iterable<Object> iter) {}
+    public StringList(Object... items) {}
+
+    public int size() { return 0; }
+    public void resize(int length) {}
+    public void clear() {}
+    public String get(int index) { return null; }
+    public void set(int index, String what) {}
+    public void push(String value) {}
+    public String pop() { return null; }
+    public String remove(int index) { return null; }
+    public int removeValue(String value) { return 0; }
+    public int removeValues(String value) { return 0; }
+    public void append(String value) {}
+    public void append(String[] values) {}
+    public void append(StringList list) {}
+    public void appendUnique(String value) {}
+    public void insert(int index, String value) {}
+    public void insert(int index, String[] values) {}
+    public int index(String what) { return 0; }
+    public boolean hasValue(String value) { return false; }
+    public void sort() {}
+    public void sortReverse() {}
+    public void reverse() {}
+    public void shuffle() {}
+    public void shuffle(processing.core.PApplet sketch) {}
+    public StringList copy() { return null; }
+    public String[] array() { return null; }
+    public String[] array(String[] array) { return null; }
+    public StringList getSubset(int start) { return null; }
+    public StringList getSubset(int start, int num) { return null; }
+    public String join(String separator) { return null; }
+    public void print() {}
+    public java.util.Iterator<String> iterator() { return null; }
+    public void lower() {}
+    public void upper() {}
+    public String[] values() { return null; }
+    public IntDict getTally() { return null; }
+    public IntDict getOrder() { return null; }
+}
@@ -0,0 +1,85 @@
+package processing.data;
+
+/** Stub of the Processing table, only used to compile sketches in-process */
+public class Table {
+    public static final int STRING = 0;
+    public static final int INT = 1;
+    public static final int LONG = 2;
+    public static final int FLOAT = 3;
+    public static final int DOUBLE = 4;
+    public static final int CATEGORY = 5;
+
+    public Table() {}
+    public Table(java.io.File file) throws java.io.IOException {}
+    public Table(java.io.File file, String options) throws java.io.IOException {}
+    public Table(Iterable<TableRow> rows) {}
+
+    public int getRowCount() { return 0; }
+    public int getColumnCount() { return 0; }
+    public void setColumnCount(int newCount) {}
+    public void addColumn() {}
+    public void addColumn(String title) {}
+    public void addColumn(String title, int type) {}
+    public void removeColumn(int column) {}
+    public void removeColumn(String columnName) {}
+    public String[] getColumnTitles() { return null; }
+    public String getColumnTitle(int column) { return null; }
+    public int getColumnIndex(String columnName) { return 0; }
+    public int checkColumnIndex(String title) { return 0; }
+    public void setColumnTitles(String[] titles) {}
+    public void setColumnType(int column, String columnType) {}
+    public void setColumnType(String columnName, String columnType) {}
+    public void setColumnType(int column, int newType) {}
+    public void setColumnType(String columnName, int newType) {}
+    public TableRow addRow() { return null; }
+    public TableRow addRow(TableRow source) { return null; }
+    public TableRow addRow(Object[] columnData) { return null; }
+    public void addRows(Table source) {}
+    public void removeRow(int row) {}
+    public void clearRows() {}
+    public TableRow getRow(int row) { return null; }
+    public Iterable<TableRow> rows() { return null; }
+    public Iterable<TableRow> rows(int[] indices) { return null; }
+    public String getString(int row, int column) { return null; }
+    public String getString(int row, String columnName) { return null; }
+    public int getInt(int row, int column) { return 0; }
+    public int getInt(int row, String columnName) { return 0; }
+    public long getLong(int row, int column) { return 0; }
+    public long getLong(int row, String columnName) { return 0; }
+    public float getFloat(int row, int column) { return 0; }
+    public float getFloat(int row, String columnName) { return 0; }
+    public double getDouble(int row, int column) { return 0; }
+    public double getDouble(int row, String columnName) { return 0; }
+    public void setString(int row, int column, String value) {}
+    public void setString(int row, String columnName, String value) {}
+    public void setInt(int row, int column, int value) {}
+    public void setInt(int row, String columnName, int value) {}
+    public void setLong(int row, int column, long value) {}
+    public void setLong(int row, String columnName, long value) {}
+    public void setFloat(int row, int column, float value) {}
+    public void setFloat(int row, String columnName, float value) {}
+    public void setDouble(int row, int column, double value) {}
+    public void setDouble(int row, String columnName, double value) {}
+    public String[] getStringColumn(String name) { return null; }
+    public String[] getStringColumn(int col) { return null; }
+    public int[] getIntColumn(String name) { return null; }
+    public int[] getIntColumn(int col) { return null; }
+    public float[] getFloatColumn(String name) { return null; }
+    public float[] getFloatColumn(int col) { return null; }
+    public TableRow findRow(String value, int column) { return null; }
+    public TableRow findRow(String value, String columnName) { return null; }
+    public Iterable<TableRow> findRows(String value, int column) { return null; }
+    public Iterable<TableRow> findRows(String value, String columnName) { return null; }
+    public TableRow matchRow(String regexp, int column) { return null; }
+    public TableRow matchRow(String regexp, String columnName) { return null; }
+    public Iterable<TableRow> matchRows(String regexp, int column) { return null; }
+    public Iterable<TableRow> matchRows(String regexp, String columnName) { return null; }
+    public void removeTokens(String tokens) {}
+    public void trim() {}
+    public void sort(String columnName) {}
+    public void sort(int column) {}
+    public void sortReverse(String columnName) {}
+    public void sortReverse(int column) {}
+    public Table copy() { return null; }
+    public void print() {}
+}
@@ -0,0 +1,30 @@
+package processing.data;
+
+/** Stub of the Processing table row, only used to compile sketches in-process */
+public interface TableRow {
+    String getString(int column);
+    String getString(String columnName);
+    int getInt(int column);
+    int getInt(String columnName);
+    long getLong(int column);
+    long getLong(String columnName);
+    float getFloat(int column);
+    float getFloat(String columnName);
+    double getDouble(int column);
+    double getDouble(String columnName);
+    void setString(int column, String value);
+    void setString(String columnName, String value);
+    void setInt(int column, int value);
+    void setInt(String columnName, int value);
+    void setLong(int column, long value);
+    void setLong(String columnName, long value);
+    void setFloat(int column, float value);
+    void setFloat(String columnName, float value);
+    void setDouble(int column, double value);
+    void setDouble(String columnName, double value);
+    int getColumnCount();
+    int getColumnType(String columnName);
+    int getColumnType(int column);
+    String getColumnTitle(int column);
+    void print();
+}
@@ -0,0 +1,41 @@
+package processing.data;
+
+/** Stub of the Processing XML element, only used to compile sketches in-process */
+public class XML implements java.io.Serializable {
+    public XML(String name) {}
+
+    public static XML parse(String data) { return null; }
+    public XML getParent() { return null; }
+    public String getName() { return null; }
+    public void setName(String newName) {}
+    public String getLocalName() { return null; }
+    public boolean hasChildren() { return false; }
+    public int getChildCount() { return 0; }
+    public String[] listChildren() { return null; }
+    public XML[] getChildren() { return null; }
+    public XML getChild(int index) { return null; }
+    public XML getChild(String name) { return null; }
+    public XML[] getChildren(String name) { return null; }
+    public XML addChild(String tag) { return null; }
+    public XML addChild(XML child) { return null; }
+    public void removeChild(XML kid) {}
+    public int getAttributeCount() { return 0; }
+    public String[] listAttributes() { return null; }
+    public boolean hasAttribute(String name) { return false; }
+    public String getString(String name) { return null; }
+    public String getString(String name, String defaultValue) { return null; }
+    public void setString(String name, String value) {}
+    public int getInt(String name) { return 0; }
+    public int getInt(String name, int defaultValue) { return 0; }
+    public void setInt(String name, int value) {}
+    public float getFloat(String name) { return 0; }
+    public float getFloat(String name, float defaultValue) { return 0; }
+    public void setFloat(String name, float value) {}
+    public double getDouble(String name) { return 0; }
+    public void setDouble(String name, double value) {}
+    public String getContent() { return null; }
+    public int getIntContent() { return 0; }
+    public float getFloatContent() { return 0; }
+    public void setContent(String text) {}
+    public String format(int indent) { return null; }
+}
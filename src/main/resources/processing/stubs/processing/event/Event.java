@@ -0,0 +1,20 @@
+package processing.event;
+
+/** Stub of the Processing input event, only used to compile sketches in-process */
+public class Event {
+    public static final int SHIFT = 1;
+    public static final int CTRL = 2;
+    public static final int META = 4;
+    public static final int ALT = 8;
+
+    public Event(Object nativeObject, long millis, int action, int modifiers) {}
+
+    public Object getNative() { return null; }
+    public long getMillis() { return 0; }
+    public int getAction() { return 0; }
+    public int getModifiers() { return 0; }
+    public boolean isShiftDown() { return false; }
+    public boolean isControlDown() { return false; }
+    public boolean isMetaDown() { return false; }
+    public boolean isAltDown() { return false; }
+}
@@ -0,0 +1,16 @@
+package processing.event;
+
+/** Stub of the Processing key event, only used to compile sketches in-process */
+public class KeyEvent extends Event {
+    public static final int PRESS = 1;
+    public static final int RELEASE = 2;
+    public static final int TYPE = 3;
+
+    public KeyEvent(Object nativeObject, long millis, int action, int modifiers, char key, int keyCode, boolean isAutoRepeat) {
+        super(nativeObject, millis, action, modifiers);
+    }
+
+    public char getKey() { return 0; }
+    public int getKeyCode() { return 0; }
+    public boolean isAutoRepeat() { return false; }
+}
@@ -0,0 +1,22 @@
+package processing.event;
+
+/** Stub of the Processing mouse event, only used to compile sketches in-process */
+public class MouseEvent extends Event {
+    public static final int PRESS = 1;
+    public static final int RELEASE = 2;
+    public static final int CLICK = 3;
+    public static final int DRAG = 4;
+    public static final int MOVE = 5;
+    public static final int ENTER = 6;
+    public static final int EXIT = 7;
+    public static final int WHEEL = 8;
+
+    public MouseEvent(Object nativeObject, long millis, int action, int modifiers, int x, int y, int button, int count) {
+        super(nativeObject, millis, action, modifiers);
+    }
+
+    public int getX() { return 0; }
+    public int getY() { return 0; }
+    public int getButton() { return 0; }
+    public int getCount() { return 0; }
+}
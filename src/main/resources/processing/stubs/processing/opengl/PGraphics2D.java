@@ -0,0 +1,6 @@
+package processing.opengl;
+
+/** Stub of the Processing 2D OpenGL renderer, only used to compile sketches in-process */
+public class PGraphics2D extends PGraphicsOpenGL {
+    public PGraphics2D() {}
+}
@@ -0,0 +1,6 @@
+package processing.opengl;
+
+/** Stub of the Processing 3D OpenGL renderer, only used to compile sketches in-process */
+public class PGraphics3D extends PGraphicsOpenGL {
+    public PGraphics3D() {}
+}
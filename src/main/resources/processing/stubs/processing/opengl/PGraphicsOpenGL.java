@@ -0,0 +1,23 @@
+package processing.opengl;
+
+import processing.core.*;
+
+/** Stub of the Processing OpenGL renderer, only used to compile sketches in-process */
+public class PGraphicsOpenGL extends PGraphics {
+    public PMatrix3D projection;
+    public PMatrix3D camera;
+    public PMatrix3D cameraInv;
+    public PMatrix3D modelview;
+    public PMatrix3D modelviewInv;
+    public PMatrix3D projmodelview;
+    public float cameraFOV;
+    public float cameraX, cameraY, cameraZ;
+    public float cameraNear, cameraFar;
+    public float cameraAspect;
+
+    public PGraphicsOpenGL() {}
+
+    public void textureSampling(int sampling) {}
+    public void setProjection(PMatrix3D mat) {}
+    public void setCamera(PMatrix3D mat) {}
+}
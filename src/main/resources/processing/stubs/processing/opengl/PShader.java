@@ -0,0 +1,46 @@
+package processing.opengl;
+
+import processing.core.*;
+
+/** Stub of the Processing GLSL shader, only used to compile sketches in-process */
+public class PShader implements PConstants {
+    public PShader() {}
+    public PShader(PApplet parent) {}
+    public PShader(PApplet parent, String vertFilename, String fragFilename) {}
+    public PShader(PApplet parent, java.net.URL vertURL, java.net.URL fragURL) {}
+    public PShader(PApplet parent, String[] vertSource, String[] fragSource) {}
+
+    public void setVertexShader(String vertFilename) {}
+    public void setVertexShader(java.net.URL vertURL) {}
+    public void setVertexShader(String[] vertSource) {}
+    public void setFragmentShader(String fragFilename) {}
+    public void setFragmentShader(java.net.URL fragURL) {}
+    public void setFragmentShader(String[] fragSource) {}
+    public void bind() {}
+    public void unbind() {}
+    public boolean bound() { return false; }
+
+    public void set(String name, int x) {}
+    public void set(String name, int x, int y) {}
+    public void set(String name, int x, int y, int z) {}
+    public void set(String name, int x, int y, int z, int w) {}
+    public void set(String name, float x) {}
+    public void set(String name, float x, float y) {}
+    public void set(String name, float x, float y, float z) {}
+    public void set(String name, float x, float y, float z, float w) {}
+    public void set(String name, PVector vec) {}
+    public void set(String name, boolean x) {}
+    public void set(String name, boolean x, boolean y) {}
+    public void set(String name, boolean x, boolean y, boolean z) {}
+    public void set(String name, boolean x, boolean y, boolean z, boolean w) {}
+    public void set(String name, int[] vec) {}
+    public void set(String name, int[] vec, int ncoords) {}
+    public void set(String name, float[] vec) {}
+    public void set(String name, float[] vec, int ncoords) {}
+    public void set(String name, boolean[] vec) {}
+    public void set(String name, boolean[] boolvec, int ncoords) {}
+    public void set(String name, PMatrix2D mat) {}
+    public void set(String name, PMatrix3D mat) {}
+    public void set(String name, PMatrix3D mat, boolean use3x3) {}
+    public void set(String name, PImage tex) {}
+}
@@ -0,0 +1,88 @@
+package nl.utwente;
+
+import nl.utwente.processing.build.BuildExecutor;
+import nl.utwente.processing.pmd.PMDRunner;
+import nl.utwente.processing.pmd.PMDRunnerPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GradingServerTest {
+
+    @TempDir
+    Path target;
+
+    @Test
+    void unzipExtractsSketch() throws IOException {
+        GradingServer.unzip(zip(2, 100), target, 1000, 10);
+        assertEquals(100, Files.size(target.resolve("Sketch/Tab1.pde")));
+    }
+
+    @Test
+    void unzipRefusesTooManyEntries() {
+        assertThrows(GradingServer.UploadTooLargeException.class,
+                () -> GradingServer.unzip(zip(11, 1), target, 1000, 10));
+    }
+
+    @Test
+    void unzipRefusesTooManyExtractedBytes() {
+        // Zeros compress very well, the sizes in the zip must not be trusted
+        assertThrows(GradingServer.UploadTooLargeException.class,
+                () -> GradingServer.unzip(zip(2, 600), target, 1000, 10));
+    }
+
+    @Test
+    void unzipRefusesEntriesOutsideTarget() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("../evil.pde"));
+            zip.closeEntry();
+        }
+        assertThrows(IOException.class, () -> GradingServer.unzip(
+                new ZipInputStream(new ByteArrayInputStream(bytes.toByteArray())), target, 1000, 10));
+    }
+
+    @Test
+    void cohortRendererIsRejected() throws Exception {
+        var builds = new BuildExecutor(1, 1000);
+        var pool = new PMDRunnerPool(new PMDRunner("rulesets/rules.xml"), 1);
+        var server = new GradingServer(pool, null, builds, 0, 0);
+        server.start();
+        try {
+            var url = new URL("http://localhost:" + server.getPort() + "/analyse?renderer=cohort&path=" + target);
+            var connection = (HttpURLConnection) url.openConnection();
+            connection.setRequestMethod("POST");
+            assertEquals(400, connection.getResponseCode());
+        } finally {
+            server.stop();
+            pool.close();
+            builds.close();
+        }
+    }
+
+    /** A zip with a sketch folder with tabs of the given size */
+    private static ZipInputStream zip(int tabs, int size) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var zip = new ZipOutputStream(bytes)) {
+            for (int i = 0; i < tabs; i++) {
+                zip.putNextEntry(new ZipEntry("Sketch/Tab" + i + ".pde"));
+                zip.write(new byte[size]);
+                zip.closeEntry();
+            }
+        }
+        return new ZipInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+}
@@ -0,0 +1,49 @@
+package nl.utwente.processing;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LruFileStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void leastRecentlyUsedEntriesAreRemovedFirst() throws IOException {
+        var store = new LruFileStore(directory, 3 * 1024, ".entry", "test cache");
+        store.put("a", out -> out.write(new byte[1024]));
+        store.put("b", out -> out.write(new byte[1024]));
+        store.put("c", out -> out.write(new byte[1024]));
+        assertEquals(Integer.valueOf(1024), store.get("a", in -> in.readAllBytes().length));
+
+        store.put("d", out -> out.write(new byte[1024]));
+        assertNull(store.get("b", in -> in.readAllBytes().length));
+        assertEquals(Integer.valueOf(1024), store.get("a", in -> in.readAllBytes().length));
+        assertEquals(1, store.getEvictions());
+        assertEquals(3, store.getEntryCount());
+        assertFalse(Files.exists(directory.resolve("b.entry")));
+    }
+
+    @Test
+    void entriesSurviveReopeningAndDamagedOnesAreRemoved() throws IOException {
+        var store = new LruFileStore(directory, 1024 * 1024, ".entry", "test cache");
+        store.put("good", out -> out.writeInt(42));
+        store.put("damaged", out -> out.writeByte(1));
+
+        var reopened = new LruFileStore(directory, 1024 * 1024, ".entry", "test cache");
+        assertEquals(2, reopened.getEntryCount());
+        assertEquals(Integer.valueOf(42), reopened.get("good", in -> in.readInt()));
+        assertNull(reopened.get("damaged", in -> in.readInt()));
+        assertEquals(1, reopened.getEntryCount());
+        assertEquals(1, reopened.getHits());
+        assertEquals(1, reopened.getMisses());
+    }
+}
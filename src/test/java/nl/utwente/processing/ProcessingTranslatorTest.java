@@ -0,0 +1,30 @@
+package nl.utwente.processing;
+
+import org.junit.jupiter.api.Test;
+
+import static nl.utwente.processing.ProcessingTranslator.END_JAVA_CODE;
+import static nl.utwente.processing.ProcessingTranslator.START_JAVA_CODE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/** Imports are moved in front of the wrapper class, without moving any other line of the sketch */
+class ProcessingTranslatorTest {
+
+    @Test
+    void importEndsAtTheSemicolonOutsideComments() {
+        assertEquals("import java.util.List  ;\n" + START_JAVA_CODE + " // one; two\nvoid setup() {\n}\n"
+                        + END_JAVA_CODE,
+                ProcessingTranslator.toJava("import java.util.List /* ; */; // one; two\nvoid setup() {\n}\n"));
+    }
+
+    @Test
+    void importOverSeveralLinesKeepsItsLineBreaks() {
+        assertEquals("import java.util     .List;\n" + START_JAVA_CODE + "\n\nvoid setup() {\n}\n" + END_JAVA_CODE,
+                ProcessingTranslator.toJava("import java.util // the list\n  .List;\nvoid setup() {\n}\n"));
+    }
+
+    @Test
+    void incompleteImportIsLeftInPlace() {
+        var code = "import java.util.List\nvoid setup() {\n  println(\"a;b\");\n}\n";
+        assertEquals(START_JAVA_CODE + code + END_JAVA_CODE, ProcessingTranslator.toJava(code));
+    }
+}
@@ -0,0 +1,425 @@
+package nl.utwente.processing;
+
+import nl.utwente.processing.pmd.symbols.ProcessingApplet;
+import nl.utwente.processing.pmd.symbols.ProcessingAppletMethod;
+import nl.utwente.processing.pmd.symbols.ProcessingAppletParameter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Generates sketches of any shape, to see how Zita copes with sketches far beyond what students usually hand in. The
+ * sketches compile, and are the same for the same shape:
+ * <ul>
+ *     <li>{@code lines}: about how many lines all tabs have together, filled up with methods with loops, or more if
+ *     the rest of the shape doesn't fit</li>
+ *     <li>{@code tabs}: the number of tabs, each with its own classes</li>
+ *     <li>{@code depth}: how deep classes are nested in the classes of the tabs</li>
+ *     <li>{@code draws}: calls to the {@link ProcessingApplet#getDRAW_METHODS() draw methods} of Processing, spread
+ *     over {@code draw} and the {@code display} methods of the classes</li>
+ *     <li>{@code handlers}: event handlers; the first nine are those of the sketch, the rest methods of the classes
+ *     with the same names that the handlers of the sketch call</li>
+ *     <li>{@code violations}: deliberate violations of the Processing rules, taking turns between hard-coded pixels
+ *     ({@code PixelHardcodeIgnoranceRule}), drawing in {@code setup} ({@code DecentralizedDrawingRule}) and mouse
+ *     state outside the event handlers ({@code DecentralizedEventHandlingRule})</li>
+ * </ul>
+ * Other rules, like those about the size of classes, flag large sketches whatever the number of deliberate
+ * violations. A shape is written like {@code lines=5000,tabs=40,depth=3}; see {@link #parse(String)}. The benchmarks
+ * use the generator from the test jar.
+ */
+public final class SketchGenerator {
+
+    private static final List<String> HANDLER_NAMES = List.of("mousePressed", "mouseReleased", "mouseClicked",
+            "mouseMoved", "mouseDragged", "mouseWheel", "keyPressed", "keyReleased", "keyTyped");
+    /** The API of Processing the sketches are built against, see {@code SketchCompiler} */
+    private static final String[] API_SOURCES = {
+            "/processing/stubs/processing/core/PApplet.java",
+            "/processing/stubs/processing/core/PGraphics.java",
+    };
+    private static final Pattern API_METHOD = Pattern.compile("public\\s+[\\w\\[\\]]+\\s+(\\w+)\\(([^)]*)\\)");
+    /**
+     * The draw methods with only numbers as parameters, which can be called with the fields of the classes. Not every
+     * overload the rules know of is part of the API, those would break the build. Pushes and pops are left out, as
+     * they come in pairs, and a pushed matrix turns off the rule about hard-coded pixels.
+     */
+    private static final List<ProcessingAppletMethod> DRAW_METHODS = drawMethods();
+    /** The draw methods with a pixel parameter, which are hard-coded for a violation */
+    private static final List<ProcessingAppletMethod> PIXEL_METHODS = DRAW_METHODS.stream()
+            .filter(method -> method.getParameters().stream().anyMatch(ProcessingAppletParameter::getPixels))
+            .collect(Collectors.toList());
+    private static final String[] PIXEL_FIELDS = {"posX", "posY", "extent"};
+    private static final int FILLER_LINES = 14;
+
+    private final int lines;
+    private final int tabs;
+    private final int depth;
+    private final int draws;
+    private final int handlers;
+    private final int violations;
+
+    public SketchGenerator(int lines, int tabs, int depth, int draws, int handlers, int violations) {
+        if (tabs < 1) {
+            throw new IllegalArgumentException("A sketch needs at least one tab, got " + tabs);
+        }
+        if (lines < 0 || depth < 0 || draws < 0 || handlers < 0 || violations < 0) {
+            throw new IllegalArgumentException("Lines, depth, draws, handlers and violations must not be negative");
+        }
+        this.lines = lines;
+        this.tabs = tabs;
+        this.depth = depth;
+        this.draws = draws;
+        this.handlers = handlers;
+        this.violations = violations;
+    }
+
+    /**
+     * Parse a shape of {@code <property>=<count>} pairs separated by commas or spaces, e.g. {@code lines=5000,tabs=40}.
+     * JMH splits parameters at commas, so shapes given to JMH use spaces. Missing properties are those of a small
+     * sketch: {@code lines=200,tabs=1,depth=0,draws=5,handlers=1,violations=0}.
+     */
+    public static SketchGenerator parse(String shape) {
+        Map<String, Integer> values = new LinkedHashMap<>();
+        values.put("lines", 200);
+        values.put("tabs", 1);
+        values.put("depth", 0);
+        values.put("draws", 5);
+        values.put("handlers", 1);
+        values.put("violations", 0);
+        for (String pair : shape.trim().split("[,\\s]+")) {
+            if (pair.isBlank()) {
+                continue;
+            }
+            String[] parts = pair.split("=", 2);
+            String key = parts[0].trim();
+            if (!values.containsKey(key) || parts.length < 2) {
+                throw new IllegalArgumentException("Invalid sketch shape " + shape + ", use " + String.join("=<count>,",
+                        values.keySet()) + "=<count>");
+            }
+            try {
+                values.put(key, Integer.parseInt(parts[1].trim()));
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid " + key + " in sketch shape " + shape, ex);
+            }
+        }
+        return new SketchGenerator(values.get("lines"), values.get("tabs"), values.get("depth"), values.get("draws"),
+                values.get("handlers"), values.get("violations"));
+    }
+
+    /** The tabs of the sketch, the main tab first and named after the sketch */
+    public List<ProcessingFile> files(String name) {
+        var classes = layOut();
+        var files = new ArrayList<ProcessingFile>();
+        for (int tab = 0; tab < tabs; tab++) {
+            String tabName = (tab == 0 ? name : "Part" + tab) + ".pde";
+            int budget = lines / tabs + (tab == 0 ? lines % tabs : 0);
+            files.add(new ProcessingFile(tabName, tabName, tab(tab, classes, budget)));
+        }
+        return files;
+    }
+
+    /** A new project of the sketch, which isn't translated yet */
+    public ProcessingProject project(String name) {
+        return new ProcessingProject(files(name));
+    }
+
+    /** Write the sketch to the folder, with the main tab named after the folder like Processing expects */
+    public void writeTo(Path folder) throws IOException {
+        Files.createDirectories(folder);
+        for (ProcessingFile file : files(folder.getFileName().toString())) {
+            Files.writeString(folder.resolve(file.getName()), file.getContent(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /** Write a sketch of the shape to each folder, e.g. {@code lines=5000,tabs=40 /tmp/Huge} */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: <shape> <sketch folder>...");
+            System.err.println("Shape: lines=<count>,tabs=<count>,depth=<count>,draws=<count>,handlers=<count>,"
+                    + "violations=<count>");
+            return;
+        }
+        var generator = parse(args[0]);
+        for (int i = 1; i < args.length; i++) {
+            generator.writeTo(Paths.get(args[i]));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "lines=" + lines + ",tabs=" + tabs + ",depth=" + depth + ",draws=" + draws + ",handlers=" + handlers
+                + ",violations=" + violations;
+    }
+
+    /** A class to generate, or the sketch itself, with what is put in it */
+    private static final class Part {
+        final String name;
+        final String path;
+        final int tab;
+        final int level;
+        final List<String> handlers = new ArrayList<>();
+        final List<String> draws = new ArrayList<>();
+        /** Statements for update, or for setup in the sketch itself */
+        final List<String> updates = new ArrayList<>();
+        Part inner;
+
+        Part(String name, String path, int tab, int level) {
+            this.name = name;
+            this.path = path;
+            this.tab = tab;
+            this.level = level;
+        }
+    }
+
+    /** The sketch itself, followed by all classes in the order of their tabs, every class before the ones it has */
+    private List<Part> layOut() {
+        var sketch = new Part(null, null, 0, 0);
+        var parts = new ArrayList<Part>();
+        parts.add(sketch);
+        int classHandlers = Math.max(0, handlers - HANDLER_NAMES.size());
+        int slots = HANDLER_NAMES.size() * tabs * (depth + 1);
+        int classesPerTab = Math.max(1, (classHandlers + slots - 1) / slots);
+        for (int tab = 0; tab < tabs; tab++) {
+            for (int i = 0; i < classesPerTab; i++) {
+                String name = "Part" + tab + (classesPerTab > 1 ? "_" + i : "");
+                var part = new Part(name, name.toLowerCase(), tab, 0);
+                parts.add(part);
+                for (int level = 1; level <= depth; level++) {
+                    part.inner = new Part(name + "Level" + level, part.path + ".inner", tab, level);
+                    part = part.inner;
+                    parts.add(part);
+                }
+            }
+        }
+        var classes = parts.subList(1, parts.size());
+
+        sketch.handlers.addAll(HANDLER_NAMES.subList(0, Math.min(handlers, HANDLER_NAMES.size())));
+        for (int i = 0; i < classHandlers; i++) {
+            classes.get(i % classes.size()).handlers.add(HANDLER_NAMES.get(i / classes.size()));
+        }
+        for (int i = 0; i < draws; i++) {
+            parts.get(i % parts.size()).draws.add(call(DRAW_METHODS.get(i % DRAW_METHODS.size()), false));
+        }
+        for (int i = 0; i < violations; i++) {
+            int turn = i / 3;
+            switch (i % 3) {
+                case 0:
+                    classes.get(turn % classes.size()).draws
+                            .add(call(PIXEL_METHODS.get(turn % PIXEL_METHODS.size()), true));
+                    break;
+                case 1:
+                    sketch.updates.add(call(DRAW_METHODS.get(turn % DRAW_METHODS.size()), false));
+                    break;
+                default:
+                    classes.get(turn % classes.size()).updates.add("posX = mouseX;");
+                    break;
+            }
+        }
+        return parts;
+    }
+
+    private String tab(int tab, List<Part> parts, int budget) {
+        var tops = parts.stream().filter(part -> part.tab == tab && part.level == 0 && part.name != null)
+                .collect(Collectors.toList());
+        int[] fillers = new int[tops.size()];
+        String text = tabText(tab, parts, tops, fillers);
+        int missing = budget - lineCount(text);
+        if (missing > 0) {
+            // Every filler takes its lines, an empty line before it and the line that calls it
+            int count = (missing + FILLER_LINES + 1) / (FILLER_LINES + 2);
+            for (int i = 0; i < count; i++) {
+                fillers[i % fillers.length]++;
+            }
+            text = tabText(tab, parts, tops, fillers);
+        }
+        return text;
+    }
+
+    private String tabText(int tab, List<Part> parts, List<Part> tops, int[] fillers) {
+        var out = new StringBuilder();
+        if (tab == 0) {
+            sketch(out, parts);
+        }
+        for (int i = 0; i < tops.size(); i++) {
+            if (out.length() > 0) {
+                out.append('\n');
+            }
+            classText(out, tops.get(i), fillers[i], "");
+        }
+        return out.toString();
+    }
+
+    private void sketch(StringBuilder out, List<Part> parts) {
+        var sketch = parts.get(0);
+        var tops = parts.stream().filter(part -> part.level == 0 && part.name != null).collect(Collectors.toList());
+        out.append("// Generated sketch: ").append(this).append("\n\n");
+        for (Part part : tops) {
+            out.append(part.name).append(' ').append(part.path).append(";\n");
+        }
+        out.append("float posX;\nfloat posY;\nfloat extent;\nfloat shade;\nint count;\n\n");
+
+        out.append("void setup() {\n  size(640, 480);\n  posX = width / 2;\n  posY = height / 2;\n")
+                .append("  extent = 20;\n  shade = 128;\n  count = 4;\n");
+        for (Part part : tops) {
+            out.append("  ").append(part.path).append(" = new ").append(part.name).append("();\n");
+        }
+        lines(out, sketch.updates, "  ");
+        out.append("}\n\nvoid draw() {\n");
+        for (Part part : tops) {
+            out.append("  ").append(part.path).append(".update();\n  ").append(part.path).append(".display();\n");
+        }
+        lines(out, sketch.draws, "  ");
+        out.append("}\n");
+
+        for (String handler : sketch.handlers) {
+            out.append("\nvoid ").append(handler).append("() {\n");
+            out.append(handler.startsWith("mouse") ? "  posX = mouseX;\n  posY = mouseY;\n" : "  count = count + 1;\n");
+            for (Part part : parts.subList(1, parts.size())) {
+                if (part.handlers.contains(handler)) {
+                    out.append("  ").append(part.path).append('.').append(handler).append("();\n");
+                }
+            }
+            out.append("}\n");
+        }
+    }
+
+    private void classText(StringBuilder out, Part part, int fillers, String indent) {
+        String in = indent + "  ";
+        out.append(indent).append("class ").append(part.name).append(" {\n");
+        out.append(in).append("float posX;\n").append(in).append("float posY;\n").append(in).append("float extent;\n")
+                .append(in).append("float shade;\n").append(in).append("int count;\n")
+                .append(in).append("boolean active;\n");
+        if (part.inner != null) {
+            out.append(in).append(part.inner.name).append(" inner;\n");
+        }
+
+        out.append('\n').append(in).append(part.name).append("() {\n");
+        lines(out, List.of("posX = width / 2;", "posY = height / 2;", "extent = 20;", "shade = 128;", "count = 4;"),
+                in + "  ");
+        if (part.inner != null) {
+            out.append(in).append("  inner = new ").append(part.inner.name).append("();\n");
+        }
+        out.append(in).append("}\n");
+
+        out.append('\n').append(in).append("void update() {\n").append(in).append("  posX = (posX + 1) % width;\n");
+        lines(out, part.updates, in + "  ");
+        for (int i = 0; i < fillers; i++) {
+            out.append(in).append("  step").append(i).append("();\n");
+        }
+        if (part.inner != null) {
+            out.append(in).append("  inner.update();\n");
+        }
+        out.append(in).append("}\n");
+
+        out.append('\n').append(in).append("void display() {\n");
+        lines(out, part.draws, in + "  ");
+        if (part.inner != null) {
+            out.append(in).append("  inner.display();\n");
+        }
+        out.append(in).append("}\n");
+
+        for (String handler : part.handlers) {
+            out.append('\n').append(in).append("void ").append(handler).append("() {\n")
+                    .append(in).append("  active = !active;\n").append(in).append("}\n");
+        }
+        for (int i = 0; i < fillers; i++) {
+            filler(out, i, in);
+        }
+        if (part.inner != null) {
+            out.append('\n');
+            classText(out, part.inner, 0, in);
+        }
+        out.append(indent).append("}\n");
+    }
+
+    /** A method of {@link #FILLER_LINES} lines, and an empty line before it */
+    private static void filler(StringBuilder out, int index, String indent) {
+        String in = indent + "  ";
+        out.append('\n').append(indent).append("void step").append(index).append("() {\n")
+                .append(in).append("int total = 0;\n")
+                .append(in).append("for (int index = 0; index < count; index++) {\n")
+                .append(in).append("  total = total + index * ").append(index % 7 + 2).append(";\n")
+                .append(in).append("  if (total > width) {\n")
+                .append(in).append("    total = total - width;\n")
+                .append(in).append("  }\n")
+                .append(in).append("}\n")
+                .append(in).append("while (total > extent) {\n")
+                .append(in).append("  total = total / 2;\n")
+                .append(in).append("}\n")
+                .append(in).append("shade = (shade + total) % 255;\n")
+                .append(in).append("posY = posY + (active ? total : -total) / 10;\n")
+                .append(indent).append("}\n");
+    }
+
+    /** A call of the draw method with fields as arguments, or with numbers for the pixels if hard-coded */
+    private static String call(ProcessingAppletMethod method, boolean hardcoded) {
+        var arguments = new ArrayList<String>();
+        var parameters = method.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            var parameter = parameters.get(i);
+            boolean isFloat = parameter.getType().equals("float");
+            if (parameter.getPixels()) {
+                String value = hardcoded ? String.valueOf(10 * (i + 1)) : PIXEL_FIELDS[i % PIXEL_FIELDS.length];
+                arguments.add(isFloat || hardcoded ? value : "(int) " + value);
+            } else {
+                arguments.add(isFloat ? "shade" : "count");
+            }
+        }
+        return method.getName() + "(" + String.join(", ", arguments) + ");";
+    }
+
+    private static List<ProcessingAppletMethod> drawMethods() {
+        var signatures = new HashSet<String>();
+        for (String source : API_SOURCES) {
+            try (InputStream in = SketchGenerator.class.getResourceAsStream(source)) {
+                if (in == null) {
+                    throw new IllegalStateException("Missing " + source + " on the class path");
+                }
+                Matcher matcher = API_METHOD.matcher(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                while (matcher.find()) {
+                    var types = Arrays.stream(matcher.group(2).split(","))
+                            .map(String::trim)
+                            .filter(parameter -> !parameter.isEmpty())
+                            .map(parameter -> parameter.split("\\s+")[0])
+                            .collect(Collectors.toList());
+                    signatures.add(matcher.group(1) + types);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return ProcessingApplet.INSTANCE.getDRAW_METHODS().stream()
+                .filter(method -> method.getParameters().stream().allMatch(SketchGenerator::isNumber))
+                .filter(method -> !method.getName().startsWith("push") && !method.getName().startsWith("pop"))
+                .filter(method -> signatures.contains(method.getName() + method.getParameters().stream()
+                        .map(ProcessingAppletParameter::getType).collect(Collectors.toList())))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isNumber(ProcessingAppletParameter parameter) {
+        return parameter.getType().equals("float") || parameter.getType().equals("int");
+    }
+
+    private static void lines(StringBuilder out, List<String> lines, String indent) {
+        for (String line : lines) {
+            out.append(indent).append(line).append('\n');
+        }
+    }
+
+    private static int lineCount(String text) {
+        return (int) text.chars().filter(c -> c == '\n').count();
+    }
+}
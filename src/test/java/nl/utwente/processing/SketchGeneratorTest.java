@@ -0,0 +1,23 @@
+package nl.utwente.processing;
+
+import nl.utwente.processing.build.SketchCompiler;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Generated sketches must build, or the build rule adds a failure to every sketch the scale tests analyse */
+class SketchGeneratorTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "lines=2000,tabs=5,depth=3,draws=40,handlers=30,violations=9"})
+    void sketchesBuild(String shape) {
+        var generator = SketchGenerator.parse(shape);
+        var project = generator.project("Generated");
+
+        var result = new SketchCompiler().compile(project);
+        assertTrue(result.isSuccess(), () -> generator + " failed to build: " + result.getErrorMessage());
+        assertEquals(generator.toString(), SketchGenerator.parse(generator.toString()).toString());
+    }
+}
@@ -0,0 +1,53 @@
+package nl.utwente.processing.build;
+
+import nl.utwente.processing.ProcessingFile;
+import nl.utwente.processing.ProcessingProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BuildCacheTest {
+
+    @TempDir
+    Path directory;
+
+    /** processing-java fails a sketch whose folder doesn't match the main tab, the in-process compiler doesn't care */
+    @Test
+    void keysOfProcessingJavaIncludeTheFolderName() throws Exception {
+        var cache = new BuildCache(directory, 1 << 20);
+        var named = sketch(Path.of("submissions", "Sketch"));
+        var misnamed = sketch(Path.of("submissions", "sketch-v2"));
+
+        var processingJava = new ProcessingJavaBuilder();
+        assertNotEquals(cache.key(named, processingJava), cache.key(misnamed, processingJava));
+        var compiler = new SketchCompiler();
+        assertEquals(cache.key(named, compiler), cache.key(misnamed, compiler));
+    }
+
+    /** Every build of the fake backend gets the next exit code of its script, also with a cache */
+    @Test
+    void fakeBuildsAreNotCached() throws Exception {
+        var cache = new BuildCache(directory, 1 << 20);
+        var project = sketch(null);
+        try (var executor = new BuildExecutor(1, 5000)) {
+            executor.setCache(cache);
+            var backend = new FakeBuildBackend(0, 0, 1);
+            assertTrue(executor.submit("first", project, backend).get(5, TimeUnit.SECONDS).isSuccess());
+            assertFalse(executor.submit("second", project, backend).get(5, TimeUnit.SECONDS).isSuccess());
+        }
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    private static ProcessingProject sketch(Path folder) {
+        return new ProcessingProject(List.of(new ProcessingFile("Sketch.pde", "Sketch.pde", "void setup() {\n}\n")),
+                folder);
+    }
+}
@@ -0,0 +1,67 @@
+package nl.utwente.processing.build;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BuildExecutorTest {
+
+    @Test
+    void buildsThatGoOnAfterTheDeadlineDontBlockTheQueue() throws Exception {
+        var hanging = new CountDownLatch(1);
+        try (var executor = new BuildExecutor(1, 100)) {
+            var first = executor.submit("hanging", timeout -> {
+                hanging.await();
+                return BuildResult.success("");
+            });
+            var second = executor.submit("quick", timeout -> BuildResult.success(""));
+
+            assertTrue(first.get(5, TimeUnit.SECONDS).isTimedOut());
+            assertTrue(second.get(5, TimeUnit.SECONDS).isSuccess());
+            assertEquals(1, executor.getAbandoned());
+            assertEquals(1, executor.getTimeouts());
+
+            hanging.countDown();
+            for (int i = 0; i < 50 && executor.getAbandoned() > 0; i++) {
+                Thread.sleep(100);
+            }
+            assertEquals(0, executor.getAbandoned());
+            assertEquals(2, executor.getBuilds());
+        }
+    }
+
+    @Test
+    void buildsWithinTheDeadlineDontTimeOut() throws Exception {
+        try (var executor = new BuildExecutor(2, 200)) {
+            for (int i = 0; i < 10; i++) {
+                assertTrue(executor.submit("quick", timeout -> BuildResult.success("")).get(5, TimeUnit.SECONDS)
+                        .isSuccess());
+            }
+            Thread.sleep(400);
+            assertEquals(0, executor.getTimeouts());
+            assertEquals(10, executor.getBuilds());
+        }
+    }
+
+    @Test
+    void queueAndBuildTimesAreMeasured() throws Exception {
+        try (var executor = new BuildExecutor(1, 5000)) {
+            var first = executor.submit("slow", timeout -> {
+                Thread.sleep(50);
+                return BuildResult.success("");
+            });
+            var second = executor.submit("queued", timeout -> BuildResult.success(""));
+
+            var slow = first.get(5, TimeUnit.SECONDS);
+            var queued = second.get(5, TimeUnit.SECONDS);
+            assertTrue(slow.getBuildNanos() >= TimeUnit.MILLISECONDS.toNanos(50), slow.getBuildNanos() + " ns");
+            assertEquals(TimeUnit.NANOSECONDS.toMillis(slow.getBuildNanos()), slow.getBuildMillis());
+            // The second build waited for the first, which only then left the queue
+            assertTrue(queued.getQueueNanos() >= TimeUnit.MILLISECONDS.toNanos(40), queued.getQueueNanos() + " ns");
+        }
+    }
+}
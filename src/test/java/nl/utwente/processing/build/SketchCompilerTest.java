@@ -0,0 +1,103 @@
+package nl.utwente.processing.build;
+
+import nl.utwente.processing.ProcessingFile;
+import nl.utwente.processing.ProcessingProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Sketches that build with Processing must build against the stub, or the build rule fails correct submissions. The
+ * sketches in src/test/resources/builds use the API like real sketches do; add a sketch there when the stub misses
+ * part of the API. Sketches that use a library can't be checked and must pass as well.
+ */
+class SketchCompilerTest {
+
+    private static final SketchCompiler COMPILER = new SketchCompiler();
+
+    static List<String> corpus() throws IOException {
+        try (Stream<Path> dirs = Files.list(root())) {
+            return dirs.map(dir -> dir.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("corpus")
+    void corpusBuilds(String name) {
+        var result = COMPILER.compile(load(root().resolve(name)));
+        assertTrue(result.isSuccess(), () -> name + " failed to build: " + result.getErrorMessage());
+        if (name.equals("library")) {
+            assertEquals("Not checked, the sketch uses processing.sound, which can only be checked with "
+                    + "processing-java", result.getOutput());
+        } else {
+            assertEquals("", result.getOutput());
+        }
+    }
+
+    @Test
+    void errorsNameTheTabAndLine() {
+        var result = COMPILER.compile(sketch("void setup() {\n  size(200, 200);\n  elipse(10, 10, 5, 5);\n}\n"));
+        assertFalse(result.isSuccess());
+        assertTrue(result.getErrorMessage().startsWith("Sketch.pde line 3: cannot find symbol"),
+                result.getErrorMessage());
+    }
+
+    @Test
+    void weakerAccessThanProcessingFails() {
+        var result = COMPILER.compile(sketch("void setup() {\n}\n\nprivate void exit() {\n}\n"));
+        assertFalse(result.isSuccess());
+        assertTrue(result.getErrorMessage().contains("weaker access"), result.getErrorMessage());
+    }
+
+    @Test
+    void missingJavaPackageFails() {
+        var result = COMPILER.compile(sketch("import java.utill.List;\n\nvoid setup() {\n}\n"));
+        assertFalse(result.isSuccess());
+        assertTrue(result.getErrorMessage().contains("package java.utill does not exist"), result.getErrorMessage());
+    }
+
+    private static ProcessingProject sketch(String code) {
+        return new ProcessingProject(List.of(new ProcessingFile("Sketch.pde", "Sketch.pde", code)));
+    }
+
+    private static Path root() {
+        try {
+            return Path.of(SketchCompilerTest.class.getResource("/builds").toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ProcessingProject load(Path folder) {
+        try (Stream<Path> files = Files.list(folder)) {
+            return new ProcessingProject(files
+                    .filter(p -> p.getFileName().toString().endsWith(".pde"))
+                    .sorted()
+                    .map(p -> new ProcessingFile(p.getFileName().toString(), p.getFileName().toString(), read(p)))
+                    .collect(Collectors.toList()), folder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String read(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package nl.utwente.processing.pmd;
+
+import net.sourceforge.pmd.Report;
+import net.sourceforge.pmd.RuleViolation;
+import net.sourceforge.pmd.renderers.AbstractIncrementingRenderer;
+import nl.utwente.renderers.SourceMappedRenderer;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The violations of every sketch of the corpus, whole and per tab, must be exactly those in src/test/resources/golden,
+ * with the tab, lines and columns students see, so a change that should only make the analysis faster can't change
+ * what students are told. When a change of the output is intended, run the test with -Dgolden.update=true to write
+ * the new output, and review the difference.
+ */
+class GoldenOutputTest {
+
+    private static final Path SOURCE = Path.of("src", "test", "resources", "golden");
+
+    static Stream<Arguments> cases() {
+        return Sketches.names().stream()
+                .flatMap(name -> Stream.of(Arguments.of(name, false), Arguments.of(name, true)));
+    }
+
+    @ParameterizedTest(name = "{0} perTab={1}")
+    @MethodSource("cases")
+    void outputMatchesGolden(String name, boolean perTab) throws IOException, PMDException {
+        var fileName = name + (perTab ? ".per-tab.txt" : ".txt");
+        var project = Sketches.load(name);
+        var output = new StringWriter();
+        var renderer = new SourceMappedRenderer(new PositionRenderer(), project);
+        renderer.setWriter(output);
+        Sketches.runner(perTab).Run(project, renderer);
+
+        if (Boolean.getBoolean("golden.update")) {
+            Files.createDirectories(SOURCE);
+            Files.writeString(SOURCE.resolve(fileName), output.toString());
+            return;
+        }
+        var golden = Sketches.root().resolveSibling("golden").resolve(fileName);
+        assertTrue(Files.exists(golden), () -> golden + " is missing, run with -Dgolden.update=true to create it");
+        assertEquals(Files.readString(golden), output.toString(), name + (perTab ? " per tab" : ""));
+    }
+
+    /** One line per violation with its full position, then the processing errors, with \n on every platform */
+    private static final class PositionRenderer extends AbstractIncrementingRenderer {
+
+        PositionRenderer() {
+            super("position", "Violations with their full position");
+        }
+
+        @Override
+        public String defaultFileExtension() {
+            return "txt";
+        }
+
+        @Override
+        public void renderFileViolations(Iterator<RuleViolation> violations) throws IOException {
+            while (violations.hasNext()) {
+                var violation = violations.next();
+                writer.write(violation.getFilename() + ":" + violation.getBeginLine() + ":"
+                        + violation.getBeginColumn() + "-" + violation.getEndLine() + ":" + violation.getEndColumn()
+                        + "\t" + violation.getRule().getName() + "\t" + violation.getDescription() + "\n");
+            }
+        }
+
+        @Override
+        public void end() throws IOException {
+            for (Report.ProcessingError error : errors) {
+                writer.write(error.getFile() + "\terror\t" + error.getMsg() + "\n");
+            }
+        }
+    }
+}
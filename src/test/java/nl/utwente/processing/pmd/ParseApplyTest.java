@@ -0,0 +1,43 @@
+package nl.utwente.processing.pmd;
+
+import net.sourceforge.pmd.Report;
+import net.sourceforge.pmd.renderers.TextRenderer;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The benchmarks parse a sketch once and apply the rules to it many times, so applying the rules to a parsed sketch
+ * must give what a run gives, every time.
+ */
+class ParseApplyTest {
+
+    @ParameterizedTest(name = "perTab={0}")
+    @ValueSource(booleans = {false, true})
+    void applyMatchesRun(boolean perTab) throws IOException {
+        for (String name : Sketches.names()) {
+            var project = Sketches.load(name);
+            var expected = Sketches.analyse(Sketches.runner(perTab), project);
+
+            var runner = Sketches.runner(perTab);
+            var sketch = runner.parse(project);
+            assertEquals(expected, render(runner.apply(sketch, EvaluationMode.FULL)), name);
+            assertEquals(expected, render(runner.apply(sketch, EvaluationMode.FULL)), name + " applied again");
+        }
+    }
+
+    private static String render(Report report) throws IOException {
+        var output = new StringWriter();
+        var renderer = new TextRenderer();
+        renderer.setWriter(output);
+        renderer.start();
+        renderer.renderFileReport(report);
+        renderer.end();
+        renderer.flush();
+        return output.toString();
+    }
+}
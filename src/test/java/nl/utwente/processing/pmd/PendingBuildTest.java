@@ -0,0 +1,32 @@
+package nl.utwente.processing.pmd;
+
+import nl.utwente.processing.build.BuildExecutor;
+import nl.utwente.processing.build.FakeBuildBackend;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The build reads the sketch folder, which the server deletes once the run returns, so no build may still be running
+ * then, also when the build rule doesn't report it because the sketch didn't parse.
+ */
+class PendingBuildTest {
+
+    @Test
+    void runWaitsForTheBuildOfASketchThatDoesntParse() {
+        var builds = new BuildExecutor(1, 10_000);
+        try {
+            var runner = Sketches.runner(false);
+            runner.setBuildExecutor(builds);
+            // Warm up, so the analysis is over long before the build of the next run
+            runner.setBuildBackend(new FakeBuildBackend(0, 0));
+            Sketches.analyse(runner, Sketches.load("syntax-error"));
+
+            runner.setBuildBackend(new FakeBuildBackend(1000, 0));
+            Sketches.analyse(runner, Sketches.load("syntax-error"));
+            assertEquals(0, builds.getRunning());
+        } finally {
+            builds.close();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package nl.utwente.processing.pmd;
+
+import nl.utwente.processing.ProcessingFile;
+import nl.utwente.processing.ProcessingProject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class PerTabTest {
+
+    /**
+     * Tabs with the same name in different folders, and a tab with the name of the Java file of the whole sketch,
+     * must each keep their own violations, at the same lines as when the tabs are analysed together.
+     */
+    @Test
+    void tabsWithTheSameNameKeepTheirViolations() {
+        var project = new ProcessingProject(List.of(
+                new ProcessingFile("Sketch.pde", "Sketch.pde", "void setup() {\n  size(100, 100);\n}\n"),
+                new ProcessingFile("a/Tab.pde", "Tab.pde", "void draw() {\n  int q = 1;\n}\n"),
+                new ProcessingFile("b/Tab.pde", "Tab.pde", "void one() {\n}\nvoid two() {\n  int r = 2;\n}\n"),
+                new ProcessingFile("Processing.pde", "Processing.pde", "void three() {\n  int s = 3;\n}\n")));
+
+        var whole = shortVariables(Sketches.analyse(Sketches.runner(false), project));
+        var perTab = shortVariables(Sketches.analyse(Sketches.runner(true), project));
+
+        assertEquals(3, whole.size(), String.join("\n", whole));
+        assertEquals(whole, perTab);
+    }
+
+    @Test
+    void parseErrorsNameTheTab() {
+        var project = new ProcessingProject(List.of(
+                new ProcessingFile("Sketch.pde", "Sketch.pde", "void setup() {\n  size(100, 100);\n}\n"),
+                new ProcessingFile("sub/Sketch.pde", "Sketch.pde", "void draw() {\n  int q = ;\n}\n")));
+
+        var output = Sketches.analyse(Sketches.runner(true), project);
+
+        assertFalse(output.lines().anyMatch(line -> line.contains("ShortVariable")), output);
+        assertEquals(1, output.lines().filter(line -> line.contains("Error while parsing sub/Sketch.pde")).count(),
+                output);
+    }
+
+    private static List<String> shortVariables(String output) {
+        return output.lines().filter(line -> line.contains("ShortVariable")).collect(Collectors.toList());
+    }
+}
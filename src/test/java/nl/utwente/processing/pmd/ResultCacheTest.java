@@ -0,0 +1,40 @@
+package nl.utwente.processing.pmd;
+
+import nl.utwente.processing.ProcessingFile;
+import nl.utwente.processing.ProcessingProject;
+import nl.utwente.processing.build.FakeBuildBackend;
+import nl.utwente.processing.build.ProcessingJavaBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/** The results include the verdict of the build, so the key covers everything the build depends on */
+class ResultCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void keysOfProcessingJavaIncludeTheFolderName() throws Exception {
+        var cache = new ResultCache(directory, 1 << 20, Sketches.RULES);
+        var backend = new ProcessingJavaBuilder();
+        assertNotEquals(cache.key(sketch(Path.of("Sketch")), false, backend, EvaluationMode.FULL),
+                cache.key(sketch(Path.of("sketch-v2")), false, backend, EvaluationMode.FULL));
+    }
+
+    @Test
+    void resultsOfFakeBuildsAreNotCached() throws Exception {
+        var cache = new ResultCache(directory, 1 << 20, Sketches.RULES);
+        assertNull(cache.key(sketch(null), false, new FakeBuildBackend(0, 0, 1), EvaluationMode.FULL));
+    }
+
+    private static ProcessingProject sketch(Path folder) {
+        return new ProcessingProject(List.of(new ProcessingFile("Sketch.pde", "Sketch.pde", "void setup() {\n}\n")),
+                folder);
+    }
+}
@@ -0,0 +1,44 @@
+package nl.utwente.processing.pmd;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A runner reuses its rule instances for every sketch, so no state of one sketch may leak into the results of the
+ * next. Every sketch is analysed by a runner that analysed all other sketches before, in both orders, and by a
+ * copy of such a runner, like the workers of batch mode get, and the results must match those of a fresh runner.
+ */
+class RuleReuseTest {
+
+    @ParameterizedTest(name = "perTab={0}")
+    @ValueSource(booleans = {false, true})
+    void warmRunnerMatchesFreshRuns(boolean perTab) {
+        var names = Sketches.names();
+        var fresh = new ArrayList<String>();
+        for (String name : names) {
+            fresh.add(Sketches.analyse(Sketches.runner(perTab), Sketches.load(name)));
+        }
+
+        var warm = Sketches.runner(perTab);
+        for (String name : names) {
+            Sketches.analyse(warm, Sketches.load(name));
+        }
+        var reversed = new ArrayList<>(names);
+        Collections.reverse(reversed);
+        for (String name : reversed) {
+            assertEquals(fresh.get(names.indexOf(name)), Sketches.analyse(warm, Sketches.load(name)),
+                    "warm runner on " + name);
+        }
+
+        var copy = new PMDRunner(warm);
+        for (String name : names) {
+            assertEquals(fresh.get(names.indexOf(name)), Sketches.analyse(copy, Sketches.load(name)),
+                    "copied runner on " + name);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package nl.utwente.processing.pmd;
+
+import nl.utwente.processing.ProcessingProject;
+import nl.utwente.processing.SketchGenerator;
+import nl.utwente.processing.build.FakeBuildBackend;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The time the rules of the bundled rule set take must grow no worse than linearly with the size of the sketch.
+ * Generates sketches of growing size, times the rules on every sketch, and fits the exponent of the growth on a log-log
+ * scale. The builds are faked, so only the analysis is timed. The test takes half a minute, so it is left out of
+ * mvn test and runs with mvn test -Pscaling, which prints the times when the test fails. Other shapes and sizes can
+ * be checked with
+ * <pre>
+ * mvn test -Pscaling -Dscaling.shape=&lt;shape&gt; -Dscaling.sizes=&lt;lines,...&gt;
+ *         -Dscaling.maxExponent=&lt;exponent&gt;
+ * </pre>
+ * The shape is that of {@link SketchGenerator#parse(String)} without the lines, which the sizes set. The maximum
+ * exponent is a bit above 1 by default, as the times of a shared machine are never exactly linear.
+ */
+@Tag("scaling")
+class ScalingTest {
+
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 7;
+
+    @Test
+    void rulesScaleLinearly() {
+        String shape = System.getProperty("scaling.shape", "draws=50,handlers=9,violations=30");
+        int[] sizes = Arrays.stream(System.getProperty("scaling.sizes", "500,1000,2000,4000,8000").split(","))
+                .mapToInt(size -> Integer.parseInt(size.trim())).toArray();
+        double maxExponent = Double.parseDouble(System.getProperty("scaling.maxExponent", "1.2"));
+
+        var runner = new PMDRunner(Sketches.RULES);
+        runner.setBuildBackend(new FakeBuildBackend(0, 0));
+
+        List<double[]> points = new ArrayList<>();
+        var table = new StringBuilder(String.format("%10s %12s%n", "lines", "rules (ms)"));
+        for (int size : sizes) {
+            var project = SketchGenerator.parse(shape + ",lines=" + size).project("Generated");
+            double millis = time(runner, project);
+            int lines = project.getProjectCode().split("\n", -1).length;
+            points.add(new double[] {lines, millis});
+            table.append(String.format("%10d %12.1f%n", lines, millis));
+        }
+        double exponent = exponent(points);
+        table.append(String.format("Time grows with lines^%.2f, at most lines^%.2f is allowed", exponent,
+                maxExponent));
+
+        assertTrue(exponent <= maxExponent, "The rules scale worse than linearly with the size of the sketch\n"
+                + table);
+    }
+
+    /** The median time of applying the rules to the parsed sketch, after warming up on it */
+    private static double time(PMDRunner runner, ProcessingProject project) {
+        var parsed = runner.parse(project);
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            runner.apply(parsed, EvaluationMode.FULL);
+        }
+        double[] times = new double[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            runner.apply(parsed, EvaluationMode.FULL);
+            times[i] = (System.nanoTime() - start) / 1e6;
+        }
+        Arrays.sort(times);
+        return times[MEASURED_RUNS / 2];
+    }
+
+    /** The slope of the least squares fit of log(time) against log(lines) */
+    private static double exponent(List<double[]> points) {
+        double sumX = 0, sumY = 0, sumXY = 0, sumXX = 0;
+        for (double[] point : points) {
+            double x = Math.log(point[0]);
+            double y = Math.log(point[1]);
+            sumX += x;
+            sumY += y;
+            sumXY += x * y;
+            sumXX += x * x;
+        }
+        int n = points.size();
+        return (n * sumXY - sumX * sumY) / (n * sumXX - sumX * sumX);
+    }
+}
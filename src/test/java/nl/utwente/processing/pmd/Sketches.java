@@ -0,0 +1,89 @@
+package nl.utwente.processing.pmd;
+
+import net.sourceforge.pmd.renderers.TextRenderer;
+import nl.utwente.processing.ProcessingFile;
+import nl.utwente.processing.ProcessingProject;
+import nl.utwente.processing.build.SketchCompiler;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/** The sketches of the test corpus, one folder per sketch in src/test/resources/sketches */
+final class Sketches {
+
+    static final String RULES = "rulesets/rules.xml";
+
+    private Sketches() {
+    }
+
+    static Path root() {
+        try {
+            return Path.of(Sketches.class.getResource("/sketches").toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** The names of all sketches, in alphabetical order */
+    static List<String> names() {
+        try (Stream<Path> dirs = Files.list(root())) {
+            return dirs.filter(Files::isDirectory)
+                    .map(dir -> dir.getFileName().toString())
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Load a sketch with its tabs in alphabetical order, so the Java code is the same on every file system */
+    static ProcessingProject load(String name) {
+        var folder = root().resolve(name);
+        try (Stream<Path> files = Files.list(folder)) {
+            return new ProcessingProject(files
+                    .filter(p -> p.getFileName().toString().endsWith(".pde"))
+                    .sorted()
+                    .map(p -> new ProcessingFile(p.getFileName().toString(), p.getFileName().toString(),
+                            read(p)))
+                    .collect(Collectors.toList()), folder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String read(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** A runner with the bundled rules that builds in-process, so the results don't depend on the machine */
+    static PMDRunner runner(boolean perTab) {
+        var runner = new PMDRunner(RULES);
+        runner.setBuildBackend(new SketchCompiler());
+        runner.setPerTab(perTab);
+        return runner;
+    }
+
+    /** Every violation and processing error of the sketch, with its position, as PMD's text renderer lists them */
+    static String analyse(PMDRunner runner, ProcessingProject project) {
+        var output = new StringWriter();
+        var renderer = new TextRenderer();
+        renderer.setWriter(output);
+        try {
+            runner.Run(project, renderer);
+        } catch (PMDException e) {
+            throw new IllegalStateException("Analysis of " + project.getFolder() + " failed", e);
+        }
+        return output.toString();
+    }
+}
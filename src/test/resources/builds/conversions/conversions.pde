@@ -0,0 +1,42 @@
+// Conversion functions, colour literals, time and threads
+color background = #1E90FF;
+color translucent = color(255, 0, 0, 128);
+String loaded = "";
+int[] numbers = { 3, 1, 2 };
+
+void setup() {
+  size(200, 200);
+  thread("load");
+  int i = int("42");
+  float f = float("3.5");
+  char c = char(66);
+  byte b = byte(200);
+  boolean flag = boolean(1);
+  String s = str(i) + str(f) + hex(255) + binary(5, 8) + unhex("FF") + unbinary("101");
+  println(s + c + b + flag);
+  numbers = sort(numbers);
+  numbers = append(numbers, 4);
+  numbers = reverse(numbers);
+  printArray(numbers);
+  println(year() + "-" + nf(month(), 2) + "-" + nf(day(), 2) + " " + hour() + ":" + minute() + ":" + second());
+  println(max(numbers) + " " + min(1.5, 2.5) + " " + abs(-3) + " " + round(2.5) + " " + floor(2.7)
+      + " " + map(5, 0, 10, 0, 100) + " " + norm(5, 0, 10) + " " + lerp(0, 10, 0.5) + " " + sq(3) + " " + sqrt(9));
+  randomSeed(1);
+  noiseSeed(2);
+  println(noise(0.5) + " " + randomGaussian() + " " + degrees(HALF_PI) + " " + radians(90));
+}
+
+void draw() {
+  background(background);
+  fill(translucent);
+  ellipse(100, 100, 50 + 10 * sin(millis() / 1000.0), 50);
+  if (!loaded.isEmpty()) {
+    text(loaded, 10, 190);
+    noLoop();
+  }
+}
+
+void load() {
+  delay(100);
+  loaded = "Loaded " + nfc(1234567) + " items";
+}
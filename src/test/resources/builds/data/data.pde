@@ -0,0 +1,50 @@
+// Reads a table, a JSON file and an XML file, and keeps score in the Processing data classes
+Table table;
+JSONObject settings;
+IntList scores = new IntList();
+FloatDict averages = new FloatDict();
+StringList names = new StringList();
+HashMap<String, Integer> counts = new HashMap<String, Integer>();
+
+void setup() {
+  size(400, 400);
+  table = loadTable("scores.csv", "header");
+  for (TableRow row : table.rows()) {
+    String name = row.getString("name");
+    int score = row.getInt("score");
+    names.append(name);
+    scores.append(score);
+    averages.add(name, score);
+    counts.put(name, counts.containsKey(name) ? counts.get(name) + 1 : 1);
+  }
+  scores.sortReverse();
+  println("Best score: " + scores.get(0) + ", players: " + join(names.array(), ", "));
+
+  settings = loadJSONObject("settings.json");
+  JSONArray levels = settings.getJSONArray("levels");
+  for (int i = 0; i < levels.size(); i++) {
+    JSONObject level = levels.getJSONObject(i);
+    println(level.getString("name") + ": " + level.getInt("speed"));
+  }
+  settings.setInt("runs", settings.getInt("runs") + 1);
+  saveJSONObject(settings, "data/settings.json");
+
+  XML xml = loadXML("shapes.xml");
+  for (XML child : xml.getChildren("circle")) {
+    println(child.getFloat("x") + ", " + child.getFloat("y"));
+  }
+
+  String[] lines = loadStrings("words.txt");
+  String[] words = splitTokens(join(lines, " "), " ,.");
+  println(words.length + " words, " + nf(averages.size(), 3) + " players");
+
+  Table output = new Table();
+  output.addColumn("name");
+  output.addColumn("count");
+  for (String name : counts.keySet()) {
+    TableRow row = output.addRow();
+    row.setString("name", name);
+    row.setInt("count", counts.get(name));
+  }
+  saveTable(output, "data/counts.csv");
+}
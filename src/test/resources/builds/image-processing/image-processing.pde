@@ -0,0 +1,45 @@
+// Edits the pixels of an image and draws a mirrored copy with an offscreen buffer
+PImage photo;
+PImage edited;
+PGraphics mirror;
+
+void setup() {
+  size(800, 400);
+  photo = loadImage("photo.jpg");
+  photo.resize(400, 0);
+  edited = createImage(photo.width, photo.height, RGB);
+  mirror = createGraphics(400, 400);
+  noLoop();
+}
+
+void draw() {
+  photo.loadPixels();
+  edited.loadPixels();
+  for (int y = 0; y < photo.height; y++) {
+    for (int x = 0; x < photo.width; x++) {
+      int index = x + y * photo.width;
+      color c = photo.pixels[index];
+      float gray = 0.3 * red(c) + 0.59 * green(c) + 0.11 * blue(c);
+      edited.pixels[index] = color(gray > 128 ? 255 : 0);
+    }
+  }
+  edited.updatePixels();
+  image(edited, 0, 0);
+
+  mirror.beginDraw();
+  mirror.pushMatrix();
+  mirror.scale(-1, 1);
+  mirror.image(photo, -mirror.width, 0);
+  mirror.popMatrix();
+  mirror.filter(GRAY);
+  mirror.endDraw();
+  image(mirror, 400, 0);
+
+  PImage corner = get(0, 0, 50, 50);
+  image(corner, width - 50, height - 50);
+  blend(photo, 0, 0, 100, 100, 400, 0, 100, 100, MULTIPLY);
+  tint(255, 0, 0, 128);
+  image(photo, 0, 0, 100, 100);
+  noTint();
+  saveFrame("output-####.png");
+}
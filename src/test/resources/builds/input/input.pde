@@ -0,0 +1,64 @@
+// Moves a square with the arrow keys and the mouse, and zooms with the wheel
+float x = 200;
+float y = 200;
+float zoom = 1;
+boolean dragging = false;
+
+void setup() {
+  size(400, 400);
+  cursor(HAND);
+}
+
+void draw() {
+  clear();
+  background(255);
+  rectMode(CENTER);
+  fill(dragging ? color(255, 0, 0) : color(0, 0, 255));
+  rect(x, y, 40 * zoom, 40 * zoom);
+}
+
+void clear() {
+  println("cleared at frame " + frameCount);
+}
+
+void keyPressed() {
+  if (key == CODED) {
+    if (keyCode == UP) {
+      y -= 10;
+    } else if (keyCode == DOWN) {
+      y += 10;
+    } else if (keyCode == LEFT) {
+      x -= 10;
+    } else if (keyCode == RIGHT) {
+      x += 10;
+    }
+  } else if (key == ' ' || key == ENTER) {
+    x = width / 2;
+    y = height / 2;
+  }
+}
+
+void mousePressed() {
+  dragging = dist(mouseX, mouseY, x, y) < 20 * zoom && mouseButton == LEFT;
+}
+
+void mouseDragged() {
+  if (dragging) {
+    x += mouseX - pmouseX;
+    y += mouseY - pmouseY;
+  }
+}
+
+void mouseReleased() {
+  dragging = false;
+}
+
+void mouseWheel(MouseEvent event) {
+  zoom = constrain(zoom - event.getCount() * 0.1, 0.5, 4);
+}
+
+void keyReleased(KeyEvent event) {
+  if (event.isShiftDown()) {
+    zoom = 1;
+  }
+}
@@ -0,0 +1,19 @@
+// Plays a sound with the Sound library, which is not part of the Processing core
+import processing.sound.*;
+
+SoundFile music;
+Amplitude level;
+
+void setup() {
+  size(400, 400);
+  music = new SoundFile(this, "music.mp3");
+  level = new Amplitude(this);
+  level.input(music);
+  music.loop();
+}
+
+void draw() {
+  background(0);
+  float diameter = map(level.analyze(), 0, 1, 10, width);
+  ellipse(width / 2, height / 2, diameter, diameter);
+}
@@ -0,0 +1,36 @@
+class Particle {
+  PVector position;
+  PVector velocity;
+  PVector acceleration;
+  float lifespan = 255;
+  color hue;
+
+  Particle(PVector origin) {
+    position = origin.copy();
+    velocity = PVector.random2D().mult(random(0.5, 2));
+    acceleration = new PVector();
+    hue = lerpColor(color(0, 80, 100), color(60, 80, 100), random(1));
+  }
+
+  void applyForce(PVector force) {
+    acceleration.add(force);
+  }
+
+  void update() {
+    velocity.add(acceleration);
+    velocity.limit(5);
+    position.add(velocity);
+    acceleration.mult(0);
+    lifespan -= 2.0;
+  }
+
+  void display() {
+    noStroke();
+    fill(hue, lifespan / 255 * 100);
+    ellipse(position.x, position.y, 8, 8);
+  }
+
+  boolean isDead() {
+    return lifespan < 0.0 || position.y > height;
+  }
+}
@@ -0,0 +1,24 @@
+// A particle system with an ArrayList of objects in a second tab
+ArrayList<Particle> particles = new ArrayList<Particle>();
+PVector gravity = new PVector(0, 0.05);
+
+void setup() {
+  size(640, 360);
+  colorMode(HSB, 360, 100, 100, 100);
+}
+
+void draw() {
+  background(0, 0, 10);
+  for (int i = 0; i < 3; i++) {
+    particles.add(new Particle(new PVector(width / 2, 50)));
+  }
+  for (int i = particles.size() - 1; i >= 0; i--) {
+    Particle p = particles.get(i);
+    p.applyForce(gravity);
+    p.update();
+    p.display();
+    if (p.isDead()) {
+      particles.remove(i);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+// A lit 3D scene with a textured shape and a camera that follows the mouse
+PShape globe;
+PImage texture;
+float angle;
+
+void setup() {
+  size(640, 360, P3D);
+  texture = loadImage("earth.jpg");
+  globe = createShape(SPHERE, 100);
+  globe.setTexture(texture);
+  globe.setStroke(false);
+  sphereDetail(30);
+  hint(ENABLE_DEPTH_SORT);
+}
+
+void draw() {
+  background(0);
+  camera(mouseX, mouseY, 400, width / 2, height / 2, 0, 0, 1, 0);
+  lights();
+  pointLight(255, 255, 255, width / 2, 0, 200);
+  angle += 0.01;
+
+  pushMatrix();
+  translate(width / 2, height / 2, 0);
+  rotateY(angle);
+  shape(globe);
+  popMatrix();
+
+  pushMatrix();
+  translate(100, 100, -100);
+  rotateX(angle);
+  rotateZ(angle / 2);
+  fill(200, 50, 50);
+  box(50);
+  popMatrix();
+
+  beginShape(QUADS);
+  texture(texture);
+  textureMode(NORMAL);
+  vertex(-50, -50, 0, 0, 0);
+  vertex(50, -50, 0, 1, 0);
+  vertex(50, 50, 0, 1, 1);
+  vertex(-50, 50, 0, 0, 1);
+  endShape();
+
+  PMatrix3D matrix = (PMatrix3D) getMatrix();
+  float sx = screenX(0, 0, 0);
+  if (frameCount == 1) {
+    println(matrix.m00 + " " + sx + " " + modelZ(0, 0, 0));
+    printMatrix();
+  }
+  ortho();
+  perspective();
+}
@@ -0,0 +1,38 @@
+// Post-processing with GLSL shaders on an offscreen buffer
+PShader blur;
+PShader tint;
+PGraphics canvas;
+boolean useShader = true;
+
+void setup() {
+  size(640, 360, P2D);
+  blur = loadShader("blur.glsl");
+  tint = loadShader("tintfrag.glsl", "tintvert.glsl");
+  blur.set("radius", 4);
+  blur.set("resolution", float(width), float(height));
+  canvas = createGraphics(width, height, P2D);
+}
+
+void draw() {
+  canvas.beginDraw();
+  canvas.background(0);
+  canvas.noStroke();
+  canvas.fill(255, 120, 0);
+  canvas.ellipse(mouseX, mouseY, 120, 120);
+  canvas.endDraw();
+
+  if (useShader) {
+    tint.set("time", millis() / 1000.0);
+    tint.set("mouse", new PVector(mouseX, mouseY));
+    shader(tint);
+  } else {
+    resetShader();
+  }
+  image(canvas, 0, 0);
+  resetShader();
+  filter(blur);
+}
+
+void mousePressed() {
+  useShader = !useShader;
+}
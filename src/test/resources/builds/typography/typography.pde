@@ -0,0 +1,30 @@
+// Lays out text with a loaded font and a font created from the system
+PFont title;
+PFont body;
+String message = "Processing sketches are built like Java programs, with a few extra rules.";
+
+void setup() {
+  size(480, 320);
+  title = createFont("Georgia", 32, true);
+  body = loadFont("Body-14.vlw");
+  String[] fonts = PFont.list();
+  println(fonts.length + " fonts installed");
+  textLeading(18);
+}
+
+void draw() {
+  background(250);
+  fill(20);
+  textFont(title);
+  textAlign(CENTER, TOP);
+  text("Typography", width / 2, 20);
+
+  textFont(body, 14);
+  textAlign(LEFT);
+  text(message, 20, 80, width - 40, 100);
+  float w = textWidth(message);
+  text("The message is " + nf(w, 0, 2) + " pixels wide", 20, 220);
+  text(char(65 + frameCount % 26), 20, 260);
+  text(frameCount, 60, 260);
+  text(PI, 120, 260);
+}
@@ -0,0 +1,41 @@
+// Sets up the window from settings() and changes it while running
+int resizes = 0;
+
+void settings() {
+  size(640, 360, P2D);
+  pixelDensity(displayDensity());
+  smooth(4);
+}
+
+void setup() {
+  surface.setTitle("Window");
+  surface.setResizable(true);
+  surface.setLocation(100, 100);
+  frameRate(30);
+}
+
+void draw() {
+  background(32);
+  fill(255);
+  text("Frame " + frameCount + ", " + width + "x" + height + ", resized " + resizes + " times", 20, 30);
+  if (frameCount % 60 == 0) {
+    surface.setTitle("Window at " + nf(frameRate, 0, 1) + " fps");
+  }
+}
+
+void windowResized() {
+  resizes++;
+}
+
+void keyPressed() {
+  if (key == 'f') {
+    surface.setSize(800, 600);
+  } else if (key == 'q') {
+    exit();
+  }
+}
+
+void exit() {
+  println("Closing after " + millis() + " ms");
+  super.exit();
+}
@@ -0,0 +1,13 @@
+class Ball {
+  float x, y;
+  Ball(float x, float y) { oops(
+    this.x = x;
+    this.y = y;
+  }
+  void display() {
+    fill(#00FF00);
+    ellipse(x, y, 10, 10);
+    count = count + 1;
+  }
+  int size() { return (x > y) ? 1 : 2; }
+}
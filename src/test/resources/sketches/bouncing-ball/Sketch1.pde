@@ -0,0 +1,37 @@
+// Based on https://nga.gov.au/artwork
+import java.util.ArrayList;
+
+Ball[] balls = new Ball[3];
+int count = 0;
+color c = #FF0000;
+
+void setup() {
+  size(400, 400);
+  for (int i = 0; i < balls.length; i++) {
+    balls[i] = new Ball(i * 10, 20);
+  }
+}
+
+void draw() {
+  background(255);
+  for (Ball b : balls) {
+    b.display();
+  }
+  ellipse(10, 10, 20, 20);
+  rect(30, 30, 40, 40);
+  int x = int(mouseX / 2.0);
+  float y = float(x) % 3;
+  String s = "int(not a cast) #notcolor";
+  count = count + 1;
+  if (x > 3 && y < 2) { count++; } else { count--; }
+}
+
+void mousePressed() {
+  if (mouseX > 10) {
+    reset();
+  }
+}
+
+void reset() {
+  count = 0;
+}
@@ -0,0 +1,12 @@
+int x = helperInit();
+void setup() { size(400, 400); }
+void draw() { background(0); shared(); ellipse(mouseX, mouseY, 10, 10); }
+void mousePressed() { onlyEvent(); shared(); }
+void keyPressed() { deeper(); }
+void onlyEvent() { if (mouseButton == LEFT) { x++; } nested(); }
+void nested() { println(mouseX); }
+void shared() { println(key); }
+void deeper() { deepest(); }
+void deepest() { println(keyCode); helperInit(); }
+int helperInit() { return mouseY; }
+class Ball { void move() { println(mouseX); } void go() { move(); } }
@@ -0,0 +1,6 @@
+class Animal { int legs; }
+class Dog extends Animal {
+  int[] bones = new int[3];
+  Dog() { this.legs = 4; }
+  int wag(int n) { int s = 0; for (int b : bones) { s += b % 2; } return n > 2 ? s : 0; }
+}
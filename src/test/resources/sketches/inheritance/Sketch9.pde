@@ -0,0 +1,3 @@
+import java.util.List;
+void setup() { size(100, 100); }
+void draw() { background(0); }
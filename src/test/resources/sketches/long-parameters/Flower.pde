@@ -0,0 +1,24 @@
+class Flower {
+  float centerX;
+  float centerY;
+  float radius;
+  int petals;
+  int red;
+  int green;
+  int blue;
+
+  Flower(float centerX, float centerY, float radius, int petals, int red, int green, int blue) {
+    this.centerX = centerX;
+    this.centerY = centerY;
+    this.radius = radius;
+    this.petals = petals;
+    this.red = red;
+    this.green = green;
+    this.blue = blue;
+  }
+
+  void display() {
+    fill(red, green, blue);
+    ellipse(centerX, centerY, radius, radius);
+  }
+}
@@ -0,0 +1,18 @@
+// Shapes drawn with long parameter lists, see https://processing.org/reference/
+Flower flower;
+
+void setup() {
+  size(400, 400);
+  flower = new Flower(200, 200, 40, 8, 255, 120, 0);
+}
+
+void draw() {
+  background(0);
+  petal(flower.centerX, flower.centerY, flower.radius, 0.5, 255, 200, 0, 180);
+  flower.display();
+}
+
+void petal(float centerX, float centerY, float radius, float angle, int red, int green, int blue, int alpha) {
+  fill(red, green, blue, alpha);
+  ellipse(centerX + cos(angle) * radius, centerY + sin(angle) * radius, radius, radius / 2);
+}
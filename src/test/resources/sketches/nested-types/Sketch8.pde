@@ -0,0 +1,17 @@
+int x = 0;
+void setup() {
+  size(200, 200);
+}
+public void draw() {
+  if (x > 1 || x < 3 && x != 2) { x = x * 2 + 1; }
+  x++;
+  Ball b = new Ball();
+}
+interface Shape {
+  Ball B = new Ball();
+  class Inner { }
+}
+class Ball {
+  void move() { --x; }
+  private int y = 3;
+}
@@ -0,0 +1,4 @@
+void helper() {
+  x += 2;
+  boolean q = x > 0 && x < 5;
+}
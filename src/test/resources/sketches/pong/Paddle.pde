@@ -0,0 +1,59 @@
+class Paddle {
+  float x;
+  float y;
+  float w = 80;
+  float h = 12;
+  int direction = 0;
+
+  Paddle(float x, float y) {
+    this.x = x;
+    this.y = y;
+  }
+
+  void setDirection(int direction) {
+    this.direction = direction;
+  }
+
+  void update() {
+    x = constrain(x + direction * 6, w / 2, width - w / 2);
+  }
+
+  void display() {
+    fill(200);
+    rectMode(CENTER);
+    rect(x, y, w, h);
+  }
+}
+
+class Brick {
+  float x;
+  float y;
+  color colour;
+  boolean alive = true;
+
+  Brick(float x, float y, color colour) {
+    this.x = x;
+    this.y = y;
+    this.colour = colour;
+  }
+
+  boolean isAlive() {
+    return alive;
+  }
+
+  boolean hits(Ball ball) {
+    return ball.x > x && ball.x < x + 50 && ball.y > y && ball.y < y + 20;
+  }
+
+  void destroy() {
+    alive = false;
+  }
+
+  void display() {
+    if (alive) {
+      fill(colour);
+      rectMode(CORNER);
+      rect(x, y, 50, 20);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+// Breakout, COMP1000 assignment
+// https://processing.org/reference/
+
+final int ROWS = 5;
+final int COLUMNS = 10;
+
+Paddle paddle;
+Ball ball;
+Brick[][] bricks = new Brick[ROWS][COLUMNS];
+int score = 0;
+int lives = 3;
+boolean running = false;
+
+void setup() {
+  size(600, 500);
+  paddle = new Paddle(width / 2, height - 30);
+  ball = new Ball(width / 2, height / 2);
+  for (int row = 0; row < ROWS; row++) {
+    for (int column = 0; column < COLUMNS; column++) {
+      bricks[row][column] = new Brick(column * 60 + 5, row * 25 + 40, color(50 * row, 120, 255 - 40 * row));
+    }
+  }
+}
+
+void draw() {
+  background(20);
+  drawScore();
+  paddle.update();
+  paddle.display();
+  if (running) {
+    ball.move();
+    ball.bounce(paddle);
+    for (Brick[] row : bricks) {
+      for (Brick brick : row) {
+        if (brick.isAlive() && brick.hits(ball)) {
+          brick.destroy();
+          ball.reverseY();
+          score += 10;
+        }
+      }
+    }
+    if (ball.isLost()) {
+      lives--;
+      running = false;
+      ball.reset(width / 2, height / 2);
+    }
+  }
+  ball.display();
+  for (int row = 0; row < ROWS; row++) {
+    for (int column = 0; column < COLUMNS; column++) {
+      bricks[row][column].display();
+    }
+  }
+  if (lives == 0) {
+    gameOver();
+  }
+}
+
+void drawScore() {
+  fill(255);
+  textSize(16);
+  text("Score: " + score, 10, 20);
+  text("Lives: " + lives, width - 80, 20);
+}
+
+void gameOver() {
+  fill(255, 0, 0);
+  textSize(32);
+  textAlign(CENTER);
+  text("GAME OVER", width / 2, height / 2);
+  noLoop();
+}
+
+void keyPressed() {
+  if (key == ' ') {
+    running = !running;
+  }
+  if (keyCode == LEFT) {
+    paddle.setDirection(-1);
+  } else if (keyCode == RIGHT) {
+    paddle.setDirection(1);
+  }
+}
+
+void keyReleased() {
+  paddle.setDirection(0);
+}
+
+void mousePressed() {
+  running = true;
+}
@@ -0,0 +1,6 @@
+void setup() {
+  size(200, 200);
+}
+void draw() {
+  line(0, 0, 100, 100);
+}
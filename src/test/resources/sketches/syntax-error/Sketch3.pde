@@ -0,0 +1,3 @@
+int a = 1;
+void setup() { size(100,100) }
+void draw() { }
@@ -0,0 +1,7 @@
+class Walker {
+  float x;
+  void step() {
+    x += random(-1, 1);
+    int bad = "text";
+  }
+}
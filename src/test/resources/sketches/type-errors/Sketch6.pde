@@ -0,0 +1,31 @@
+ArrayList<PVector> pts = new ArrayList<PVector>();
+color[] palette = { #FF0000, color(0, 255, 0), 0xFF0000FF };
+float speed = 1.5;
+PImage img;
+IntList nums = new IntList();
+HashMap<String, Integer> counts = new HashMap<String, Integer>();
+
+void setup() {
+  size(400, 400, P2D);
+  frameRate(30);
+  img = loadImage("a.png");
+  textFont(createFont("Arial", 12));
+  double d = 2.5e3;
+  int i = int(random(10));
+  float f = float("3.2");
+  String s = nf(speed, 1, 2) + str(i);
+}
+
+void draw() {
+  background(palette[frameCount % 3]);
+  PVector v = PVector.random2D().mult(speed);
+  pts.add(v);
+  float m = map(mouseX, 0, width, 0, 1);
+  fill(lerpColor(palette[0], palette[1], m));
+  ellipse(mouseX, mouseY, 20, 20);
+  if (keyPressed && key == CODED && keyCode == UP) speed += .5;
+  undefinedCall();
+}
+
+void mousePressed() { nums.append(mouseX); }
+void keyReleased() { speed = 1.0; }
@@ -0,0 +1,83 @@
+package nl.utwente.benchmarks;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/** The rule set bundled with Zita, and rule sets with only the rules of one rule class taken from it */
+final class BundledRules {
+
+    static final String RULE_SET = "rulesets/rules.xml";
+    private static final String RULE_PACKAGE = "nl.utwente.processing.pmd.rules.";
+
+    private BundledRules() {
+    }
+
+    /** The simple names of the rule classes the bundled rule set uses, in the order they first appear */
+    static List<String> ruleClasses() throws Exception {
+        Set<String> names = new LinkedHashSet<>();
+        for (Element rule : rules(read())) {
+            var className = rule.getAttribute("class");
+            if (className.startsWith(RULE_PACKAGE)) {
+                names.add(className.substring(RULE_PACKAGE.length()));
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * Write a rule set with only the rules of the rule class, with the names, messages and properties they have in
+     * the bundled rule set, and return its path.
+     */
+    static Path ruleSetOf(String ruleClass) throws Exception {
+        Document document = read();
+        boolean found = false;
+        for (Element rule : rules(document)) {
+            if (rule.getAttribute("class").equals(RULE_PACKAGE + ruleClass)) {
+                found = true;
+            } else {
+                rule.getParentNode().removeChild(rule);
+            }
+        }
+        if (!found) {
+            throw new IllegalArgumentException("The bundled rule set doesn't use " + ruleClass);
+        }
+        Path file = Files.createTempFile("zita-" + ruleClass, ".xml");
+        file.toFile().deleteOnExit();
+        TransformerFactory.newInstance().newTransformer()
+                .transform(new DOMSource(document), new StreamResult(file.toFile()));
+        return file;
+    }
+
+    private static Document read() throws Exception {
+        var factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        try (var in = BundledRules.class.getClassLoader().getResourceAsStream(RULE_SET)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing " + RULE_SET + " on the class path");
+            }
+            return factory.newDocumentBuilder().parse(in);
+        }
+    }
+
+    private static List<Element> rules(Document document) {
+        var rules = new ArrayList<Element>();
+        for (Node child = document.getDocumentElement().getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element && ((Element) child).getLocalName().equals("rule")) {
+                rules.add((Element) child);
+            }
+        }
+        return rules;
+    }
+}
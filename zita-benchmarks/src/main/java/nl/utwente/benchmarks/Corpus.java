@@ -0,0 +1,44 @@
+package nl.utwente.benchmarks;
+
+import nl.utwente.processing.ProcessingFile;
+import nl.utwente.processing.ProcessingProject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The sketches the benchmarks run on, bundled in the corpus folder of the resources. The small sketch is a first
+ * week exercise, the typical one an assignment with a few classes in three tabs, and the huge one a sketch of
+ * thousands of lines in nine tabs, well beyond what students hand in.
+ */
+public enum Corpus {
+    SMALL("small", "Small.pde"),
+    TYPICAL("typical", "Typical.pde", "Ball.pde", "Paddle.pde"),
+    HUGE("huge", "Huge.pde", "Particles.pde", "Terrain.pde", "Creatures.pde", "Weather.pde", "Interface.pde",
+            "Physics.pde", "Inventory.pde", "Levels.pde");
+
+    private final List<ProcessingFile> files = new ArrayList<>();
+
+    Corpus(String folder, String... names) {
+        for (String name : names) {
+            var resource = "/corpus/" + folder + "/" + name;
+            try (InputStream in = Corpus.class.getResourceAsStream(resource)) {
+                if (in == null) {
+                    throw new IllegalStateException("Missing corpus file " + resource);
+                }
+                files.add(new ProcessingFile(name, name, new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    /** A new project of the sketch, which isn't translated yet */
+    public ProcessingProject project() {
+        return new ProcessingProject(files);
+    }
+}
@@ -0,0 +1,54 @@
+package nl.utwente.benchmarks;
+
+import net.sourceforge.pmd.Report;
+import nl.utwente.processing.ProcessingProject;
+import nl.utwente.processing.SketchGenerator;
+import nl.utwente.processing.build.BuildBackend;
+import nl.utwente.processing.pmd.EvaluationMode;
+import nl.utwente.processing.pmd.PMDRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The parse and all rules of the bundled rule set on generated sketches of the pathological shapes that turn up every
+ * term. The build is faked, so the rules are timed and not the compiler. Other shapes can be given like {@code -p "shape=lines=20000 tabs=5"}, see
+ * {@link SketchGenerator#parse(String)}.
+ */
+@State(Scope.Benchmark)
+public class GeneratedSketchBenchmark extends ZitaBenchmark {
+
+    @Param({
+            "lines=5000",
+            "lines=5000 tabs=40",
+            "lines=5000 depth=8",
+            "lines=5000 draws=500",
+            "lines=5000 handlers=300 tabs=10",
+            "lines=5000 violations=300",
+    })
+    public String shape;
+
+    private PMDRunner runner;
+    private ProcessingProject project;
+    private PMDRunner.ParsedSketch parsed;
+
+    @Setup
+    public void setUp() {
+        runner = new PMDRunner(BundledRules.RULE_SET);
+        runner.setBuildBackend(BuildBackend.forName("fake"));
+        project = SketchGenerator.parse(shape).project("Generated");
+        parsed = runner.parse(project);
+    }
+
+    @Benchmark
+    public PMDRunner.ParsedSketch parse() {
+        return runner.parse(project);
+    }
+
+    @Benchmark
+    public Report rules() {
+        return runner.apply(parsed, EvaluationMode.FULL);
+    }
+}
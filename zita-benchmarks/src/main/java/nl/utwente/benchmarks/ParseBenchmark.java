@@ -0,0 +1,32 @@
+package nl.utwente.benchmarks;
+
+import nl.utwente.processing.ProcessingProject;
+import nl.utwente.processing.pmd.PMDRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** The PMD parse of the translated code, with the symbol table and the other facades the bundled rules need */
+@State(Scope.Benchmark)
+public class ParseBenchmark extends ZitaBenchmark {
+
+    @Param
+    public Corpus sketch;
+
+    private PMDRunner runner;
+    private ProcessingProject translated;
+
+    @Setup
+    public void setUp() {
+        runner = new PMDRunner(BundledRules.RULE_SET);
+        translated = sketch.project();
+        translated.getJavaProjectCode();
+    }
+
+    @Benchmark
+    public PMDRunner.ParsedSketch parse() {
+        return runner.parse(translated);
+    }
+}
@@ -0,0 +1,39 @@
+package nl.utwente.benchmarks;
+
+import net.sourceforge.pmd.Report;
+import nl.utwente.processing.pmd.EvaluationMode;
+import nl.utwente.processing.pmd.PMDRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Every rule class on its own, applied to a sketch that is already parsed. The rules of the class are configured as in
+ * the bundled rule set. {@link ZitaBenchmarks} runs all rule classes of the bundled rule set, pick some with
+ * {@code -p rule=HasLoopRule,GodClassRule}. The build of {@code DoesItBuildRule} runs in-process, like by default.
+ */
+@State(Scope.Benchmark)
+public class RuleBenchmark extends ZitaBenchmark {
+
+    @Param
+    public Corpus sketch;
+
+    @Param({})
+    public String rule;
+
+    private PMDRunner runner;
+    private PMDRunner.ParsedSketch parsed;
+
+    @Setup
+    public void setUp() throws Exception {
+        runner = new PMDRunner(BundledRules.ruleSetOf(rule).toString());
+        parsed = runner.parse(sketch.project());
+    }
+
+    @Benchmark
+    public Report apply() {
+        return runner.apply(parsed, EvaluationMode.FULL);
+    }
+}
@@ -0,0 +1,45 @@
+package nl.utwente.benchmarks;
+
+import nl.utwente.Runner;
+import nl.utwente.processing.build.BuildBackend;
+import nl.utwente.processing.pmd.PMDRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.StringWriter;
+
+/**
+ * A whole analysis with the bundled rule set, from the Processing files to the output of each renderer, like a
+ * submission in batch or server mode. The sketches are built with the fake backend, so the time is that of the
+ * analysis; {@link RuleBenchmark} times the in-process build on its own.
+ */
+@State(Scope.Benchmark)
+public class RunnerBenchmark extends ZitaBenchmark {
+
+    @Param
+    public Corpus sketch;
+
+    @Param({"zita", "student", "handover", "html", "json", "csv"})
+    public String renderer;
+
+    private PMDRunner runner;
+
+    @Setup
+    public void setUp() {
+        runner = new PMDRunner(BundledRules.RULE_SET);
+        runner.setBuildBackend(BuildBackend.forName("fake"));
+    }
+
+    @Benchmark
+    public String run() throws Exception {
+        var project = sketch.project();
+        var output = new StringWriter();
+        var rendererInstance = Runner.createRenderer(renderer, project, runner);
+        rendererInstance.setWriter(output);
+        runner.Run(project, rendererInstance, Runner.evaluationMode(renderer));
+        return output.toString();
+    }
+}
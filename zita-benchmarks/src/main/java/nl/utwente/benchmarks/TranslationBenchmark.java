@@ -0,0 +1,44 @@
+package nl.utwente.benchmarks;
+
+import nl.utwente.processing.LineInFile;
+import nl.utwente.processing.ProcessingProject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Translation of the Processing code to Java, and the mapping of Java lines back to the tabs */
+@State(Scope.Benchmark)
+public class TranslationBenchmark extends ZitaBenchmark {
+
+    @Param
+    public Corpus sketch;
+
+    private ProcessingProject translated;
+    private int javaLines;
+
+    @Setup
+    public void setUp() {
+        translated = sketch.project();
+        javaLines = (int) translated.getJavaProjectCode().lines().count();
+    }
+
+    /** Translate a sketch that wasn't translated before, like every submission is */
+    @Benchmark
+    public String toJava() {
+        return sketch.project().getJavaProjectCode();
+    }
+
+    /** Map every line of the Java code that comes from a tab back to its tab, like the renderers do */
+    @Benchmark
+    public void mapJavaProjectLineNumber(Blackhole blackhole) {
+        for (int line = 1; line <= javaLines; line++) {
+            if (!translated.isWrapperLine(line)) {
+                LineInFile location = translated.mapJavaProjectLineNumber(line);
+                blackhole.consume(location);
+            }
+        }
+    }
+}
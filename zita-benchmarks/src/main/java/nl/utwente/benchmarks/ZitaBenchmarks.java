@@ -0,0 +1,33 @@
+package nl.utwente.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the JMH command line options, but writes the results as JSON by default, to
+ * {@code zita-benchmarks-<version>.json}, so the results of two releases can be compared, and runs the rule
+ * benchmark for every rule class of the bundled rule set unless {@code -p rule=...} picks some.
+ */
+public final class ZitaBenchmarks {
+
+    private ZitaBenchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        var commandLine = new CommandLineOptions(args);
+        var options = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            var version = nl.utwente.Runner.class.getPackage().getImplementationVersion();
+            options.result("zita-benchmarks-" + (version == null ? "dev" : version) + ".json");
+        }
+        if (!commandLine.getParameter("rule").hasValue()) {
+            options.param("rule", BundledRules.ruleClasses().toArray(new String[0]));
+        }
+        new Runner(options.build()).run();
+    }
+}
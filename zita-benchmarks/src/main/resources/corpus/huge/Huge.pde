@@ -0,0 +1,288 @@
+// Generated world simulation, a stress test for the analysis
+// https://processing.org/reference/
+
+Particle0[] particle0s = new Particle0[20];
+Particle1[] particle1s = new Particle1[20];
+Particle2[] particle2s = new Particle2[20];
+Particle3[] particle3s = new Particle3[20];
+Terrain0[] terrain0s = new Terrain0[20];
+Terrain1[] terrain1s = new Terrain1[20];
+Terrain2[] terrain2s = new Terrain2[20];
+Terrain3[] terrain3s = new Terrain3[20];
+Creature0[] creature0s = new Creature0[20];
+Creature1[] creature1s = new Creature1[20];
+Creature2[] creature2s = new Creature2[20];
+Creature3[] creature3s = new Creature3[20];
+Weather0[] weather0s = new Weather0[20];
+Weather1[] weather1s = new Weather1[20];
+Weather2[] weather2s = new Weather2[20];
+Weather3[] weather3s = new Weather3[20];
+Interface0[] interface0s = new Interface0[20];
+Interface1[] interface1s = new Interface1[20];
+Interface2[] interface2s = new Interface2[20];
+Interface3[] interface3s = new Interface3[20];
+Physic0[] physic0s = new Physic0[20];
+Physic1[] physic1s = new Physic1[20];
+Physic2[] physic2s = new Physic2[20];
+Physic3[] physic3s = new Physic3[20];
+Inventory0[] inventory0s = new Inventory0[20];
+Inventory1[] inventory1s = new Inventory1[20];
+Inventory2[] inventory2s = new Inventory2[20];
+Inventory3[] inventory3s = new Inventory3[20];
+Level0[] level0s = new Level0[20];
+Level1[] level1s = new Level1[20];
+Level2[] level2s = new Level2[20];
+Level3[] level3s = new Level3[20];
+
+void setup() {
+  size(800, 600);
+  for (int i = 0; i < particle0s.length; i++) {
+    particle0s[i] = new Particle0(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < particle1s.length; i++) {
+    particle1s[i] = new Particle1(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < particle2s.length; i++) {
+    particle2s[i] = new Particle2(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < particle3s.length; i++) {
+    particle3s[i] = new Particle3(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < terrain0s.length; i++) {
+    terrain0s[i] = new Terrain0(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < terrain1s.length; i++) {
+    terrain1s[i] = new Terrain1(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < terrain2s.length; i++) {
+    terrain2s[i] = new Terrain2(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < terrain3s.length; i++) {
+    terrain3s[i] = new Terrain3(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < creature0s.length; i++) {
+    creature0s[i] = new Creature0(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < creature1s.length; i++) {
+    creature1s[i] = new Creature1(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < creature2s.length; i++) {
+    creature2s[i] = new Creature2(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < creature3s.length; i++) {
+    creature3s[i] = new Creature3(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < weather0s.length; i++) {
+    weather0s[i] = new Weather0(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < weather1s.length; i++) {
+    weather1s[i] = new Weather1(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < weather2s.length; i++) {
+    weather2s[i] = new Weather2(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < weather3s.length; i++) {
+    weather3s[i] = new Weather3(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < interface0s.length; i++) {
+    interface0s[i] = new Interface0(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < interface1s.length; i++) {
+    interface1s[i] = new Interface1(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < interface2s.length; i++) {
+    interface2s[i] = new Interface2(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < interface3s.length; i++) {
+    interface3s[i] = new Interface3(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < physic0s.length; i++) {
+    physic0s[i] = new Physic0(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < physic1s.length; i++) {
+    physic1s[i] = new Physic1(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < physic2s.length; i++) {
+    physic2s[i] = new Physic2(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < physic3s.length; i++) {
+    physic3s[i] = new Physic3(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < inventory0s.length; i++) {
+    inventory0s[i] = new Inventory0(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < inventory1s.length; i++) {
+    inventory1s[i] = new Inventory1(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < inventory2s.length; i++) {
+    inventory2s[i] = new Inventory2(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < inventory3s.length; i++) {
+    inventory3s[i] = new Inventory3(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < level0s.length; i++) {
+    level0s[i] = new Level0(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < level1s.length; i++) {
+    level1s[i] = new Level1(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < level2s.length; i++) {
+    level2s[i] = new Level2(random(width), random(height), random(5, 30));
+  }
+  for (int i = 0; i < level3s.length; i++) {
+    level3s[i] = new Level3(random(width), random(height), random(5, 30));
+  }
+}
+
+void draw() {
+  background(0);
+  for (Particle0 item : particle0s) {
+    item.update();
+    item.display();
+  }
+  for (Particle1 item : particle1s) {
+    item.update();
+    item.display();
+  }
+  for (Particle2 item : particle2s) {
+    item.update();
+    item.display();
+  }
+  for (Particle3 item : particle3s) {
+    item.update();
+    item.display();
+  }
+  for (Terrain0 item : terrain0s) {
+    item.update();
+    item.display();
+  }
+  for (Terrain1 item : terrain1s) {
+    item.update();
+    item.display();
+  }
+  for (Terrain2 item : terrain2s) {
+    item.update();
+    item.display();
+  }
+  for (Terrain3 item : terrain3s) {
+    item.update();
+    item.display();
+  }
+  for (Creature0 item : creature0s) {
+    item.update();
+    item.display();
+  }
+  for (Creature1 item : creature1s) {
+    item.update();
+    item.display();
+  }
+  for (Creature2 item : creature2s) {
+    item.update();
+    item.display();
+  }
+  for (Creature3 item : creature3s) {
+    item.update();
+    item.display();
+  }
+  for (Weather0 item : weather0s) {
+    item.update();
+    item.display();
+  }
+  for (Weather1 item : weather1s) {
+    item.update();
+    item.display();
+  }
+  for (Weather2 item : weather2s) {
+    item.update();
+    item.display();
+  }
+  for (Weather3 item : weather3s) {
+    item.update();
+    item.display();
+  }
+  for (Interface0 item : interface0s) {
+    item.update();
+    item.display();
+  }
+  for (Interface1 item : interface1s) {
+    item.update();
+    item.display();
+  }
+  for (Interface2 item : interface2s) {
+    item.update();
+    item.display();
+  }
+  for (Interface3 item : interface3s) {
+    item.update();
+    item.display();
+  }
+  for (Physic0 item : physic0s) {
+    item.update();
+    item.display();
+  }
+  for (Physic1 item : physic1s) {
+    item.update();
+    item.display();
+  }
+  for (Physic2 item : physic2s) {
+    item.update();
+    item.display();
+  }
+  for (Physic3 item : physic3s) {
+    item.update();
+    item.display();
+  }
+  for (Inventory0 item : inventory0s) {
+    item.update();
+    item.display();
+  }
+  for (Inventory1 item : inventory1s) {
+    item.update();
+    item.display();
+  }
+  for (Inventory2 item : inventory2s) {
+    item.update();
+    item.display();
+  }
+  for (Inventory3 item : inventory3s) {
+    item.update();
+    item.display();
+  }
+  for (Level0 item : level0s) {
+    item.update();
+    item.display();
+  }
+  for (Level1 item : level1s) {
+    item.update();
+    item.display();
+  }
+  for (Level2 item : level2s) {
+    item.update();
+    item.display();
+  }
+  for (Level3 item : level3s) {
+    item.update();
+    item.display();
+  }
+}
+
+void mousePressed() {
+  particle0s[0].x = mouseX;
+  particle0s[0].y = mouseY;
+  particle1s[0].x = mouseX;
+  particle1s[0].y = mouseY;
+  particle2s[0].x = mouseX;
+  particle2s[0].y = mouseY;
+  particle3s[0].x = mouseX;
+  particle3s[0].y = mouseY;
+  terrain0s[0].x = mouseX;
+  terrain0s[0].y = mouseY;
+  terrain1s[0].x = mouseX;
+  terrain1s[0].y = mouseY;
+}
+
+void keyPressed() {
+  if (key == 'r') {
+    setup();
+  }
+}
@@ -0,0 +1,651 @@
+class Level0 {
+  float x;
+  float y;
+  float size;
+  float speed;
+  int counter = 0;
+  float[] history = new float[50];
+  boolean active = true;
+
+  Level0(float x, float y, float size) {
+    this.x = x;
+    this.y = y;
+    this.size = size;
+    this.speed = random(1, 4);
+  }
+
+  void step0() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 1;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step1() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 3 == 0 && total > 10) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step2() {
+    pushMatrix();
+    translate(x, y);
+    fill(45, 142, 29);
+    arc(x, y, size, size, 0, PI);
+    rect(x, y, size, size);
+    popMatrix();
+  }
+
+  void step3() {
+    int steps = 0;
+    while (steps < 6) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.04) * speed;
+  }
+
+  void step4() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 5;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step5() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 7 == 0 && total > 50) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step6() {
+    pushMatrix();
+    translate(x, y);
+    fill(217, 37, 137);
+    ellipse(x, y, size, size);
+    arc(x, y, size, size, 0, PI);
+    popMatrix();
+  }
+
+  void step7() {
+    int steps = 0;
+    while (steps < 10) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.08) * speed;
+  }
+
+  void step8() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 9;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step9() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 11 == 0 && total > 90) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step10() {
+    pushMatrix();
+    translate(x, y);
+    fill(45, 133, 42);
+    point(x, y);
+    rect(x, y, size, size);
+    popMatrix();
+  }
+
+  void step11() {
+    int steps = 0;
+    while (steps < 14) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.012) * speed;
+  }
+
+  void update() {
+    step0();
+    step1();
+    step3();
+    step4();
+    step5();
+    step7();
+    step8();
+    step9();
+    step11();
+  }
+
+  void display() {
+    if (active) {
+      step2();
+      step6();
+      step10();
+    }
+  }
+}
+
+class Level1 {
+  float x;
+  float y;
+  float size;
+  float speed;
+  int counter = 0;
+  float[] history = new float[50];
+  boolean active = true;
+
+  Level1(float x, float y, float size) {
+    this.x = x;
+    this.y = y;
+    this.size = size;
+    this.speed = random(1, 4);
+  }
+
+  void step0() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 1;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step1() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 3 == 0 && total > 10) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step2() {
+    pushMatrix();
+    translate(x, y);
+    fill(34, 135, 62);
+    triangle(x, y, x + size, y, x, y + size);
+    ellipse(x, y, size, size);
+    popMatrix();
+  }
+
+  void step3() {
+    int steps = 0;
+    while (steps < 6) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.04) * speed;
+  }
+
+  void step4() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 5;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step5() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 7 == 0 && total > 50) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step6() {
+    pushMatrix();
+    translate(x, y);
+    fill(173, 213, 137);
+    point(x, y);
+    rect(x, y, size, size);
+    popMatrix();
+  }
+
+  void step7() {
+    int steps = 0;
+    while (steps < 10) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.08) * speed;
+  }
+
+  void step8() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 9;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step9() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 11 == 0 && total > 90) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step10() {
+    pushMatrix();
+    translate(x, y);
+    fill(22, 122, 56);
+    rect(x, y, size, size);
+    line(x, y, x + size, y + size);
+    popMatrix();
+  }
+
+  void step11() {
+    int steps = 0;
+    while (steps < 14) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.012) * speed;
+  }
+
+  void update() {
+    step0();
+    step1();
+    step3();
+    step4();
+    step5();
+    step7();
+    step8();
+    step9();
+    step11();
+  }
+
+  void display() {
+    if (active) {
+      step2();
+      step6();
+      step10();
+    }
+  }
+}
+
+class Level2 {
+  float x;
+  float y;
+  float size;
+  float speed;
+  int counter = 0;
+  float[] history = new float[50];
+  boolean active = true;
+
+  Level2(float x, float y, float size) {
+    this.x = x;
+    this.y = y;
+    this.size = size;
+    this.speed = random(1, 4);
+  }
+
+  void step0() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 1;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step1() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 3 == 0 && total > 10) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step2() {
+    pushMatrix();
+    translate(x, y);
+    fill(25, 92, 103);
+    line(x, y, x + size, y + size);
+    arc(x, y, size, size, 0, PI);
+    popMatrix();
+  }
+
+  void step3() {
+    int steps = 0;
+    while (steps < 6) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.04) * speed;
+  }
+
+  void step4() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 5;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step5() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 7 == 0 && total > 50) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step6() {
+    pushMatrix();
+    translate(x, y);
+    fill(156, 105, 148);
+    triangle(x, y, x + size, y, x, y + size);
+    point(x, y);
+    popMatrix();
+  }
+
+  void step7() {
+    int steps = 0;
+    while (steps < 10) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.08) * speed;
+  }
+
+  void step8() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 9;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step9() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 11 == 0 && total > 90) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step10() {
+    pushMatrix();
+    translate(x, y);
+    fill(91, 138, 177);
+    ellipse(x, y, size, size);
+    line(x, y, x + size, y + size);
+    popMatrix();
+  }
+
+  void step11() {
+    int steps = 0;
+    while (steps < 14) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.012) * speed;
+  }
+
+  void update() {
+    step0();
+    step1();
+    step3();
+    step4();
+    step5();
+    step7();
+    step8();
+    step9();
+    step11();
+  }
+
+  void display() {
+    if (active) {
+      step2();
+      step6();
+      step10();
+    }
+  }
+}
+
+class Level3 {
+  float x;
+  float y;
+  float size;
+  float speed;
+  int counter = 0;
+  float[] history = new float[50];
+  boolean active = true;
+
+  Level3(float x, float y, float size) {
+    this.x = x;
+    this.y = y;
+    this.size = size;
+    this.speed = random(1, 4);
+  }
+
+  void step0() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 1;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step1() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 3 == 0 && total > 10) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step2() {
+    pushMatrix();
+    translate(x, y);
+    fill(18, 7, 9);
+    arc(x, y, size, size, 0, PI);
+    point(x, y);
+    popMatrix();
+  }
+
+  void step3() {
+    int steps = 0;
+    while (steps < 6) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.04) * speed;
+  }
+
+  void step4() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 5;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step5() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 7 == 0 && total > 50) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step6() {
+    pushMatrix();
+    translate(x, y);
+    fill(97, 243, 125);
+    triangle(x, y, x + size, y, x, y + size);
+    ellipse(x, y, size, size);
+    popMatrix();
+  }
+
+  void step7() {
+    int steps = 0;
+    while (steps < 10) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.08) * speed;
+  }
+
+  void step8() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 9;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step9() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 11 == 0 && total > 90) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step10() {
+    pushMatrix();
+    translate(x, y);
+    fill(221, 253, 201);
+    point(x, y);
+    line(x, y, x + size, y + size);
+    popMatrix();
+  }
+
+  void step11() {
+    int steps = 0;
+    while (steps < 14) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.012) * speed;
+  }
+
+  void update() {
+    step0();
+    step1();
+    step3();
+    step4();
+    step5();
+    step7();
+    step8();
+    step9();
+    step11();
+  }
+
+  void display() {
+    if (active) {
+      step2();
+      step6();
+      step10();
+    }
+  }
+}
@@ -0,0 +1,651 @@
+class Particle0 {
+  float x;
+  float y;
+  float size;
+  float speed;
+  int counter = 0;
+  float[] history = new float[50];
+  boolean active = true;
+
+  Particle0(float x, float y, float size) {
+    this.x = x;
+    this.y = y;
+    this.size = size;
+    this.speed = random(1, 4);
+  }
+
+  void step0() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 1;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step1() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 3 == 0 && total > 10) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step2() {
+    pushMatrix();
+    translate(x, y);
+    fill(165, 77, 202);
+    arc(x, y, size, size, 0, PI);
+    ellipse(x, y, size, size);
+    popMatrix();
+  }
+
+  void step3() {
+    int steps = 0;
+    while (steps < 6) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.04) * speed;
+  }
+
+  void step4() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 5;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step5() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 7 == 0 && total > 50) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step6() {
+    pushMatrix();
+    translate(x, y);
+    fill(37, 48, 187);
+    point(x, y);
+    ellipse(x, y, size, size);
+    popMatrix();
+  }
+
+  void step7() {
+    int steps = 0;
+    while (steps < 10) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.08) * speed;
+  }
+
+  void step8() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 9;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step9() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 11 == 0 && total > 90) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step10() {
+    pushMatrix();
+    translate(x, y);
+    fill(109, 19, 44);
+    triangle(x, y, x + size, y, x, y + size);
+    triangle(x, y, x + size, y, x, y + size);
+    popMatrix();
+  }
+
+  void step11() {
+    int steps = 0;
+    while (steps < 14) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.012) * speed;
+  }
+
+  void update() {
+    step0();
+    step1();
+    step3();
+    step4();
+    step5();
+    step7();
+    step8();
+    step9();
+    step11();
+  }
+
+  void display() {
+    if (active) {
+      step2();
+      step6();
+      step10();
+    }
+  }
+}
+
+class Particle1 {
+  float x;
+  float y;
+  float size;
+  float speed;
+  int counter = 0;
+  float[] history = new float[50];
+  boolean active = true;
+
+  Particle1(float x, float y, float size) {
+    this.x = x;
+    this.y = y;
+    this.size = size;
+    this.speed = random(1, 4);
+  }
+
+  void step0() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 1;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step1() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 3 == 0 && total > 10) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step2() {
+    pushMatrix();
+    translate(x, y);
+    fill(35, 123, 46);
+    point(x, y);
+    triangle(x, y, x + size, y, x, y + size);
+    popMatrix();
+  }
+
+  void step3() {
+    int steps = 0;
+    while (steps < 6) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.04) * speed;
+  }
+
+  void step4() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 5;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step5() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 7 == 0 && total > 50) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step6() {
+    pushMatrix();
+    translate(x, y);
+    fill(30, 63, 114);
+    arc(x, y, size, size, 0, PI);
+    arc(x, y, size, size, 0, PI);
+    popMatrix();
+  }
+
+  void step7() {
+    int steps = 0;
+    while (steps < 10) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.08) * speed;
+  }
+
+  void step8() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 9;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step9() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 11 == 0 && total > 90) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step10() {
+    pushMatrix();
+    translate(x, y);
+    fill(31, 203, 25);
+    rect(x, y, size, size);
+    ellipse(x, y, size, size);
+    popMatrix();
+  }
+
+  void step11() {
+    int steps = 0;
+    while (steps < 14) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.012) * speed;
+  }
+
+  void update() {
+    step0();
+    step1();
+    step3();
+    step4();
+    step5();
+    step7();
+    step8();
+    step9();
+    step11();
+  }
+
+  void display() {
+    if (active) {
+      step2();
+      step6();
+      step10();
+    }
+  }
+}
+
+class Particle2 {
+  float x;
+  float y;
+  float size;
+  float speed;
+  int counter = 0;
+  float[] history = new float[50];
+  boolean active = true;
+
+  Particle2(float x, float y, float size) {
+    this.x = x;
+    this.y = y;
+    this.size = size;
+    this.speed = random(1, 4);
+  }
+
+  void step0() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 1;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step1() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 3 == 0 && total > 10) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step2() {
+    pushMatrix();
+    translate(x, y);
+    fill(68, 148, 214);
+    rect(x, y, size, size);
+    point(x, y);
+    popMatrix();
+  }
+
+  void step3() {
+    int steps = 0;
+    while (steps < 6) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.04) * speed;
+  }
+
+  void step4() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 5;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step5() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 7 == 0 && total > 50) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step6() {
+    pushMatrix();
+    translate(x, y);
+    fill(60, 157, 92);
+    ellipse(x, y, size, size);
+    point(x, y);
+    popMatrix();
+  }
+
+  void step7() {
+    int steps = 0;
+    while (steps < 10) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.08) * speed;
+  }
+
+  void step8() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 9;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step9() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 11 == 0 && total > 90) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step10() {
+    pushMatrix();
+    translate(x, y);
+    fill(96, 190, 49);
+    point(x, y);
+    arc(x, y, size, size, 0, PI);
+    popMatrix();
+  }
+
+  void step11() {
+    int steps = 0;
+    while (steps < 14) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.012) * speed;
+  }
+
+  void update() {
+    step0();
+    step1();
+    step3();
+    step4();
+    step5();
+    step7();
+    step8();
+    step9();
+    step11();
+  }
+
+  void display() {
+    if (active) {
+      step2();
+      step6();
+      step10();
+    }
+  }
+}
+
+class Particle3 {
+  float x;
+  float y;
+  float size;
+  float speed;
+  int counter = 0;
+  float[] history = new float[50];
+  boolean active = true;
+
+  Particle3(float x, float y, float size) {
+    this.x = x;
+    this.y = y;
+    this.size = size;
+    this.speed = random(1, 4);
+  }
+
+  void step0() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 1;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step1() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 3 == 0 && total > 10) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step2() {
+    pushMatrix();
+    translate(x, y);
+    fill(32, 30, 105);
+    triangle(x, y, x + size, y, x, y + size);
+    arc(x, y, size, size, 0, PI);
+    popMatrix();
+  }
+
+  void step3() {
+    int steps = 0;
+    while (steps < 6) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.04) * speed;
+  }
+
+  void step4() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 5;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step5() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 7 == 0 && total > 50) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step6() {
+    pushMatrix();
+    translate(x, y);
+    fill(218, 160, 238);
+    point(x, y);
+    triangle(x, y, x + size, y, x, y + size);
+    popMatrix();
+  }
+
+  void step7() {
+    int steps = 0;
+    while (steps < 10) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.08) * speed;
+  }
+
+  void step8() {
+    for (int i = 0; i < history.length - 1; i++) {
+      history[i] = history[i + 1];
+    }
+    history[history.length - 1] = y;
+    x = x + speed * 9;
+    if (x > width || x < 0) {
+      speed = -speed;
+    }
+  }
+
+  void step9() {
+    float total = 0;
+    for (float value : history) {
+      total += value;
+    }
+    counter++;
+    if (counter % 11 == 0 && total > 90) {
+      active = !active;
+    } else if (counter > 1000) {
+      counter = 0;
+    }
+  }
+
+  void step10() {
+    pushMatrix();
+    translate(x, y);
+    fill(185, 153, 127);
+    rect(x, y, size, size);
+    arc(x, y, size, size, 0, PI);
+    popMatrix();
+  }
+
+  void step11() {
+    int steps = 0;
+    while (steps < 14) {
+      size = size + (steps % 2 == 0 ? 0.5 : -0.5);
+      steps++;
+    }
+    y = y + sin(frameCount * 0.012) * speed;
+  }
+
+  void update() {
+    step0();
+    step1();
+    step3();
+    step4();
+    step5();
+    step7();
+    step8();
+    step9();
+    step11();
+  }
+
+  void display() {
+    if (active) {
+      step2();
+      step6();
+      step10();
+    }
+  }
+}
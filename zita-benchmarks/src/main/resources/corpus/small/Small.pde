@@ -0,0 +1,19 @@
+// Bouncing circle
+// https://processing.org/reference/
+
+float x = 100;
+float speed = 2.5;
+
+void setup() {
+  size(400, 400);
+}
+
+void draw() {
+  background(255);
+  fill(200, 0, 0);
+  ellipse(x, height / 2, 40, 40);
+  x = x + speed;
+  if (x > width - 20 || x < 20) {
+    speed = -speed;
+  }
+}
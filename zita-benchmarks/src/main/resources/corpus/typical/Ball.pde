@@ -0,0 +1,51 @@
+class Ball {
+  float x;
+  float y;
+  float speedX = 3;
+  float speedY = -4;
+  float radius = 8;
+
+  Ball(float x, float y) {
+    this.x = x;
+    this.y = y;
+  }
+
+  void move() {
+    x += speedX;
+    y += speedY;
+    if (x < radius || x > width - radius) {
+      speedX = -speedX;
+    }
+    if (y < radius) {
+      speedY = -speedY;
+    }
+  }
+
+  void bounce(Paddle paddle) {
+    if (y + radius > paddle.y && x > paddle.x - paddle.w / 2 && x < paddle.x + paddle.w / 2) {
+      speedY = -abs(speedY);
+      speedX = (x - paddle.x) / 10;
+    }
+  }
+
+  void reverseY() {
+    speedY = -speedY;
+  }
+
+  boolean isLost() {
+    return y > height + radius;
+  }
+
+  void reset(float x, float y) {
+    this.x = x;
+    this.y = y;
+    speedX = 3;
+    speedY = -4;
+  }
+
+  void display() {
+    noStroke();
+    fill(255, 255, 0);
+    ellipse(x, y, radius * 2, radius * 2);
+  }
+}